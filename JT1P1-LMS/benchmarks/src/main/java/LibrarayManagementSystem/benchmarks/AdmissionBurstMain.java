@@ -0,0 +1,269 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.admission.AdmissionController;
+import LibrarayManagementSystem.admission.Lane;
+import LibrarayManagementSystem.exception.AdmissionRejectedException;
+import LibrarayManagementSystem.metrics.LatencyHistogram;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.AsyncLibraryService;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.LoanStatus;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AdmissionBurstMain - Checkout burst with and without AdmissionController
+ *
+ * USAGE:
+ * ------
+ *     java -cp benchmarks/target/benchmarks.jar LibrarayManagementSystem.benchmarks.AdmissionBurstMain [options]
+ *
+ *     --mode M         none | admission | both             (default both)
+ *     --books N        catalog size                        (default 100000)
+ *     --members N      registered members                  (default 10000)
+ *     --clients C      client/branch keys                  (default 50)
+ *     --rate R         offered requests per second         (default 8000)
+ *     --seconds S      length of the burst                 (default 5)
+ *     --workers W      worker threads in both modes        (default 2)
+ *     --queue Q        admission queue capacity            (default 1024)
+ *     --client-rate X  tokens per second per client        (default 200)
+ *
+ * THE BURST:
+ * ----------
+ * Open loop: requests are sent on schedule whether or not earlier ones are
+ * done, and latency counts from the scheduled send time. Mix is 25% returns,
+ * 25% issues, 49% title searches, 1% full library stats. Five "hot" clients
+ * send half of all traffic (one branch's self-service kiosks gone wild).
+ *
+ * MODES:
+ * ------
+ * - none:      AsyncLibraryService on a fixed pool, unbounded queue
+ * - admission: AdmissionController with the same number of workers
+ *
+ * Prints per-lane p50/p99/max of COMPLETED requests and how many were
+ * rejected (by reason) - the question is whether returns stay fast.
+ */
+public class AdmissionBurstMain {
+
+    private static final int HOT_CLIENTS = 5;
+    private static final int DRAIN_LIMIT_SECONDS = 30;
+
+    private static int bookCount = 100_000;
+    private static int memberCount = 10_000;
+    private static int clients = 50;
+    private static int rate = 8_000;
+    private static int seconds = 5;
+    private static int workers = 2;
+    private static int queueCapacity = AdmissionController.DEFAULT_QUEUE_CAPACITY;
+    private static int clientRate = 200;
+
+    public static void main(String[] args) throws Exception {
+        String mode = "both";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode":
+                    mode = args[++i];
+                    break;
+                case "--books":
+                    bookCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--members":
+                    memberCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--clients":
+                    clients = Integer.parseInt(args[++i]);
+                    break;
+                case "--rate":
+                    rate = Integer.parseInt(args[++i]);
+                    break;
+                case "--seconds":
+                    seconds = Integer.parseInt(args[++i]);
+                    break;
+                case "--workers":
+                    workers = Integer.parseInt(args[++i]);
+                    break;
+                case "--queue":
+                    queueCapacity = Integer.parseInt(args[++i]);
+                    break;
+                case "--client-rate":
+                    clientRate = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        PrintStream out = System.out;
+        out.printf("burst: %,d req/s for %d s, %d clients (%d hot), %d workers%n",
+                rate, seconds, clients, HOT_CLIENTS, workers);
+        if (!mode.equals("admission")) {
+            run(false, out);
+        }
+        if (!mode.equals("none")) {
+            run(true, out);
+        }
+    }
+
+    /**
+     * The two modes behind one call shape
+     */
+    private interface Target {
+        CompletableFuture<?> send(Lane lane, String client, long bookId, long memberId, String word);
+    }
+
+    private static void run(boolean admission, PrintStream out) throws Exception {
+        BenchmarkSupport.silenceStdout();  // Every issue/return logs a line
+        String dataDir = BenchmarkSupport.tempDataDir();
+        ExecutorService pool = null;
+        AdmissionController controller = null;
+        try {
+            FileRepository repository = new FileRepository(dataDir);
+            BookService.persistIdsTo(repository);
+            MemberService.persistIdsTo(repository);
+            BookService bookService = new BookService(repository);
+            MemberService memberService = new MemberService(repository);
+            LibraryService libraryService = new LibraryService(bookService, memberService);
+            CatalogGenerator generator = new CatalogGenerator();
+            long[] bookIds = CatalogGenerator.fill(bookService, generator.books(bookCount));
+            long[] memberIds = CatalogGenerator.fill(memberService, generator.members(memberCount));
+
+            Target target;
+            if (admission) {
+                controller = new AdmissionController(libraryService, workers);
+                controller.setRateLimit(clientRate, clientRate);
+                controller.setQueueCapacity(queueCapacity);
+                controller.start();
+                AdmissionController c = controller;
+                target = (lane, client, bookId, memberId, word) -> {
+                    switch (lane) {
+                        case RETURN:
+                            return c.returnBook(client, bookId, memberId);
+                        case ISSUE:
+                            return c.issueBook(client, bookId, memberId);
+                        default:
+                            return word == null ? c.stats(client) : c.searchByTitle(client, word);
+                    }
+                };
+            } else {
+                pool = Executors.newFixedThreadPool(workers);
+                AsyncLibraryService async = new AsyncLibraryService(libraryService, pool);
+                target = (lane, client, bookId, memberId, word) -> {
+                    switch (lane) {
+                        case RETURN:
+                            return async.returnBook(bookId, memberId);
+                        case ISSUE:
+                            return async.issueIfAvailable(bookId, memberId);
+                        default:
+                            return word == null ? async.stats() : async.findBooksByTitle(word);
+                    }
+                };
+            }
+
+            Lane[] lanes = Lane.values();
+            LatencyHistogram[] latency = new LatencyHistogram[lanes.length];
+            for (int i = 0; i < lanes.length; i++) {
+                latency[i] = new LatencyHistogram();
+            }
+            long[] sent = new long[lanes.length];
+            AtomicLongArray rejected = new AtomicLongArray(
+                    lanes.length * AdmissionRejectedException.Reason.values().length);
+            LongAdder pending = new LongAdder();
+            ConcurrentLinkedQueue<long[]> loans = new ConcurrentLinkedQueue<>();
+
+            SplittableRandom random = new SplittableRandom(CatalogGenerator.DEFAULT_SEED);
+            long intervalNanos = 1_000_000_000L / rate;
+            long start = System.nanoTime();
+            long deadline = start + seconds * 1_000_000_000L;
+            long next = start;
+            while (next < deadline) {
+                int dice = random.nextInt(100);
+                Lane lane = dice < 25 ? Lane.RETURN : dice < 50 ? Lane.ISSUE : Lane.SEARCH;
+                String client = "branch-" + (random.nextBoolean()
+                        ? random.nextInt(HOT_CLIENTS)
+                        : HOT_CLIENTS + random.nextInt(clients - HOT_CLIENTS));
+                long bookId = bookIds[random.nextInt(bookIds.length)];
+                long memberId = memberIds[random.nextInt(memberIds.length)];
+                if (lane == Lane.RETURN) {
+                    long[] loan = loans.poll();  // Return something that was really issued
+                    if (loan != null) {
+                        bookId = loan[0];
+                        memberId = loan[1];
+                    }
+                }
+                String word = lane == Lane.SEARCH && dice >= 99 ? null : generator.searchWord();
+
+                while (System.nanoTime() < next) {
+                    Thread.onSpinWait();
+                }
+                long scheduled = next;
+                int laneIndex = lane.ordinal();
+                long issuedBook = bookId;
+                long issuedTo = memberId;
+                sent[laneIndex]++;
+                pending.increment();
+                target.send(lane, client, bookId, memberId, word).whenComplete((value, error) -> {
+                    if (error == null) {
+                        latency[laneIndex].record(System.nanoTime() - scheduled);
+                        if (value == LoanStatus.ISSUED) {
+                            loans.add(new long[]{issuedBook, issuedTo});
+                        }
+                    } else {
+                        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                        if (cause instanceof AdmissionRejectedException) {
+                            AdmissionRejectedException.Reason reason = ((AdmissionRejectedException) cause).getReason();
+                            rejected.incrementAndGet(laneIndex * AdmissionRejectedException.Reason.values().length
+                                    + reason.ordinal());
+                        }
+                    }
+                    pending.decrement();
+                });
+                next += intervalNanos;
+            }
+            long drainStart = System.nanoTime();
+            long drainDeadline = drainStart + DRAIN_LIMIT_SECONDS * 1_000_000_000L;
+            while (pending.sum() > 0 && System.nanoTime() < drainDeadline) {
+                Thread.sleep(10);
+            }
+            double drainSeconds = (System.nanoTime() - drainStart) / 1e9;
+
+            out.printf("%n== %s == (%s %.2f s after the burst)%n", admission ? "admission" : "none",
+                    pending.sum() == 0 ? "drained the backlog" : "gave up with " + pending.sum() + " pending",
+                    drainSeconds);
+            out.println("lane      sent     done   rate-lim  q-full   shed  expired   p50 ms    p99 ms    max ms");
+            AdmissionRejectedException.Reason[] reasons = AdmissionRejectedException.Reason.values();
+            for (Lane lane : lanes) {
+                int i = lane.ordinal();
+                LatencyHistogram h = latency[i];
+                out.printf("%-7s %7d %8d %9d %7d %6d %8d %9.2f %9.2f %9.2f%n", lane, sent[i], h.getCount(),
+                        rejected.get(i * reasons.length + AdmissionRejectedException.Reason.RATE_LIMITED.ordinal()),
+                        rejected.get(i * reasons.length + AdmissionRejectedException.Reason.QUEUE_FULL.ordinal()),
+                        rejected.get(i * reasons.length + AdmissionRejectedException.Reason.SHED.ordinal()),
+                        rejected.get(i * reasons.length + AdmissionRejectedException.Reason.EXPIRED.ordinal()),
+                        h.percentile(50.0) / 1e6, h.percentile(99.0) / 1e6, h.getMax() / 1e6);
+            }
+            if (controller != null) {
+                out.printf("max queue depth %d of %d, queue wait p99 %.2f ms%n", controller.getMaxQueueDepth(),
+                        queueCapacity, controller.getQueueWaitP99Micros() / 1_000.0);
+            }
+        } finally {
+            if (controller != null) {
+                controller.close();
+            }
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            BenchmarkSupport.deleteDir(dataDir);
+            BenchmarkSupport.restoreStdout();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.analytics.CatalogAnalytics;
+import LibrarayManagementSystem.analytics.CatalogReport;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * CatalogAnalytics (one fork/join pass, ID-indexed arrays) vs one stream
+ * scan per question with String-keyed groupingBy
+ *
+ * records = books; members = records / 10, each holding 0-6 loans.
+ * 10M records needs ~3 GB of heap, hence -Xmx4g.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class AnalyticsBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int records;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private String dataDir;
+    private BookService bookService;
+    private MemberService memberService;
+    private ForkJoinPool pool;
+    private CatalogAnalytics analytics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        FileRepository repository = new FileRepository(dataDir);
+        bookService = new BookService(repository);
+        memberService = new MemberService(repository);
+
+        CatalogGenerator generator = new CatalogGenerator();
+        long[] bookIds = CatalogGenerator.fill(bookService, generator.books(records));
+        List<Member> members = generator.members(records / 10);
+        SplittableRandom random = new SplittableRandom(7);
+        for (Member member : members) {
+            int loans = random.nextInt(7);
+            for (int i = 0; i < loans; i++) {
+                member.addBorrowedBook(bookIds[random.nextInt(bookIds.length)]);
+            }
+        }
+        CatalogGenerator.fill(memberService, members);
+
+        pool = new ForkJoinPool(parallelism);
+        analytics = new CatalogAnalytics(bookService, memberService, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public CatalogReport singlePass() {
+        return analytics.run();
+    }
+
+    @Benchmark
+    public List<Object> separateScans() {
+        List<Object> results = new ArrayList<>();
+        results.add(bookService.getAvailableBooksCount());
+        results.add(bookService.getBooks().values().stream()
+                .collect(Collectors.groupingBy(Book::getBookPublisher, Collectors.counting())));
+        Map<String, Integer> copies = bookService.getBooks().values().stream()
+                .collect(Collectors.groupingBy(Book::getBookAuthor, Collectors.summingInt(Book::getBookCopiesTotal)));
+        Map<String, Integer> available = bookService.getBooks().values().stream()
+                .collect(Collectors.groupingBy(Book::getBookAuthor, Collectors.summingInt(Book::getBookCopiesAvailable)));
+        results.add(copies.keySet().stream()
+                .collect(Collectors.toMap(author -> author, author -> (double) available.get(author) / copies.get(author))));
+        results.add(memberService.getAllMembers().stream()
+                .collect(Collectors.groupingBy(m -> Math.min(m.getBorrowedBooksCount(), 5), Collectors.counting())));
+        return results;
+    }
+}
@@ -0,0 +1,121 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.AsyncLibraryService;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.LoanStatus;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AsyncLibraryService latency with 8 concurrent clients (SampleTime → p50/p99)
+ *
+ * pipeline:   issueIfAvailable, then returnBook if ISSUED (so the catalog stays the same)
+ * readMostly: checkIssue and findBook started together, joined together
+ *
+ * executor: caller = Runnable::run (no hand-off), fixed4 = 4 platform
+ * threads, forkjoin = a ForkJoinPool in async mode. On Java 21 a virtual
+ * thread per task executor can be passed the same way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AsyncLibraryBenchmark {
+
+    @Param({"caller", "fixed4", "forkjoin"})
+    public String executor;
+
+    private String dataDir;
+    private ExecutorService pool;
+    private AsyncLibraryService async;
+    private long[] bookIds;
+    private long[] memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        FileRepository repository = new FileRepository(dataDir);
+        BookService bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        CatalogGenerator generator = new CatalogGenerator();
+        bookIds = CatalogGenerator.fill(bookService, generator.books(100_000));
+        memberIds = CatalogGenerator.fill(memberService, generator.members(10_000));
+
+        Executor chosen;
+        switch (executor) {
+            case "caller":
+                chosen = Runnable::run;
+                break;
+            case "fixed4":
+                pool = Executors.newFixedThreadPool(4);
+                chosen = pool;
+                break;
+            case "forkjoin":
+                pool = new ForkJoinPool(4, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+                chosen = pool;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + executor);
+        }
+        async = new AsyncLibraryService(new LibraryService(bookService, memberService), chosen);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public LoanStatus pipeline() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long bookId = bookIds[random.nextInt(bookIds.length)];
+        long memberId = memberIds[random.nextInt(memberIds.length)];
+        return async.issueIfAvailable(bookId, memberId)
+                .thenCompose(status -> status == LoanStatus.ISSUED
+                        ? async.returnBook(bookId, memberId)
+                        : CompletableFuture.completedFuture(status))
+                .join();
+    }
+
+    @Benchmark
+    public Optional<Book> readMostly() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long bookId = bookIds[random.nextInt(bookIds.length)];
+        CompletableFuture<LoanStatus> check = async.checkIssue(bookId, memberIds[random.nextInt(memberIds.length)]);
+        CompletableFuture<Optional<Book>> book = async.findBook(bookId);
+        return check.thenCombine(book, (status, found) -> found).join();
+    }
+}
@@ -0,0 +1,111 @@
+package LibrarayManagementSystem.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BaselineComparison - Compare a JMH CSV result file against the baseline
+ *
+ * USAGE:
+ * ------
+ *     java -cp benchmarks/target/benchmarks.jar \
+ *         LibrarayManagementSystem.benchmarks.BaselineComparison \
+ *         benchmarks/baseline/results.csv results.csv
+ *
+ * Prints every benchmark present in both files with the relative change.
+ * "better" accounts for the mode: lower is better for avgt, higher for thrpt.
+ */
+public class BaselineComparison {
+
+    private static final class Row {
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        Row(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BaselineComparison <baseline.csv> <current.csv>");
+            System.exit(1);
+        }
+        Map<String, Row> baseline = read(Path.of(args[0]));
+        Map<String, Row> current = read(Path.of(args[1]));
+
+        System.out.printf("%-75s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Row> entry : current.entrySet()) {
+            Row before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Row after = entry.getValue();
+            double change = (after.score - before.score) / before.score * 100.0;
+            boolean lowerIsBetter = !after.mode.equals("thrpt");
+            boolean noise = Math.abs(after.score - before.score) <= Math.max(before.error, after.error);
+            String verdict = noise ? "~" : ((change < 0) == lowerIsBetter ? "better" : "worse");
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%% %s %s%n",
+                    entry.getKey(), before.score, after.score, change, after.unit, verdict);
+        }
+    }
+
+    /**
+     * Key = benchmark name + params, e.g. "BookLookupBenchmark.findBookById [1000]"
+     */
+    private static Map<String, Row> read(Path file) throws IOException {
+        Map<String, Row> rows = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 1; i < lines.size(); i++) {
+            List<String> cols = splitCsv(lines.get(i));
+            if (cols.size() < 7) {
+                continue;
+            }
+            String name = cols.get(0).substring(cols.get(0).lastIndexOf('.', cols.get(0).lastIndexOf('.') - 1) + 1);
+            StringBuilder key = new StringBuilder(name);
+            List<String> params = cols.subList(7, cols.size());
+            if (!String.join("", params).isEmpty()) {
+                key.append(" ").append(params);
+            }
+            rows.put(key.toString(), new Row(cols.get(1), parse(cols.get(4)), parse(cols.get(5)), cols.get(6)));
+        }
+        return rows;
+    }
+
+    private static double parse(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                cols.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        cols.add(current.toString());
+        return cols;
+    }
+}
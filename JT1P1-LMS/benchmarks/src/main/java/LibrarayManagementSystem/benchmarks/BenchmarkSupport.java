@@ -0,0 +1,55 @@
+package LibrarayManagementSystem.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * Shared helpers for benchmark setup/teardown
+ */
+final class BenchmarkSupport {
+
+    private static PrintStream originalOut;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Services print on every call; inside a benchmark fork that output is
+     * piped back to the JMH console. Send it nowhere instead.
+     */
+    static synchronized void silenceStdout() {
+        if (originalOut == null) {
+            originalOut = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    static synchronized void restoreStdout() {
+        if (originalOut != null) {
+            System.setOut(originalOut);
+            originalOut = null;
+        }
+    }
+
+    static String tempDataDir() {
+        try {
+            return Files.createTempDirectory("lms-bench").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void deleteDir(String dir) {
+        File[] files = new File(dir).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        new File(dir).delete();
+    }
+}
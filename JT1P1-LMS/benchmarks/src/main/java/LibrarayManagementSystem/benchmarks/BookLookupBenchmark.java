@@ -0,0 +1,83 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.exception.BookNotFoundException;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookService read paths: lookup by ID, search by title / author
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookLookupBenchmark {
+
+    @Param({"1000", "100000"})
+    public int catalogSize;
+
+    private String dataDir;
+    private BookService bookService;
+    private long[] ids;
+    private String[] searchWords;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        bookService = new BookService(new FileRepository(dataDir));
+
+        CatalogGenerator generator = new CatalogGenerator();
+        ids = CatalogGenerator.fill(bookService, generator.books(catalogSize));
+        searchWords = new String[64];
+        for (int i = 0; i < searchWords.length; i++) {
+            searchWords[i] = generator.searchWord();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    private int next(int bound) {
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+        return cursor % bound;
+    }
+
+    @Benchmark
+    public Book findBookById() throws BookNotFoundException {
+        return bookService.findBookById(ids[next(ids.length)]);
+    }
+
+    @Benchmark
+    public List<Book> findBooksByTitle() {
+        return bookService.findBooksByTitle(searchWords[next(searchWords.length)]);
+    }
+
+    @Benchmark
+    public List<Book> findBooksByAuthor() {
+        return bookService.findBooksByAuthor("Author 1" + next(10));
+    }
+}
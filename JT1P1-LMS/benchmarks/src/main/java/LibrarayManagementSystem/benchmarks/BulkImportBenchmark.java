@@ -0,0 +1,123 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.importer.BulkCatalogImporter;
+import LibrarayManagementSystem.importer.ImportReport;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vendor feed import: BulkCatalogImporter vs addBook() per row
+ *
+ * Each invocation imports the whole feed into an empty catalog
+ * (one snapshot saved at the end). The feed has 5% duplicate ISBNs.
+ *
+ * perRowAddBook() loads only BASELINE_ROWS rows - at feed sizes it would
+ * not finish (every addBook() rewrites books.dat).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class BulkImportBenchmark {
+
+    static final int BASELINE_ROWS = 2_000;
+
+    @State(Scope.Benchmark)
+    public static class Feed {
+
+        @Param({"100000", "500000"})
+        public int rows;
+
+        @Param({"1", "4"})
+        public int threads;
+
+        String dataDir;
+        Path feedFile;
+        BookService bookService;
+
+        @Setup(Level.Trial)
+        public void writeFeed() throws IOException {
+            BenchmarkSupport.silenceStdout();
+            dataDir = BenchmarkSupport.tempDataDir();
+            feedFile = Paths.get(dataDir, "feed.csv");
+            new CatalogGenerator().writeCsvFeed(feedFile, rows, 0.05);
+        }
+
+        @Setup(Level.Invocation)
+        public void emptyCatalog() {
+            FileRepository repository = new FileRepository(dataDir);
+            BookService.persistIdsTo(repository);
+            bookService = new BookService(repository);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkSupport.deleteDir(dataDir);
+            BenchmarkSupport.restoreStdout();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Baseline {
+
+        String dataDir;
+        List<Book> books;
+        BookService bookService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            BenchmarkSupport.silenceStdout();
+            dataDir = BenchmarkSupport.tempDataDir();
+        }
+
+        @Setup(Level.Invocation)
+        public void emptyCatalog() {
+            books = new CatalogGenerator().books(BASELINE_ROWS);
+            FileRepository repository = new FileRepository(dataDir);
+            BookService.persistIdsTo(repository);
+            bookService = new BookService(repository);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkSupport.deleteDir(dataDir);
+            BenchmarkSupport.restoreStdout();
+        }
+    }
+
+    @Benchmark
+    public ImportReport bulkImport(Feed feed) throws IOException {
+        BulkCatalogImporter importer = new BulkCatalogImporter(feed.bookService, feed.threads);
+        importer.setProgressEvery(0);
+        return importer.importFile(feed.feedFile);
+    }
+
+    @Benchmark
+    public int perRowAddBook(Baseline baseline) {
+        for (Book book : baseline.books) {
+            baseline.bookService.addBook(book);
+        }
+        return baseline.bookService.getTotalBooksCount();
+    }
+}
@@ -0,0 +1,153 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.storage.OffHeapBookStore;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * CatalogFootprintMain - Heap footprint and GC pauses: HashMap vs OffHeapBookStore
+ *
+ * USAGE (one JVM per store, so the numbers do not mix):
+ * ------
+ *     java -Xmx6g -cp benchmarks/target/benchmarks.jar LibrarayManagementSystem.benchmarks.CatalogFootprintMain --store heap --books 2000000
+ *     java -Xmx6g -cp benchmarks/target/benchmarks.jar LibrarayManagementSystem.benchmarks.CatalogFootprintMain --store offheap --books 2000000
+ *
+ * MEASURES:
+ * ---------
+ * 1. Footprint: heap used after a full GC, direct (native) buffer memory
+ * 2. Full GC pause with the catalog live (System.gc(), wall time, 5 runs)
+ * 3. Churn: lookups + copy updates while allocating short-lived garbage,
+ *    reporting GC count and total GC time from the collector MXBeans
+ */
+public class CatalogFootprintMain {
+
+    public static void main(String[] args) {
+        String store = "heap";
+        int bookCount = 1_000_000;
+        int churnSeconds = 10;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--store":
+                    store = args[++i];
+                    break;
+                case "--books":
+                    bookCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--churn-seconds":
+                    churnSeconds = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        long baselineHeap = heapUsedAfterGc();
+        Map<Long, Book> catalog = "offheap".equals(store) ? new OffHeapBookStore() : new HashMap<>();
+        long[] ids = build(catalog, bookCount);
+
+        long heapBytes = heapUsedAfterGc() - baselineHeap;
+        System.out.printf("store=%s books=%,d%n", store, catalog.size());
+        System.out.printf("  heap (after GC):   %,d MB%n", heapBytes >> 20);
+        System.out.printf("  direct memory:     %,d MB%n", directBytes() >> 20);
+        if (catalog instanceof OffHeapBookStore) {
+            System.out.printf("  index (on heap):   %,d MB%n", ((OffHeapBookStore) catalog).getIndexHeapBytes() >> 20);
+        }
+
+        // Full GC pause while the catalog is live
+        long worstPause = 0;
+        long totalPause = 0;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            System.gc();
+            long pause = System.nanoTime() - start;
+            worstPause = Math.max(worstPause, pause);
+            totalPause += pause;
+        }
+        System.out.printf("  full GC:           avg %.1f ms, max %.1f ms%n", totalPause / 5 / 1e6, worstPause / 1e6);
+
+        // Churn: the request path allocates garbage while touching the catalog
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long operations = churn(catalog, ids, churnSeconds);
+        System.out.printf("  churn %ds:          %,d ops, %d GCs, %d ms total GC time%n",
+                churnSeconds, operations, gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore);
+    }
+
+    private static long[] build(Map<Long, Book> catalog, int bookCount) {
+        CatalogGenerator generator = new CatalogGenerator();
+        long[] ids = new long[bookCount];
+        int chunk = 100_000;  // Generate in chunks so the source list never holds the whole catalog
+        for (int done = 0; done < bookCount; done += chunk) {
+            List<Book> books = generator.books(Math.min(chunk, bookCount - done));
+            for (int i = 0; i < books.size(); i++) {
+                Book book = books.get(i);
+                ids[done + i] = book.getBookId();
+                catalog.put(book.getBookId(), book);
+            }
+        }
+        return ids;
+    }
+
+    private static long churn(Map<Long, Book> catalog, long[] ids, int seconds) {
+        SplittableRandom random = new SplittableRandom(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long operations = 0;
+        long sink = 0;
+        byte[][] recent = new byte[1024][];  // Keeps garbage reachable briefly, like in-flight requests
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1_000; i++) {
+                Book book = catalog.get(ids[random.nextInt(ids.length)]);
+                sink += book.getBookTitle().length();
+                book.decrementCopy();
+                book.incrementCopy();
+                recent[(int) (operations & 1023)] = new byte[256];  // Request-scoped garbage
+                operations++;
+            }
+        }
+        if (sink == 42 && recent[0] != null) {
+            System.out.println();  // Keep sink alive
+        }
+        return operations;
+    }
+
+    private static long heapUsedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long directBytes() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
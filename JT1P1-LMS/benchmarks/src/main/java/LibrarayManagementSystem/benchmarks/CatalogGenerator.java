@@ -0,0 +1,166 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * CatalogGenerator - Reproducible synthetic books and members
+ *
+ * Same seed + same size = same catalog on every run, so benchmark results
+ * from different commits are comparable.
+ *
+ * Shape of the data:
+ * - Titles: 2-4 words from a fixed vocabulary (so title search has real hits)
+ * - Authors / publishers: small pools with a skewed pick (a few very common)
+ * - ISBNs: unique, "ISBN" + zero-padded sequence
+ * - Member names: first + last name from small pools (many "Rahman"s, like a real desk)
+ * - Phones: operator prefix (013-019) + 8 digits, so prefix search has real fan-out
+ */
+public class CatalogGenerator {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    static final String[] WORDS = {
+            "Java", "Clean", "Code", "Design", "Patterns", "Effective", "Modern", "Systems",
+            "Data", "Algorithms", "Distributed", "Concurrency", "Practice", "Guide", "Art",
+            "Programming", "Architecture", "Performance", "Network", "Security", "Database",
+            "Spring", "Cloud", "Microservices", "Testing", "Refactoring", "Compilers", "Theory"
+    };
+
+    private static final int AUTHOR_POOL = 2_000;
+    private static final String[] PUBLISHERS = {
+            "McGraw-Hill", "Prentice Hall", "Addison-Wesley", "O'Reilly", "Manning",
+            "Pragmatic Bookshelf", "Packt", "Apress", "No Starch Press", "Wiley"
+    };
+
+    static final String[] FIRST_NAMES = {
+            "Alamin", "Rahul", "Nusrat", "Tanvir", "Farhana", "Sakib", "Mehedi", "Sadia",
+            "Arif", "Ayesha", "Imran", "Jannat", "Kamal", "Laboni", "Mahfuz", "Nadia",
+            "Omar", "Priya", "Rafiq", "Shirin", "Tamim", "Urmi", "Zahid", "Anika"
+    };
+
+    static final String[] LAST_NAMES = {
+            "Rahman", "Hossain", "Islam", "Ahmed", "Khan", "Chowdhury", "Sarkar", "Das",
+            "Akter", "Uddin", "Mia", "Roy", "Sheikh", "Talukder", "Bhuiyan", "Saha"
+    };
+
+    private static final String[] PHONE_PREFIXES = {"013", "014", "015", "016", "017", "018", "019"};
+
+    private final SplittableRandom random;
+
+    public CatalogGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public CatalogGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Skewed index in [0, bound): squaring a uniform value favours small indexes
+     */
+    private int skewed(int bound) {
+        double u = random.nextDouble();
+        return (int) (u * u * bound);
+    }
+
+    public String title() {
+        int words = 2 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    public String author() {
+        return "Author " + skewed(AUTHOR_POOL);
+    }
+
+    public String publisher() {
+        return PUBLISHERS[skewed(PUBLISHERS.length)];
+    }
+
+    public String searchWord() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    public List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(new Book(title(), author(), publisher(),
+                    String.format("ISBN%09d", i), 1 + random.nextInt(5), true));
+        }
+        return books;
+    }
+
+    public List<Member> members(int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[skewed(FIRST_NAMES.length)] + " " + LAST_NAMES[skewed(LAST_NAMES.length)];
+            String phone = PHONE_PREFIXES[skewed(PHONE_PREFIXES.length)] + String.format("%08d", random.nextInt(100_000_000));
+            members.add(new Member(name, phone));
+        }
+        return members;
+    }
+
+    /**
+     * Write a vendor-style CSV feed (header + one book per row)
+     *
+     * duplicateRatio of the rows repeat the ISBN of an earlier row, written
+     * with hyphens, so the importer has to normalize before deduping.
+     */
+    public void writeCsvFeed(Path file, int rows, double duplicateRatio) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("title,author,publisher,isbn,copies");
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                boolean duplicate = i > 0 && random.nextDouble() < duplicateRatio;
+                String isbn = duplicate
+                        ? String.format("97800-%08d", random.nextInt(i))
+                        : String.format("97800%08d", i);
+                writer.write('"' + title() + "\"," + author() + ",\"" + publisher() + "\"," + isbn + ","
+                        + (1 + random.nextInt(5)));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Bulk-add books through the service - addBook() would rewrite the whole
+     * file once per book, which is not what setup should measure. addBooks()
+     * does not save, and the service knows it holds the catalog.
+     */
+    public static long[] fill(BookService bookService, List<Book> books) {
+        long[] ids = new long[books.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = books.get(i).getBookId();
+        }
+        bookService.addBooks(books);
+        return ids;
+    }
+
+    public static long[] fill(MemberService memberService, List<Member> members) {
+        long[] ids = new long[members.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = members.get(i).getMemberId();
+            memberService.getMembers().put(ids[i], members.get(i));
+        }
+        memberService.rebuildIndexes();
+        return ids;
+    }
+}
@@ -0,0 +1,115 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-by and author search: dictionary IDs vs one String copy per book
+ *
+ * The "legacy" methods replay the pre-encoding code over per-book String
+ * copies (what every Book held before, and what each load created).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryEncodingBenchmark {
+
+    @Param({"100000"})
+    public int catalogSize;
+
+    private String dataDir;
+    private BookService bookService;
+    private List<Book> books;
+    private String[] legacyAuthors;
+    private String[] legacyPublishers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        bookService = new BookService(new FileRepository(dataDir));
+        books = new CatalogGenerator().books(catalogSize);
+        CatalogGenerator.fill(bookService, books);
+
+        legacyAuthors = new String[books.size()];
+        legacyPublishers = new String[books.size()];
+        for (int i = 0; i < books.size(); i++) {
+            legacyAuthors[i] = new String(books.get(i).getBookAuthor());
+            legacyPublishers[i] = new String(books.get(i).getBookPublisher());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public Map<String, Integer> countByAuthor() {
+        return bookService.countBooksByAuthor();
+    }
+
+    @Benchmark
+    public Map<String, Integer> countByAuthorLegacy() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String author : legacyAuthors) {
+            counts.merge(author, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Integer> countByPublisher() {
+        return bookService.countBooksByPublisher();
+    }
+
+    @Benchmark
+    public Map<String, Integer> countByPublisherLegacy() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String publisher : legacyPublishers) {
+            counts.merge(publisher, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public List<Book> findByAuthor() {
+        return bookService.findBooksByAuthor("Author 17");
+    }
+
+    @Benchmark
+    public List<Book> findByAuthorLegacy() {
+        String needle = "Author 17".toLowerCase();
+        List<Book> result = new ArrayList<>();
+        for (int i = 0; i < legacyAuthors.length; i++) {
+            if (legacyAuthors[i].toLowerCase().contains(needle)) {
+                result.add(books.get(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.utils.IdAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IdAllocator under contention, against a single shared AtomicLong
+ *
+ * The block allocator touches shared state once per block, so its
+ * throughput should scale with threads while the AtomicLong flattens out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdAllocatorBenchmark {
+
+    private final IdAllocator allocator = new IdAllocator("bench", IdAllocator.DEFAULT_BLOCK_SIZE);
+    private final AtomicLong sharedCounter = new AtomicLong();
+
+    @Benchmark
+    @Threads(1)
+    public long blockAllocator_1thread() {
+        return allocator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long blockAllocator_8threads() {
+        return allocator.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long sharedAtomic_1thread() {
+        return sharedCounter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long sharedAtomic_8threads() {
+        return sharedCounter.incrementAndGet();
+    }
+}
@@ -0,0 +1,72 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LibraryService write path: one issueBook() + one returnBook() per operation,
+ * so the catalog state is the same before and after every call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueReturnBenchmark {
+
+    @Param({"1000", "100000"})
+    public int catalogSize;
+
+    private String dataDir;
+    private LibraryService libraryService;
+    private long[] bookIds;
+    private long[] memberIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        FileRepository repository = new FileRepository(dataDir);
+        BookService bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        libraryService = new LibraryService(bookService, memberService);
+
+        CatalogGenerator generator = new CatalogGenerator();
+        bookIds = CatalogGenerator.fill(bookService, generator.books(catalogSize));
+        memberIds = CatalogGenerator.fill(memberService, generator.members(Math.max(10, catalogSize / 10)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public void issueAndReturn() {
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+        long bookId = bookIds[cursor % bookIds.length];
+        long memberId = memberIds[cursor % memberIds.length];
+        libraryService.issueBook(bookId, memberId);
+        libraryService.returnBook(bookId, memberId);
+    }
+}
@@ -0,0 +1,100 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.logging.AsyncLogger;
+import LibrarayManagementSystem.logging.ConsoleLogger;
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.logging.LogLevel;
+import LibrarayManagementSystem.logging.NoOpLogger;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of logging on the issue/return path, per logger implementation
+ *
+ * - console: synchronous println to a file opened with autoflush
+ *            (one write() syscall per line, like a terminal)
+ * - async:   AsyncLogger writing the same file from its background thread
+ * - off:     NoOpLogger (server-mode default)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingOverheadBenchmark {
+
+    @Param({"console", "async", "off"})
+    public String logger;
+
+    private String dataDir;
+    private PrintStream logFile;
+    private LibraryService libraryService;
+    private long[] bookIds;
+    private long[] memberIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws FileNotFoundException {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        logFile = new PrintStream(new FileOutputStream(dataDir + "/service.log"), true);
+
+        switch (logger) {
+            case "console":
+                Log.setLogger(new ConsoleLogger(LogLevel.INFO, logFile, logFile));
+                break;
+            case "async":
+                Log.setLogger(new AsyncLogger(LogLevel.INFO, logFile));
+                break;
+            default:
+                Log.setLogger(NoOpLogger.INSTANCE);
+        }
+
+        FileRepository repository = new FileRepository(dataDir);
+        BookService bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        libraryService = new LibraryService(bookService, memberService);
+
+        CatalogGenerator generator = new CatalogGenerator();
+        bookIds = CatalogGenerator.fill(bookService, generator.books(1_000));
+        memberIds = CatalogGenerator.fill(memberService, generator.members(100));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Log.setLogger(NoOpLogger.INSTANCE);
+        logFile.close();
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public void issueAndReturn() {
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+        long bookId = bookIds[cursor % bookIds.length];
+        long memberId = memberIds[cursor % memberIds.length];
+        libraryService.issueBook(bookId, memberId);
+        libraryService.returnBook(bookId, memberId);
+    }
+}
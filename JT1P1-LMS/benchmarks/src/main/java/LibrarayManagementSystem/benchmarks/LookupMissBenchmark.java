@@ -0,0 +1,135 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.exception.BookNotFoundException;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups where a share of the IDs do not exist (typos, stale links, scans)
+ *
+ * Compares the ways a caller can handle a miss:
+ * - findBookById()          : stackless BookNotFoundException, caught
+ * - stackfulBaseline()      : same lookup, but throwing an exception WITH a stack
+ *                             trace and an eagerly built message (the old behaviour)
+ * - tryFindBookById()       : null on miss, no exception at all
+ * - canIssueBook()          : LibraryService validation path (book + member lookup)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupMissBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int PROBES = 4096;  // Power of two
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double missRatio;
+
+    private String dataDir;
+    private BookService bookService;
+    private LibraryService libraryService;
+    private long memberId;
+    private long[] probes;
+    private int cursor;
+
+    /**
+     * What a missing book used to cost: stack trace captured + message built up front
+     */
+    private static final class StackfulNotFoundException extends Exception {
+        StackfulNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        FileRepository repository = new FileRepository(dataDir);
+        bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        libraryService = new LibraryService(bookService, memberService);
+
+        CatalogGenerator generator = new CatalogGenerator();
+        long[] ids = CatalogGenerator.fill(bookService, generator.books(CATALOG_SIZE));
+        Member member = generator.members(1).get(0);
+        memberService.registerMember(member);
+        memberId = member.getMemberId();
+
+        // Missing IDs are negative, so they can never collide with real ones
+        Random random = new Random(42);
+        probes = new long[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = random.nextDouble() < missRatio
+                    ? -1L - random.nextInt(CATALOG_SIZE)
+                    : ids[random.nextInt(ids.length)];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    private long nextProbe() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return probes[cursor];
+    }
+
+    @Benchmark
+    public Book findBookById() {
+        try {
+            return bookService.findBookById(nextProbe());
+        } catch (BookNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Book stackfulBaseline() {
+        long bookId = nextProbe();
+        try {
+            Book book = bookService.tryFindBookById(bookId);
+            if (book == null) {
+                throw new StackfulNotFoundException("Book not found: Book with ID " + bookId + " not found");
+            }
+            return book;
+        } catch (StackfulNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Book tryFindBookById() {
+        return bookService.tryFindBookById(nextProbe());
+    }
+
+    @Benchmark
+    public boolean canIssueBook() {
+        return libraryService.canIssueBook(nextProbe(), memberId);
+    }
+}
@@ -0,0 +1,117 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Front desk member search: indexed lookups vs scanning getAllMembers()
+ *
+ * Queries come from real members (phone prefix of 7 digits, "first last"
+ * name prefixes), so every query has hits. Results are capped at PAGE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class MemberSearchBenchmark {
+
+    private static final int PAGE = 20;
+    private static final int QUERIES = 256;  // Power of two
+
+    @Param({"10000", "1000000"})
+    public int memberCount;
+
+    private String dataDir;
+    private MemberService memberService;
+    private String[] phonePrefixes;
+    private String[] nameQueries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        memberService = new MemberService(new FileRepository(dataDir));
+
+        List<Member> members = new CatalogGenerator().members(memberCount);
+        CatalogGenerator.fill(memberService, members);
+
+        SplittableRandom random = new SplittableRandom(7);
+        phonePrefixes = new String[QUERIES];
+        nameQueries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            Member member = members.get(random.nextInt(members.size()));
+            phonePrefixes[i] = member.getMemberPhone().substring(0, 7);
+            String[] words = member.getMemberName().split(" ");
+            nameQueries[i] = words[0].substring(0, 3) + " " + words[1].substring(0, 3);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public List<Member> phonePrefixIndexed() {
+        return memberService.findMembersByPhonePrefix(phonePrefixes[next()], PAGE);
+    }
+
+    @Benchmark
+    public List<Member> phonePrefixScan() {
+        String prefix = phonePrefixes[next()];
+        List<Member> result = new ArrayList<>();
+        for (Member member : memberService.getAllMembers()) {
+            if (member.getMemberPhone().startsWith(prefix) && result.size() < PAGE) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Member> nameIndexed() {
+        return memberService.findMembersByName(nameQueries[next()], PAGE);
+    }
+
+    @Benchmark
+    public List<Member> nameScan() {
+        String[] words = nameQueries[next()].split(" ");
+        List<Member> result = new ArrayList<>();
+        for (Member member : memberService.getAllMembers()) {
+            String name = member.getMemberName().toLowerCase(Locale.ROOT);
+            if (name.startsWith(words[0]) && name.contains(" " + words[1]) && result.size() < PAGE) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+}
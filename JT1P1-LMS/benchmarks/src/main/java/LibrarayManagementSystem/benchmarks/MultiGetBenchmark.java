@@ -0,0 +1,90 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving a member's borrowed IDs: one tryFindBookById() per ID vs one
+ * findBooksByIds() call (fresh array, or a reused buffer)
+ *
+ * 10% of the IDs are unknown, like books removed after they were borrowed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiGetBenchmark {
+
+    @Param({"5", "50"})
+    public int borrowed;
+
+    private String dataDir;
+    private BookService bookService;
+    private long[] ids;
+    private Book[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        bookService = new BookService(new FileRepository(dataDir));
+        long[] catalog = CatalogGenerator.fill(bookService, new CatalogGenerator().books(100_000));
+
+        SplittableRandom random = new SplittableRandom(CatalogGenerator.DEFAULT_SEED);
+        ids = new long[borrowed];
+        for (int i = 0; i < borrowed; i++) {
+            ids[i] = i % 10 == 9 ? -1 - i : catalog[random.nextInt(catalog.length)];
+        }
+        buffer = new Book[borrowed];
+
+        // Measuring misses by accident would make the comparison meaningless
+        int expectedHits = borrowed - borrowed / 10;
+        int hits = bookService.findBooksByIds(ids, buffer);
+        if (hits != expectedHits) {
+            throw new IllegalStateException("Multi-get found " + hits + " of " + expectedHits + " books");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public void lookupPerId(Blackhole blackhole) {
+        for (long id : ids) {
+            blackhole.consume(bookService.tryFindBookById(id));
+        }
+    }
+
+    @Benchmark
+    public Book[] multiGet() {
+        return bookService.findBooksByIds(ids);
+    }
+
+    @Benchmark
+    public int multiGetReusedBuffer() {
+        return bookService.findBooksByIds(ids, buffer);
+    }
+}
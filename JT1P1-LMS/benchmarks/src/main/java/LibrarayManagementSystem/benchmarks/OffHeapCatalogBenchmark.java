@@ -0,0 +1,94 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.storage.OffHeapBookStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-operation cost of the catalog store: HashMap vs OffHeapBookStore
+ *
+ * (Footprint and GC pauses are measured by CatalogFootprintMain - JMH
+ * per-op timings cannot show them.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class OffHeapCatalogBenchmark {
+
+    @Param({"heap", "offheap"})
+    public String store;
+
+    @Param({"100000"})
+    public int catalogSize;
+
+    private String dataDir;
+    private BookService bookService;
+    private long[] ids;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        FileRepository repository = new FileRepository(dataDir);
+        bookService = "offheap".equals(store)
+                ? new BookService(repository, new OffHeapBookStore())
+                : new BookService(repository, new HashMap<>());
+        ids = CatalogGenerator.fill(bookService, new CatalogGenerator().books(catalogSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    private long nextId() {
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+        return ids[cursor % ids.length];
+    }
+
+    @Benchmark
+    public int lookupCopies() {
+        return bookService.tryFindBookById(nextId()).getBookCopiesAvailable();
+    }
+
+    @Benchmark
+    public String lookupTitle() {
+        return bookService.tryFindBookById(nextId()).getBookTitle();
+    }
+
+    @Benchmark
+    public int issueAndReturnCopy() {
+        Book book = bookService.tryFindBookById(nextId());
+        book.decrementCopy();
+        book.incrementCopy();
+        return book.getBookCopiesAvailable();
+    }
+
+    @Benchmark
+    public List<Book> titleScan() {
+        return bookService.findBooksByTitle("Concurrency Practice");
+    }
+}
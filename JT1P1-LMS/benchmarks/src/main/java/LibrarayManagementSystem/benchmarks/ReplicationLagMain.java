@@ -0,0 +1,203 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.replication.FollowerStatus;
+import LibrarayManagementSystem.replication.ReplicationMain;
+import LibrarayManagementSystem.replication.ReplicationPrimary;
+import LibrarayManagementSystem.replication.StateDigest;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ReplicationLagMain - One primary, K follower JVMs on localhost, under load
+ *
+ * USAGE:
+ * ------
+ *     java -cp benchmarks/target/benchmarks.jar LibrarayManagementSystem.benchmarks.ReplicationLagMain [options]
+ *
+ *     --followers K    follower processes                  (default 2)
+ *     --books N        catalog size                        (default 100000)
+ *     --members N      registered members                  (default 10000)
+ *     --rate R         changes per second on the primary   (default 2000)
+ *     --seconds S      how long to drive the load          (default 10)
+ *
+ * STEPS:
+ * ------
+ * 1. Build the catalog and start ReplicationPrimary in THIS JVM
+ * 2. Start K `ReplicationMain follower --exit-on-close` JVMs (same classpath)
+ *    and wait until they have bootstrapped
+ * 3. Drive issue/return/add-book at the target rate, sampling every
+ *    follower's records-behind once per second
+ * 4. Wait for every follower to ack the head, close the primary, and
+ *    compare each follower's DIGEST line with the primary's state digest
+ */
+public class ReplicationLagMain {
+
+    public static void main(String[] args) throws Exception {
+        int followers = 2;
+        int bookCount = 100_000;
+        int memberCount = 10_000;
+        int rate = 2_000;
+        int seconds = 10;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--followers":
+                    followers = Integer.parseInt(args[++i]);
+                    break;
+                case "--books":
+                    bookCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--members":
+                    memberCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--rate":
+                    rate = Integer.parseInt(args[++i]);
+                    break;
+                case "--seconds":
+                    seconds = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        PrintStream out = System.out;
+        BenchmarkSupport.silenceStdout();  // Every issue/return logs a line
+        String dataDir = BenchmarkSupport.tempDataDir();
+        List<Process> processes = new ArrayList<>();
+        try {
+            FileRepository repository = new FileRepository(dataDir);
+            BookService.persistIdsTo(repository);
+            MemberService.persistIdsTo(repository);
+            BookService bookService = new BookService(repository);
+            MemberService memberService = new MemberService(repository);
+            LibraryService libraryService = new LibraryService(bookService, memberService);
+            CatalogGenerator generator = new CatalogGenerator();
+            long[] bookIds = CatalogGenerator.fill(bookService, generator.books(bookCount));
+            long[] memberIds = CatalogGenerator.fill(memberService, generator.members(memberCount));
+
+            ReplicationPrimary primary = new ReplicationPrimary(libraryService, 0);
+            primary.start();
+            out.printf("primary: %,d books, %,d members, port %d%n", bookCount, memberCount, primary.getPort());
+
+            List<String> digests = Collections.synchronizedList(new ArrayList<>());
+            for (int f = 0; f < followers; f++) {
+                processes.add(startFollower(f, primary.getPort(), digests, out));
+            }
+            long bootstrapStart = System.nanoTime();
+            while (primary.getFollowers().size() < followers || !primary.awaitFollowers(0)) {
+                Thread.sleep(50);
+            }
+            out.printf("%d followers bootstrapped in %.1f s%n", followers, (System.nanoTime() - bootstrapStart) / 1e9);
+
+            // Drive the load; sample lag once per second
+            SplittableRandom random = new SplittableRandom(7);
+            long intervalNanos = 1_000_000_000L / rate;
+            long start = System.nanoTime();
+            long deadline = start + seconds * 1_000_000_000L;
+            long nextSample = start + 1_000_000_000L;
+            long next = start;
+            long changes = 0;
+            long maxBehind = 0;
+            while (System.nanoTime() < deadline) {
+                long bookId = bookIds[random.nextInt(bookIds.length)];
+                long memberId = memberIds[random.nextInt(memberIds.length)];
+                int dice = random.nextInt(100);
+                if (dice < 5) {
+                    bookService.addBooks(generator.books(1));
+                } else {
+                    Member member = memberService.tryFindMemberById(memberId);
+                    if (member.hasBorrowedBook(bookId)) {
+                        libraryService.returnBook(bookId, memberId);
+                    } else {
+                        libraryService.issueBook(bookId, memberId);
+                    }
+                }
+                changes++;
+
+                long now = System.nanoTime();
+                if (now >= nextSample) {
+                    StringBuilder line = new StringBuilder(String.format("t=%2ds head=%,d behind:",
+                            (now - start) / 1_000_000_000L, primary.getHeadSeq()));
+                    for (FollowerStatus status : primary.getFollowers()) {
+                        line.append(' ').append(status.getRecordsBehind());
+                        maxBehind = Math.max(maxBehind, status.getRecordsBehind());
+                    }
+                    out.println(line);
+                    nextSample += 1_000_000_000L;
+                }
+                next += intervalNanos;
+                while (System.nanoTime() < next) {
+                    Thread.onSpinWait();
+                }
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            out.printf("drove %,d calls in %.1f s (%,.0f/s), head seq %,d, max records behind %,d%n",
+                    changes, elapsed, changes / elapsed, primary.getHeadSeq(), maxBehind);
+
+            boolean caughtUp = primary.awaitFollowers(30_000);
+            long primaryDigest = StateDigest.of(bookService, memberService);
+            primary.close();
+            for (Process process : processes) {
+                process.waitFor();
+            }
+            Thread.sleep(200);  // Let the reader threads print the last lines
+
+            int matching = 0;
+            for (String digest : digests) {
+                if (Long.parseLong(digest) == primaryDigest) {
+                    matching++;
+                }
+            }
+            out.printf("caught up: %s, digests matching primary: %d/%d%n", caughtUp, matching, followers);
+        } finally {
+            for (Process process : processes) {
+                process.destroy();
+            }
+            BenchmarkSupport.deleteDir(dataDir);
+            BenchmarkSupport.restoreStdout();
+        }
+    }
+
+    private static Process startFollower(int index, int port, List<String> digests, PrintStream out)
+            throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ReplicationMain.class.getName(), "follower", "--port", String.valueOf(port), "--exit-on-close");
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        // Forward only the summary lines, keep the per-second chatter out
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("DIGEST ")) {
+                        digests.add(line.substring(7).trim());
+                    } else if (line.contains("Lag:") || line.contains("Exception")) {
+                        out.println("follower " + index + ":" + line);
+                    }
+                }
+            } catch (Exception e) {
+                out.println("follower " + index + ": output lost: " + e.getMessage());
+            }
+        }, "follower-" + index + "-out");
+        reader.setDaemon(true);
+        reader.start();
+        return process;
+    }
+}
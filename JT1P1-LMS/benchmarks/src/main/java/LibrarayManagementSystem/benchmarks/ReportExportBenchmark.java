@@ -0,0 +1,74 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.report.BookField;
+import LibrarayManagementSystem.report.ExportResult;
+import LibrarayManagementSystem.report.ReportExporter;
+import LibrarayManagementSystem.report.ReportFormat;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorted CSV export by title: in-memory sort vs external merge sort
+ *
+ * memoryMb=1024 never spills; memoryMb=8 spills sorted runs and merges them.
+ * The difference is the price of bounded memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class ReportExportBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int catalogSize;
+
+    @Param({"1024", "8"})
+    public int memoryMb;
+
+    private String dataDir;
+    private BookService bookService;
+    private ReportExporter exporter;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        bookService = new BookService(new FileRepository(dataDir));
+        CatalogGenerator.fill(bookService, new CatalogGenerator().books(catalogSize));
+        exporter = new ReportExporter();
+        exporter.setMemoryBudgetBytes((long) memoryMb << 20);
+        output = Paths.get(dataDir, "books.csv");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    @Benchmark
+    public ExportResult exportByTitle() throws IOException {
+        return exporter.exportBooks(bookService, output, BookField.TITLE, false, ReportFormat.CSV);
+    }
+}
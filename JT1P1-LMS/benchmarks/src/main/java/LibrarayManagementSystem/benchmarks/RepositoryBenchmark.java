@@ -0,0 +1,139 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.replication.StateDigest;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.repository.JdbcRepository;
+import LibrarayManagementSystem.repository.LibraryRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileRepository vs JdbcRepository on an embedded H2 file database
+ *
+ * insertOne / updateOne go through the services (auto-save after each
+ * change): the file backend rewrites the whole catalog, the JDBC backend
+ * upserts the changed row. insertBatch adds 1000 books and saves once.
+ * lookupOne is a point read by ID; the file backend can only load the
+ * whole file for that.
+ *
+ * Setup also round-trips books, members and loans through a FRESH
+ * repository on the same storage and fails if the state digest differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"file", "jdbc"})
+    public String backend;
+
+    @Param({"100000"})
+    public int catalogSize;
+
+    private String dataDir;
+    private LibraryRepository repository;
+    private BookService bookService;
+    private long[] bookIds;
+    private CatalogGenerator generator;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.silenceStdout();
+        dataDir = BenchmarkSupport.tempDataDir();
+        repository = open();
+        BookService.persistIdsTo(repository);
+        MemberService.persistIdsTo(repository);
+        bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        generator = new CatalogGenerator();
+        bookIds = CatalogGenerator.fill(bookService, generator.books(catalogSize));
+        long[] memberIds = CatalogGenerator.fill(memberService, generator.members(catalogSize / 10));
+        LibraryService libraryService = new LibraryService(bookService, memberService);
+        random = new SplittableRandom(CatalogGenerator.DEFAULT_SEED);
+        for (int i = 0; i < 1_000; i++) {
+            libraryService.issueBook(bookIds[random.nextInt(bookIds.length)], memberIds[random.nextInt(memberIds.length)]);
+        }
+        bookService.saveToFile();
+        memberService.saveToFile();
+
+        LibraryRepository reopened = open();
+        BookService loadedBooks = new BookService(reopened);
+        MemberService loadedMembers = new MemberService(reopened);
+        loadedBooks.loadFromFile();
+        loadedMembers.loadFromFile();
+        if (StateDigest.of(loadedBooks, loadedMembers) != StateDigest.of(bookService, memberService)) {
+            throw new IllegalStateException(backend + " repository did not load back what it saved");
+        }
+        closeQuietly(reopened);
+    }
+
+    private LibraryRepository open() {
+        return "jdbc".equals(backend)
+                ? new JdbcRepository("jdbc:h2:file:" + dataDir + "/lms", "sa", "")
+                : new FileRepository(dataDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        closeQuietly(repository);
+        BenchmarkSupport.deleteDir(dataDir);
+        BenchmarkSupport.restoreStdout();
+    }
+
+    private static void closeQuietly(LibraryRepository repository) {
+        if (repository instanceof JdbcRepository) {
+            ((JdbcRepository) repository).close();
+        }
+    }
+
+    @Benchmark
+    public void insertOne() {
+        bookService.addBook(generator.books(1).get(0));
+    }
+
+    @Benchmark
+    public void insertBatch() {
+        List<Book> batch = generator.books(1_000);
+        bookService.addBooks(batch);
+        bookService.saveToFile();
+    }
+
+    @Benchmark
+    public void updateOne() {
+        Book book = bookService.tryFindBookById(bookIds[random.nextInt(bookIds.length)]);
+        book.setBookCopiesAvailable(book.getBookCopiesAvailable() == 0 ? 1 : book.getBookCopiesAvailable() - 1);
+        bookService.saveToFile();
+    }
+
+    @Benchmark
+    public Book lookupOne() {
+        long id = bookIds[random.nextInt(bookIds.length)];
+        if (repository instanceof JdbcRepository) {
+            return ((JdbcRepository) repository).findBook(id);
+        }
+        return repository.loadBooks().get(id);
+    }
+}
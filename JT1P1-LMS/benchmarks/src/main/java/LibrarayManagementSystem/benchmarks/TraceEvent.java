@@ -0,0 +1,61 @@
+package LibrarayManagementSystem.benchmarks;
+
+/**
+ * One request in a workload trace
+ *
+ * Text form (one per line, see TraceFile):
+ *     offsetMicros,OPERATION,argument1,argument2
+ *
+ * - offsetMicros: when the request should start, relative to the run start
+ * - SEARCH_TITLE: argument1 = search text
+ * - FIND_BOOK:    argument1 = book ID
+ * - ISSUE/RETURN: argument1 = book ID, argument2 = member ID
+ * - REGISTER:     argument1 = name, argument2 = phone
+ */
+public final class TraceEvent {
+
+    public enum Operation {
+        SEARCH_TITLE, FIND_BOOK, ISSUE, RETURN, REGISTER
+    }
+
+    private final long offsetMicros;
+    private final Operation operation;
+    private final String argument1;
+    private final String argument2;
+
+    public TraceEvent(long offsetMicros, Operation operation, String argument1, String argument2) {
+        this.offsetMicros = offsetMicros;
+        this.operation = operation;
+        this.argument1 = argument1;
+        this.argument2 = argument2 == null ? "" : argument2;
+    }
+
+    public long getOffsetMicros() {
+        return offsetMicros;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getArgument1() {
+        return argument1;
+    }
+
+    public String getArgument2() {
+        return argument2;
+    }
+
+    public String toLine() {
+        return offsetMicros + "," + operation + "," + argument1 + "," + argument2;
+    }
+
+    public static TraceEvent fromLine(String line) {
+        String[] parts = line.split(",", 4);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Bad trace line: " + line);
+        }
+        return new TraceEvent(Long.parseLong(parts[0]), Operation.valueOf(parts[1]),
+                parts[2], parts.length > 3 ? parts[3] : "");
+    }
+}
@@ -0,0 +1,48 @@
+package LibrarayManagementSystem.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TraceFile - Save / load workload traces as plain text
+ *
+ * First line is a header ("# lms-trace v1"), then one TraceEvent per line.
+ * Lines starting with '#' are comments.
+ */
+public final class TraceFile {
+
+    private static final String HEADER = "# lms-trace v1";
+
+    private TraceFile() {
+    }
+
+    public static void write(Path file, List<TraceEvent> events) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (TraceEvent event : events) {
+                writer.write(event.toLine());
+                writer.newLine();
+            }
+        }
+    }
+
+    public static List<TraceEvent> read(Path file) throws IOException {
+        List<TraceEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    events.add(TraceEvent.fromLine(line));
+                }
+            }
+        }
+        return events;
+    }
+}
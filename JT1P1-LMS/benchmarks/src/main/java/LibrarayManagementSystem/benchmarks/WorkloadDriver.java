@@ -0,0 +1,173 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.benchmarks.TraceEvent.Operation;
+import LibrarayManagementSystem.exception.BookNotFoundException;
+import LibrarayManagementSystem.metrics.LatencyHistogram;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * WorkloadDriver - Replays a trace against the services in OPEN LOOP
+ *
+ * OPEN LOOP vs CLOSED LOOP:
+ * -------------------------
+ * A closed-loop driver sends the next request only after the previous one
+ * finished, so a slow system is simply sent less traffic and looks fine.
+ * Here every request has a fixed start time from the trace; if the system
+ * falls behind, requests queue up and their latency is measured from the
+ * INTENDED start time (no "coordinated omission").
+ *
+ * THREADS:
+ * --------
+ * Worker threads model concurrent clients. The services are not thread-safe
+ * (plain HashMap / ArrayList), so calls into them are serialized with one lock;
+ * time spent waiting for that lock shows up as latency, like a real queue.
+ */
+public class WorkloadDriver {
+
+    private final LibraryService libraryService;
+    private final BookService bookService;
+    private final MemberService memberService;
+    private final Object serviceLock = new Object();
+
+    /**
+     * Result of one run
+     */
+    public static final class Report {
+        final long completed;
+        final double elapsedSeconds;
+        final double targetRate;
+        final Map<Operation, LatencyHistogram> latency;
+        final LatencyHistogram overall;
+
+        Report(long completed, double elapsedSeconds, double targetRate,
+                Map<Operation, LatencyHistogram> latency, LatencyHistogram overall) {
+            this.completed = completed;
+            this.elapsedSeconds = elapsedSeconds;
+            this.targetRate = targetRate;
+            this.latency = latency;
+            this.overall = overall;
+        }
+
+        public double getThroughput() {
+            return completed / elapsedSeconds;
+        }
+
+        public void print(java.io.PrintStream out) {
+            out.printf("%nRequests: %d in %.2f s  |  target %.0f req/s  |  achieved %.0f req/s%n",
+                    completed, elapsedSeconds, targetRate, getThroughput());
+            out.printf("%-14s %10s %12s %12s %12s %12s%n", "Operation", "Count", "p50 (µs)", "p99 (µs)",
+                    "p999 (µs)", "max (µs)");
+            for (Map.Entry<Operation, LatencyHistogram> entry : latency.entrySet()) {
+                printRow(out, entry.getKey().name(), entry.getValue());
+            }
+            printRow(out, "ALL", overall);
+        }
+
+        private static void printRow(java.io.PrintStream out, String name, LatencyHistogram histogram) {
+            if (histogram.getCount() == 0) {
+                return;
+            }
+            out.printf("%-14s %10d %12.1f %12.1f %12.1f %12.1f%n", name, histogram.getCount(),
+                    histogram.percentile(50) / 1e3, histogram.percentile(99) / 1e3,
+                    histogram.percentile(99.9) / 1e3, histogram.getMax() / 1e3);
+        }
+    }
+
+    public WorkloadDriver(LibraryService libraryService) {
+        this.libraryService = libraryService;
+        this.bookService = libraryService.getBookService();
+        this.memberService = libraryService.getMemberService();
+    }
+
+    /**
+     * Run the trace
+     *
+     * @param speedup 1.0 = trace timing as recorded, 2.0 = twice the rate, ...
+     */
+    public Report run(List<TraceEvent> events, int threads, double speedup) throws InterruptedException {
+        Map<Operation, LatencyHistogram> latency = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latency.put(operation, new LatencyHistogram());
+        }
+        LatencyHistogram overall = new LatencyHistogram();
+
+        AtomicInteger nextEvent = new AtomicInteger();
+        long startNanos = System.nanoTime() + 10_000_000L;  // Give workers 10 ms to start
+
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                int i;
+                while ((i = nextEvent.getAndIncrement()) < events.size()) {
+                    TraceEvent event = events.get(i);
+                    long intended = startNanos + (long) (event.getOffsetMicros() * 1_000 / speedup);
+                    waitUntil(intended);
+
+                    execute(event);
+
+                    long nanos = System.nanoTime() - intended;
+                    latency.get(event.getOperation()).record(nanos);
+                    overall.record(nanos);
+                }
+            }, "workload-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+        double traceSeconds = events.isEmpty() ? 0
+                : events.get(events.size() - 1).getOffsetMicros() / 1e6 / speedup;
+        double targetRate = traceSeconds == 0 ? 0 : events.size() / traceSeconds;
+        return new Report(overall.getCount(), elapsed, targetRate, latency, overall);
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void execute(TraceEvent event) {
+        synchronized (serviceLock) {
+            switch (event.getOperation()) {
+                case SEARCH_TITLE:
+                    bookService.findBooksByTitle(event.getArgument1());
+                    break;
+                case FIND_BOOK:
+                    try {
+                        bookService.findBookById(Long.parseLong(event.getArgument1()));
+                    } catch (BookNotFoundException e) {
+                        // A miss is a valid outcome for the workload
+                    }
+                    break;
+                case ISSUE:
+                    libraryService.issueBook(Long.parseLong(event.getArgument1()),
+                            Long.parseLong(event.getArgument2()));
+                    break;
+                case RETURN:
+                    libraryService.returnBook(Long.parseLong(event.getArgument1()),
+                            Long.parseLong(event.getArgument2()));
+                    break;
+                case REGISTER:
+                    memberService.registerMember(new Member(event.getArgument1(), event.getArgument2()));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation: " + event.getOperation());
+            }
+        }
+    }
+}
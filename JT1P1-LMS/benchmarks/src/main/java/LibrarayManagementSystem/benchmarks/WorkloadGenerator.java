@@ -0,0 +1,138 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.benchmarks.TraceEvent.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * WorkloadGenerator - Realistic mix of library requests with Zipf popularity
+ *
+ * - Which book is searched / fetched / issued follows a Zipf distribution
+ *   (popular titles get most of the traffic)
+ * - Members are Zipf-distributed too (regulars borrow more)
+ * - Returns are drawn from loans the generator has issued so far,
+ *   so most of them are valid
+ * - Arrivals are Poisson at the target rate (exponential gaps), which is
+ *   what an open-loop driver should replay
+ *
+ * The same seed always produces the same trace.
+ */
+public class WorkloadGenerator {
+
+    /**
+     * Request mix in percent; must add up to 100
+     */
+    public static final class Mix {
+        final int search;
+        final int find;
+        final int issue;
+        final int returns;
+        final int register;
+
+        public Mix(int search, int find, int issue, int returns, int register) {
+            if (search + find + issue + returns + register != 100) {
+                throw new IllegalArgumentException("Mix must add up to 100");
+            }
+            this.search = search;
+            this.find = find;
+            this.issue = issue;
+            this.returns = returns;
+            this.register = register;
+        }
+
+        /**
+         * Front-desk day: mostly lookups, a steady stream of checkouts and returns
+         */
+        public static Mix defaultMix() {
+            return new Mix(40, 25, 15, 15, 5);
+        }
+    }
+
+    private final long[] bookIds;
+    private final long[] memberIds;
+    private final Mix mix;
+    private final ZipfSampler bookPopularity;
+    private final ZipfSampler memberActivity;
+    private final SplittableRandom random;
+    private final CatalogGenerator words;
+
+    public WorkloadGenerator(long[] bookIds, long[] memberIds, Mix mix, double zipfExponent, long seed) {
+        this.bookIds = bookIds;
+        this.memberIds = memberIds;
+        this.mix = mix;
+        this.bookPopularity = new ZipfSampler(bookIds.length, zipfExponent);
+        this.memberActivity = new ZipfSampler(memberIds.length, zipfExponent);
+        this.random = new SplittableRandom(seed);
+        this.words = new CatalogGenerator(seed + 1);
+    }
+
+    /**
+     * Generate count events arriving at ratePerSecond on average
+     */
+    public List<TraceEvent> generate(int count, double ratePerSecond) {
+        List<TraceEvent> events = new ArrayList<>(count);
+        List<long[]> openLoans = new ArrayList<>();
+        double meanGapMicros = 1_000_000.0 / ratePerSecond;
+        double clockMicros = 0;
+
+        for (int i = 0; i < count; i++) {
+            clockMicros += -Math.log(1.0 - random.nextDouble()) * meanGapMicros;
+            long at = (long) clockMicros;
+
+            Operation operation = pickOperation(random.nextInt(100));
+            if (operation == Operation.RETURN && openLoans.isEmpty()) {
+                operation = Operation.ISSUE;  // Nothing to return yet
+            }
+
+            switch (operation) {
+                case SEARCH_TITLE:
+                    events.add(new TraceEvent(at, operation, words.searchWord(), ""));
+                    break;
+                case FIND_BOOK:
+                    events.add(new TraceEvent(at, operation, Long.toString(popularBook()), ""));
+                    break;
+                case ISSUE: {
+                    long bookId = popularBook();
+                    long memberId = memberIds[memberActivity.next(random)];
+                    openLoans.add(new long[]{bookId, memberId});
+                    events.add(new TraceEvent(at, operation, Long.toString(bookId), Long.toString(memberId)));
+                    break;
+                }
+                case RETURN: {
+                    // Return a random outstanding loan (swap-remove keeps it O(1))
+                    int pick = random.nextInt(openLoans.size());
+                    long[] loan = openLoans.get(pick);
+                    openLoans.set(pick, openLoans.get(openLoans.size() - 1));
+                    openLoans.remove(openLoans.size() - 1);
+                    events.add(new TraceEvent(at, operation, Long.toString(loan[0]), Long.toString(loan[1])));
+                    break;
+                }
+                default:
+                    events.add(new TraceEvent(at, operation, "Walk-in " + i, String.format("018%08d", i)));
+            }
+        }
+        return events;
+    }
+
+    private Operation pickOperation(int roll) {
+        if ((roll -= mix.search) < 0) {
+            return Operation.SEARCH_TITLE;
+        }
+        if ((roll -= mix.find) < 0) {
+            return Operation.FIND_BOOK;
+        }
+        if ((roll -= mix.issue) < 0) {
+            return Operation.ISSUE;
+        }
+        if (roll - mix.returns < 0) {
+            return Operation.RETURN;
+        }
+        return Operation.REGISTER;
+    }
+
+    private long popularBook() {
+        return bookIds[bookPopularity.next(random)];
+    }
+}
@@ -0,0 +1,101 @@
+package LibrarayManagementSystem.benchmarks;
+
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorkloadMain - Command line entry for the workload generator / replayer
+ *
+ * USAGE:
+ * ------
+ *     java -cp benchmarks/target/benchmarks.jar LibrarayManagementSystem.benchmarks.WorkloadMain [options]
+ *
+ *     --books N        catalog size                    (default 100000)
+ *     --members N      registered members              (default 10000)
+ *     --requests N     requests to generate            (default 100000)
+ *     --rate R         target requests per second      (default 2000)
+ *     --threads T      concurrent client threads       (default 4)
+ *     --zipf S         popularity skew, 0 = uniform    (default 1.0)
+ *     --seed S         random seed                     (default 42)
+ *     --record FILE    save the generated trace, then run it
+ *     --replay FILE    run a saved trace instead of generating one
+ *                      (--rate rescales its timing)
+ *
+ * The catalog is always rebuilt from the seed in a temp directory, so a
+ * trace replays against the same book and member IDs it was recorded with.
+ */
+public class WorkloadMain {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int books = Integer.parseInt(options.getOrDefault("books", "100000"));
+        int members = Integer.parseInt(options.getOrDefault("members", "10000"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "100000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+        double zipf = Double.parseDouble(options.getOrDefault("zipf", "1.0"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        PrintStream console = System.out;
+        BenchmarkSupport.silenceStdout();
+        String dataDir = BenchmarkSupport.tempDataDir();
+        try {
+            FileRepository repository = new FileRepository(dataDir);
+            BookService.persistIdsTo(repository);
+            MemberService.persistIdsTo(repository);
+            BookService bookService = new BookService(repository);
+            MemberService memberService = new MemberService(repository);
+            LibraryService libraryService = new LibraryService(bookService, memberService);
+
+            CatalogGenerator catalog = new CatalogGenerator(seed);
+            long[] bookIds = CatalogGenerator.fill(bookService, catalog.books(books));
+            long[] memberIds = CatalogGenerator.fill(memberService, catalog.members(members));
+            repository.saveMembers(memberService.getMembers());
+
+            List<TraceEvent> trace;
+            double speedup = 1.0;
+            if (options.containsKey("replay")) {
+                trace = TraceFile.read(Path.of(options.get("replay")));
+                if (options.containsKey("rate") && !trace.isEmpty()) {
+                    double recordedRate = trace.size() / (trace.get(trace.size() - 1).getOffsetMicros() / 1e6);
+                    speedup = Double.parseDouble(options.get("rate")) / recordedRate;
+                }
+                console.println("▶️ Replaying " + trace.size() + " requests from " + options.get("replay"));
+            } else {
+                double rate = Double.parseDouble(options.getOrDefault("rate", "2000"));
+                trace = new WorkloadGenerator(bookIds, memberIds, WorkloadGenerator.Mix.defaultMix(), zipf, seed)
+                        .generate(requests, rate);
+                if (options.containsKey("record")) {
+                    TraceFile.write(Path.of(options.get("record")), trace);
+                    console.println("💾 Trace saved to " + options.get("record"));
+                }
+            }
+
+            console.println("🏃 Running with " + threads + " threads on " + books + " books / "
+                    + members + " members...");
+            WorkloadDriver.Report report = new WorkloadDriver(libraryService).run(trace, threads, speedup);
+            report.print(console);
+        } finally {
+            BenchmarkSupport.deleteDir(dataDir);
+            BenchmarkSupport.restoreStdout();
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -1,11 +1,18 @@
 package LibrarayManagementSystem;
 
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
 import LibrarayManagementSystem.models.Book;
 import LibrarayManagementSystem.models.Member;
 import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.repository.JdbcRepository;
+import LibrarayManagementSystem.repository.LibraryRepository;
 import LibrarayManagementSystem.services.BookService;
 import LibrarayManagementSystem.services.MemberService;
 import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.PopularityService;
+import LibrarayManagementSystem.services.RecommendationService;
+import LibrarayManagementSystem.storage.OffHeapBookStore;
 
 /**
  * Main class - Demonstrates Library Management System with FILE PERSISTENCE
@@ -28,16 +35,33 @@ public class Main {
         System.out.println("📚 LIBRARY MANAGEMENT SYSTEM - WITH FILE PERSISTENCE");
         System.out.println("=".repeat(60));
 
+        // Step 0: Publish operation latency metrics over JMX (disable with -Dlms.metrics=false)
+        Metrics.registerMBeans();
+
         // Step 1: Create services
-        FileRepository fileRepository = new FileRepository();
-        BookService bookService = new BookService(fileRepository);
-        MemberService memberService = new MemberService(fileRepository);
+        // -Dlms.jdbc.url=jdbc:h2:./data/lms stores data in a database (driver must be on the classpath)
+        String jdbcUrl = System.getProperty("lms.jdbc.url");
+        LibraryRepository repository = jdbcUrl != null
+                ? new JdbcRepository(jdbcUrl, System.getProperty("lms.jdbc.user", ""), System.getProperty("lms.jdbc.password", ""))
+                : new FileRepository();
+        BookService.persistIdsTo(repository);
+        MemberService.persistIdsTo(repository);
+        // -Dlms.catalog=offheap keeps the book catalog in native memory
+        BookService bookService = "offheap".equalsIgnoreCase(System.getProperty("lms.catalog"))
+                ? new BookService(repository, new OffHeapBookStore())
+                : new BookService(repository);
+        MemberService memberService = new MemberService(repository);
         LibraryService libraryService = new LibraryService(bookService, memberService);
+        RecommendationService recommendationService = new RecommendationService(bookService);
+        libraryService.addLoanListener(recommendationService);
+        PopularityService popularityService = new PopularityService(bookService);
+        libraryService.addLoanListener(popularityService);
 
         // Step 2: Load existing data from files
         System.out.println("\n🔹 Loading existing data...");
         bookService.loadFromFile();
         memberService.loadFromFile();
+        recommendationService.seedFrom(memberService.getAllMembers());
 
         // Step 3: Check if we have existing data
         if (bookService.getTotalBooksCount() > 0 || memberService.getTotalMembersCount() > 0) {
@@ -83,6 +107,12 @@ public class Main {
         // Display current state
         libraryService.displayLibraryStats();
 
+        // Front desk search (indexed, no full scan)
+        System.out.println("\n🔎 Members with phone starting 0171: " + memberService.findMembersByPhonePrefix("0171", 10));
+        System.out.println("🔎 Members named 'ala': " + memberService.findMembersByName("ala", 10));
+        libraryService.getLibraryReport().display(5);
+        Metrics.displaySummary();
+
         // You can now:
         // 1. Run the program multiple times - data will persist!
         // 2. Add new books/members - they'll be saved
@@ -94,5 +124,8 @@ public class Main {
         System.out.println("=".repeat(60));
 
         System.out.println("\n✅ Program completed successfully!");
+
+        // Async logger (-Dlms.log=async) may still have events buffered
+        Log.getLogger().close();
     }
 }
\ No newline at end of file
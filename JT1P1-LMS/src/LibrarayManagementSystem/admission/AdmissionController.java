@@ -0,0 +1,454 @@
+package LibrarayManagementSystem.admission;
+
+import LibrarayManagementSystem.analytics.CatalogReport;
+import LibrarayManagementSystem.exception.AdmissionRejectedException;
+import LibrarayManagementSystem.exception.AdmissionRejectedException.Reason;
+import LibrarayManagementSystem.metrics.LatencyHistogram;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.services.AsyncLibraryService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.LoanStatus;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AdmissionController - Keeps the library usable during checkout bursts
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * At opening time everyone issues, returns and searches at once. Without a
+ * gate every request is accepted, queues grow without bound, and EVERY
+ * request (even a quick return) waits behind the pile. Better to say
+ * "no" quickly to some requests than "yes, eventually" to all of them.
+ *
+ * HOW IT WORKS (in order, per request):
+ * -------------------------------------
+ * 1. RATE LIMIT: each client/branch key has a TokenBucket; empty bucket
+ *    → rejected at once (RATE_LIMITED). Returns cost a quarter token. A
+ *    request that is then rejected (QUEUE_FULL) or shed gets its tokens
+ *    back. Buckets
+ *    that have refilled completely are dropped every BUCKET_SWEEP_INTERVAL,
+ *    so one-off client keys do not pile up.
+ * 2. BOUNDED QUEUE with PRIORITY LANES: RETURN > ISSUE > SEARCH share
+ *    queueCapacity slots. When full, the NEWEST request of a lower lane is
+ *    SHED to make room; if there is none → rejected (QUEUE_FULL).
+ * 3. Workers always take from the highest non-empty lane
+ * 4. EXPIRY: a request that waited longer than maxQueueWait is dropped
+ *    when it reaches a worker (EXPIRED) - its client has likely given up
+ *
+ * Rejections complete the future with AdmissionRejectedException; the
+ * work itself runs through AsyncLibraryService (same locking rules).
+ *
+ * METRICS: queue depth per lane, max depth, admitted / completed /
+ * rate-limited / queue-full / shed / expired counters, queue wait p99 -
+ * via getters, displayStats(), or JMX (registerMBean()).
+ */
+public class AdmissionController implements AdmissionControllerMBean, Closeable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1_024;
+    public static final double DEFAULT_RATE_PER_SECOND = 50;
+    public static final int DEFAULT_BURST = 100;
+    public static final long DEFAULT_MAX_QUEUE_WAIT_MILLIS = 2_000;
+
+    private static final Lane[] LANES = Lane.values();
+    private static final long BUCKET_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AsyncLibraryService library;
+    private final int workerCount;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private double ratePerSecond = DEFAULT_RATE_PER_SECOND;
+    private int burst = DEFAULT_BURST;
+    private long maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_QUEUE_WAIT_MILLIS);
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastBucketSweepNanos = new AtomicLong(System.nanoTime());
+
+    // Queue state, guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    @SuppressWarnings({"rawtypes", "unchecked"})  // Generic array of ArrayDeque<Request<?>>
+    private final ArrayDeque<Request<?>>[] lanes = new ArrayDeque[LANES.length];
+    private int queued;
+    private int maxQueued;
+    private volatile boolean closed;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    /**
+     * One queued request
+     */
+    private static final class Request<T> {
+        final Lane lane;
+        final String clientKey;
+        final Supplier<CompletableFuture<T>> work;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long enqueuedNanos = System.nanoTime();
+
+        Request(Lane lane, String clientKey, Supplier<CompletableFuture<T>> work) {
+            this.lane = lane;
+            this.clientKey = clientKey;
+            this.work = work;
+        }
+
+        void reject(Reason reason) {
+            result.completeExceptionally(new AdmissionRejectedException(reason, clientKey));
+        }
+
+        void run() {
+            try {
+                work.get().whenComplete((value, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * @param workers threads that run admitted requests (the services
+     *                allow one writer at a time, so a few are enough)
+     */
+    public AdmissionController(LibraryService libraryService, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Need at least one worker: " + workers);
+        }
+        // Runnable::run: the work runs on OUR worker thread, under the facade's locks
+        this.library = new AsyncLibraryService(libraryService, Runnable::run);
+        this.workerCount = workers;
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+    }
+
+    // ==================== CONFIGURATION (before start) ====================
+
+    /**
+     * Per client/branch: ratePerSecond sustained, burst at once
+     *
+     * @throws IllegalArgumentException if ratePerSecond or burst is not positive
+     */
+    public void setRateLimit(double ratePerSecond, int burst) {
+        if (!(ratePerSecond > 0) || burst <= 0) {  // !(x > 0) also catches NaN
+            throw new IllegalArgumentException("Rate and burst must be positive: "
+                    + ratePerSecond + "/s, burst " + burst);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        buckets.clear();
+    }
+
+    /**
+     * Queued requests (all lanes together) before shedding/rejecting
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void setMaxQueueWaitMillis(long millis) {
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::workLoop, "lms-admission-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // ==================== OPERATIONS ====================
+
+    public CompletableFuture<LoanStatus> returnBook(String clientKey, long bookId, long memberId) {
+        return submit(clientKey, Lane.RETURN, () -> library.returnBook(bookId, memberId));
+    }
+
+    public CompletableFuture<LoanStatus> issueBook(String clientKey, long bookId, long memberId) {
+        return submit(clientKey, Lane.ISSUE, () -> library.issueIfAvailable(bookId, memberId));
+    }
+
+    public CompletableFuture<List<Book>> searchByTitle(String clientKey, String title) {
+        return submit(clientKey, Lane.SEARCH, () -> library.findBooksByTitle(title));
+    }
+
+    public CompletableFuture<CatalogReport> stats(String clientKey) {
+        return submit(clientKey, Lane.SEARCH, library::stats);
+    }
+
+    private <T> CompletableFuture<T> submit(String clientKey, Lane lane, Supplier<CompletableFuture<T>> work) {
+        Request<T> request = new Request<>(lane, clientKey, work);
+        if (closed) {
+            request.reject(Reason.SHUTDOWN);
+            return request.result;
+        }
+
+        // 1. Rate limit - no lock, no queue
+        sweepIdleBuckets();
+        TokenBucket bucket = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(ratePerSecond, burst));
+        if (!bucket.tryAcquire(lane.tokenCost)) {
+            rateLimited.increment();
+            request.reject(Reason.RATE_LIMITED);
+            return request.result;
+        }
+
+        // 2. Bounded queue, shedding lower lanes when full
+        Request<?> victim = null;
+        lock.lock();
+        try {
+            if (queued >= queueCapacity) {
+                victim = newestBelow(lane);
+                if (victim == null) {
+                    queueFull.increment();
+                    bucket.refund(lane.tokenCost);  // Not served: don't charge the client
+                    request.reject(Reason.QUEUE_FULL);
+                    return request.result;
+                }
+                queued--;
+            }
+            lanes[lane.ordinal()].addLast(request);
+            queued++;
+            maxQueued = Math.max(maxQueued, queued);
+            admitted.increment();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (victim != null) {
+            shed.increment();
+            TokenBucket victimBucket = buckets.get(victim.clientKey);  // null if swept since: nothing to give back
+            if (victimBucket != null) {
+                victimBucket.refund(victim.lane.tokenCost);
+            }
+            victim.reject(Reason.SHED);  // Outside the lock: callbacks may run here
+        }
+        return request.result;
+    }
+
+    /**
+     * Drop buckets that are full again, at most once per BUCKET_SWEEP_INTERVAL
+     *
+     * A request racing with the sweep may still take a token from the bucket
+     * being dropped while the next one gets a new, full bucket: at worst one
+     * extra token for that client, never a wrong rejection.
+     */
+    private void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        long last = lastBucketSweepNanos.get();
+        if (now - last < BUCKET_SWEEP_INTERVAL_NANOS || !lastBucketSweepNanos.compareAndSet(last, now)) {
+            return;  // Not due yet, or another thread is sweeping
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * Remove the newest request of the lowest lane below lane (caller holds lock)
+     */
+    private Request<?> newestBelow(Lane lane) {
+        for (int i = LANES.length - 1; i > lane.ordinal(); i--) {
+            if (!lanes[i].isEmpty()) {
+                return lanes[i].pollLast();
+            }
+        }
+        return null;
+    }
+
+    private void workLoop() {
+        while (true) {
+            Request<?> request;
+            lock.lock();
+            try {
+                while (queued == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                request = takeHighest();
+            } finally {
+                lock.unlock();
+            }
+
+            long waited = System.nanoTime() - request.enqueuedNanos;
+            queueWait.record(waited);
+            if (waited > maxQueueWaitNanos) {
+                expired.increment();
+                request.reject(Reason.EXPIRED);
+                continue;
+            }
+            request.run();
+            completed.increment();
+        }
+    }
+
+    private Request<?> takeHighest() {
+        for (ArrayDeque<Request<?>> lane : lanes) {
+            if (!lane.isEmpty()) {
+                queued--;
+                return lane.pollFirst();
+            }
+        }
+        throw new IllegalStateException("queued=" + queued + " but all lanes are empty");
+    }
+
+    /**
+     * Stop the workers; requests still queued are rejected with SHUTDOWN
+     */
+    @Override
+    public void close() {
+        List<Request<?>> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            closed = true;
+            for (ArrayDeque<Request<?>> lane : lanes) {
+                dropped.addAll(lane);
+                lane.clear();
+            }
+            queued = 0;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Request<?> request : dropped) {
+            request.reject(Reason.SHUTDOWN);
+        }
+    }
+
+    // ==================== METRICS ====================
+
+    /**
+     * Publish as LibrarayManagementSystem:type=Admission,name=<name>
+     */
+    public void registerMBean(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("LibrarayManagementSystem:type=Admission,name=" + name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            System.err.println("❌ Error registering admission metrics: " + e.getMessage());
+        }
+    }
+
+    private int depth(Lane lane) {
+        lock.lock();
+        try {
+            return lanes[lane.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getReturnQueueDepth() {
+        return depth(Lane.RETURN);
+    }
+
+    @Override
+    public int getIssueQueueDepth() {
+        return depth(Lane.ISSUE);
+    }
+
+    @Override
+    public int getSearchQueueDepth() {
+        return depth(Lane.SEARCH);
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        lock.lock();
+        try {
+            return maxQueued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejectedRateLimited() {
+        return rateLimited.sum();
+    }
+
+    @Override
+    public long getRejectedQueueFull() {
+        return queueFull.sum();
+    }
+
+    @Override
+    public long getShed() {
+        return shed.sum();
+    }
+
+    @Override
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    @Override
+    public double getQueueWaitP99Micros() {
+        return queueWait.percentile(99.0) / 1_000.0;
+    }
+
+    public void displayStats() {
+        System.out.println("\n🚦 === Admission Control ===");
+        System.out.println("   Queue: " + getQueueDepth() + " (returns " + getReturnQueueDepth()
+                + ", issues " + getIssueQueueDepth() + ", searches " + getSearchQueueDepth()
+                + "), max " + getMaxQueueDepth() + " of " + queueCapacity);
+        System.out.println("   Admitted: " + getAdmitted() + ", completed: " + getCompleted());
+        System.out.println("   Rejected: " + getRejectedRateLimited() + " rate limited, "
+                + getRejectedQueueFull() + " queue full, " + getShed() + " shed, " + getExpired() + " expired");
+        System.out.printf("   Queue wait: p50 %.1f us, p99 %.1f us%n",
+                queueWait.percentile(50.0) / 1_000.0, getQueueWaitP99Micros());
+        System.out.println("=".repeat(50));
+    }
+}
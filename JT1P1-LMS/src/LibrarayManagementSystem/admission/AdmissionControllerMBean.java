@@ -0,0 +1,33 @@
+package LibrarayManagementSystem.admission;
+
+/**
+ * JMX view of an AdmissionController (visible in JConsole / VisualVM)
+ *
+ * Depths are current values; counters are totals since start.
+ */
+public interface AdmissionControllerMBean {
+
+    int getQueueDepth();
+
+    int getReturnQueueDepth();
+
+    int getIssueQueueDepth();
+
+    int getSearchQueueDepth();
+
+    int getMaxQueueDepth();
+
+    long getAdmitted();
+
+    long getCompleted();
+
+    long getRejectedRateLimited();
+
+    long getRejectedQueueFull();
+
+    long getShed();
+
+    long getExpired();
+
+    double getQueueWaitP99Micros();
+}
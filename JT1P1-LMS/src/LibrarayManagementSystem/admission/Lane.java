@@ -0,0 +1,25 @@
+package LibrarayManagementSystem.admission;
+
+/**
+ * Lane - Priority class of a request (declaration order = priority)
+ *
+ * RETURN first: a return frees a copy and never makes overload worse.
+ * SEARCH last: a search can be retried and nothing waits on it.
+ *
+ * tokenCost = tokens taken from the client's bucket. Returns are cheap, so
+ * a client that searched too much can still bring books back - but not
+ * free: the RETURN lane sheds everyone else's work, so one client must not
+ * be able to flood it.
+ */
+public enum Lane {
+
+    RETURN(0.25),
+    ISSUE(1),
+    SEARCH(1);
+
+    final double tokenCost;
+
+    Lane(double tokenCost) {
+        this.tokenCost = tokenCost;
+    }
+}
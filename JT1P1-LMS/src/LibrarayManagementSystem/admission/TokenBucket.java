@@ -0,0 +1,61 @@
+package LibrarayManagementSystem.admission;
+
+/**
+ * TokenBucket - Allows a steady rate with short bursts
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - The bucket holds up to `burst` tokens and refills at `ratePerSecond`
+ * - A request takes tokens; an empty bucket means "too fast, reject now"
+ * - Refill is computed lazily from the elapsed time, no timer thread
+ *
+ * Example: rate 10/s, burst 20 → a client can fire 20 requests at once,
+ * then about one every 100 ms.
+ */
+final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this.ratePerNano = ratePerSecond / 1e9;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * @return true if cost tokens were taken, false if the bucket is too empty
+     */
+    synchronized boolean tryAcquire(double cost) {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerNano);
+        lastRefillNanos = now;
+        if (tokens < cost) {
+            return false;
+        }
+        tokens -= cost;
+        return true;
+    }
+
+    /**
+     * Give back tokens taken for a request that was then not served
+     */
+    synchronized void refund(double cost) {
+        tokens = Math.min(burst, tokens + cost);
+    }
+
+    /**
+     * Full again = no token taken for at least burst / rate: a new bucket
+     * would behave exactly the same, so this one can be dropped
+     */
+    synchronized boolean isFull(long now) {
+        return tokens + (now - lastRefillNanos) * ratePerNano >= burst;
+    }
+
+    synchronized double available() {
+        return tokens;
+    }
+}
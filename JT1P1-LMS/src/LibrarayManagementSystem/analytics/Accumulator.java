@@ -0,0 +1,15 @@
+package LibrarayManagementSystem.analytics;
+
+/**
+ * Accumulator - Partial result of a group-by over one slice of the data
+ *
+ * Each fork/join leaf fills its own accumulator with add() (no sharing,
+ * no locks); results are combined pairwise with merge() on the way up.
+ * merge() must be associative and commutative - leaves finish in any order.
+ */
+public interface Accumulator<T, A extends Accumulator<T, A>> {
+
+    void add(T item);
+
+    void merge(A other);
+}
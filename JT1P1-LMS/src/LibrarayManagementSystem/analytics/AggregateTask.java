@@ -0,0 +1,50 @@
+package LibrarayManagementSystem.analytics;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * AggregateTask - Fork/join group-by over a Spliterator
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - While the slice is bigger than leafSize: split off the first half,
+ *   fork it, keep working on the rest
+ * - Leaf: one fresh Accumulator, add() every item
+ * - Join: merge the forked half into ours
+ *
+ * Splitting the map's own Spliterator (HashMap splits by bucket range)
+ * means no snapshot copy of the catalog is needed.
+ */
+final class AggregateTask<T, A extends Accumulator<T, A>> extends RecursiveTask<A> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Spliterator<T> items;
+    private final transient Supplier<A> factory;
+    private final long leafSize;
+
+    AggregateTask(Spliterator<T> items, Supplier<A> factory, long leafSize) {
+        this.items = items;
+        this.factory = factory;
+        this.leafSize = leafSize;
+    }
+
+    @Override
+    protected A compute() {
+        if (items.estimateSize() > leafSize) {
+            Spliterator<T> firstHalf = items.trySplit();
+            if (firstHalf != null) {
+                AggregateTask<T, A> left = new AggregateTask<>(firstHalf, factory, leafSize);
+                left.fork();
+                A result = compute();  // Same task, the remaining half
+                result.merge(left.join());
+                return result;
+            }
+        }
+        A accumulator = factory.get();
+        items.forEachRemaining(accumulator::add);
+        return accumulator;
+    }
+}
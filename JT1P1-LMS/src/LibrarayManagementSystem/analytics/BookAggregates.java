@@ -0,0 +1,65 @@
+package LibrarayManagementSystem.analytics;
+
+import LibrarayManagementSystem.models.Book;
+
+/**
+ * BookAggregates - Every book aggregate, filled in ONE pass
+ *
+ * Group keys are StringDictionary IDs, so each group is a slot in a
+ * primitive array - no HashMap, no boxing, no String hashing per book.
+ */
+final class BookAggregates implements Accumulator<Book, BookAggregates> {
+
+    long books;
+    long availableBooks;
+    long copiesTotal;
+    long copiesAvailable;
+
+    final int[] booksByPublisher;      // index = publisher ID
+    final long[] copiesByAuthor;       // index = author ID
+    final long[] availableByAuthor;    // index = author ID
+
+    BookAggregates(int publishers, int authors) {
+        this.booksByPublisher = new int[publishers];
+        this.copiesByAuthor = new long[authors];
+        this.availableByAuthor = new long[authors];
+    }
+
+    @Override
+    public void add(Book book) {
+        int total = book.getBookCopiesTotal();
+        int available = book.getBookCopiesAvailable();
+        books++;
+        copiesTotal += total;
+        copiesAvailable += available;
+        if (book.isBookAvailable()) {
+            availableBooks++;
+        }
+
+        // IDs added after the pass started (a concurrent import) are left out
+        int publisherId = book.getBookPublisherId();
+        if (publisherId >= 0 && publisherId < booksByPublisher.length) {
+            booksByPublisher[publisherId]++;
+        }
+        int authorId = book.getBookAuthorId();
+        if (authorId >= 0 && authorId < copiesByAuthor.length) {
+            copiesByAuthor[authorId] += total;
+            availableByAuthor[authorId] += available;
+        }
+    }
+
+    @Override
+    public void merge(BookAggregates other) {
+        books += other.books;
+        availableBooks += other.availableBooks;
+        copiesTotal += other.copiesTotal;
+        copiesAvailable += other.copiesAvailable;
+        for (int i = 0; i < booksByPublisher.length; i++) {
+            booksByPublisher[i] += other.booksByPublisher[i];
+        }
+        for (int i = 0; i < copiesByAuthor.length; i++) {
+            copiesByAuthor[i] += other.copiesByAuthor[i];
+            availableByAuthor[i] += other.availableByAuthor[i];
+        }
+    }
+}
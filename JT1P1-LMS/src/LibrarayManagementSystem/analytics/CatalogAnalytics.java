@@ -0,0 +1,94 @@
+package LibrarayManagementSystem.analytics;
+
+import LibrarayManagementSystem.metrics.Metrics;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+import LibrarayManagementSystem.utils.StringDictionary;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CatalogAnalytics - Parallel group-by over the whole catalog and membership
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * Management wants books per publisher, availability by author and loans
+ * per member. Doing each with its own stream = one full scan per question,
+ * plus a HashMap<String, ...> per group-by.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - ONE pass over the books computes every book aggregate (BookAggregates)
+ * - ONE pass over the members computes every member aggregate (MemberAggregates)
+ * - Each pass is a fork/join task (AggregateTask) that splits the map's
+ *   Spliterator; leaves count into primitive arrays keyed by dictionary ID
+ * - The two passes run at the same time on the same pool
+ *
+ * RULES:
+ * ------
+ * - Like the services, this is not safe against concurrent writes:
+ *   run it when the catalog is not being changed (or accept a fuzzy report)
+ * - Small catalogs do not split at all (leafSize), so calling it for the
+ *   console stats costs no more than a plain loop
+ */
+public class CatalogAnalytics {
+
+    public static final int DEFAULT_LEAF_SIZE = 8_192;
+
+    private final BookService bookService;
+    private final MemberService memberService;
+    private final ForkJoinPool pool;
+    private int leafSize = DEFAULT_LEAF_SIZE;
+
+    public CatalogAnalytics(BookService bookService, MemberService memberService) {
+        this(bookService, memberService, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor with a dedicated pool (e.g. to cap reporting at 2 threads)
+     */
+    public CatalogAnalytics(BookService bookService, MemberService memberService, ForkJoinPool pool) {
+        this.bookService = bookService;
+        this.memberService = memberService;
+        this.pool = pool;
+    }
+
+    /**
+     * Items per leaf task - smaller = more parallelism, more merge work
+     */
+    public void setLeafSize(int leafSize) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive: " + leafSize);
+        }
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Compute every aggregate in one pass per collection
+     */
+    public CatalogReport run() {
+        long start = Metrics.start();
+        try {
+            int publishers = StringDictionary.PUBLISHERS.size();
+            int authors = StringDictionary.AUTHORS.size();
+            // Every leaf owns arrays sized by the dictionary: keep leaves big enough that scanning dominates
+            long bookLeafSize = Math.max(leafSize, 2L * (publishers + authors));
+
+            AggregateTask<Book, BookAggregates> bookPass = new AggregateTask<>(
+                    bookService.getBooks().values().spliterator(),
+                    () -> new BookAggregates(publishers, authors), bookLeafSize);
+            AggregateTask<Member, MemberAggregates> memberPass = new AggregateTask<>(
+                    memberService.getMembers().values().spliterator(),
+                    MemberAggregates::new, leafSize);
+
+            pool.execute(bookPass);
+            MemberAggregates members = pool.invoke(memberPass);
+            BookAggregates books = bookPass.join();
+            return new CatalogReport(books, members);
+        } finally {
+            Metrics.CATALOG_REPORT.record(start);
+        }
+    }
+}
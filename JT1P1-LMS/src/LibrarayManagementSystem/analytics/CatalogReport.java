@@ -0,0 +1,175 @@
+package LibrarayManagementSystem.analytics;
+
+import LibrarayManagementSystem.utils.StringDictionary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CatalogReport - Result of one CatalogAnalytics run (immutable)
+ *
+ * WHAT'S IN IT:
+ * -------------
+ * - Totals: books, available books, copies, members, borrowers, loans
+ * - Books per publisher (most books first)
+ * - Availability ratio per author = available copies / total copies
+ *   (authors with the most copies first)
+ * - Members per loan bucket: how many members hold 0, 1, 2, 3-4, 5+ books
+ *
+ * Group names are decoded from StringDictionary once per group, here at
+ * the end - never during the scan.
+ */
+public class CatalogReport {
+
+    // Lower bound of each loans-per-member bucket
+    static final int[] LOAN_BUCKETS = {0, 1, 2, 3, 5};
+    private static final String[] LOAN_BUCKET_LABELS = {"0", "1", "2", "3-4", "5+"};
+
+    private final long totalBooks;
+    private final long availableBooks;
+    private final long totalCopies;
+    private final long availableCopies;
+    private final long totalMembers;
+    private final long activeBorrowers;
+    private final long totalLoans;
+    private final Map<String, Integer> booksPerPublisher;
+    private final Map<String, Double> availabilityByAuthor;
+    private final Map<String, Long> membersByLoanBucket;
+
+    CatalogReport(BookAggregates books, MemberAggregates members) {
+        this.totalBooks = books.books;
+        this.availableBooks = books.availableBooks;
+        this.totalCopies = books.copiesTotal;
+        this.availableCopies = books.copiesAvailable;
+        this.totalMembers = members.members;
+        this.activeBorrowers = members.borrowers;
+        this.totalLoans = members.loans;
+        this.booksPerPublisher = publisherCounts(books.booksByPublisher);
+        this.availabilityByAuthor = authorAvailability(books.copiesByAuthor, books.availableByAuthor);
+        this.membersByLoanBucket = loanBuckets(members.membersByLoanBucket);
+    }
+
+    static int loanBucketOf(int borrowed) {
+        int bucket = LOAN_BUCKETS.length - 1;
+        while (borrowed < LOAN_BUCKETS[bucket]) {
+            bucket--;
+        }
+        return bucket;
+    }
+
+    private static Map<String, Integer> publisherCounts(int[] counts) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.comparingInt((Integer id) -> counts[id]).reversed());
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int id : ids) {
+            result.put(StringDictionary.PUBLISHERS.decode(id), counts[id]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, Double> authorAvailability(long[] copies, long[] available) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < copies.length; id++) {
+            if (copies[id] > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.comparingLong((Integer id) -> copies[id]).reversed());
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int id : ids) {
+            result.put(StringDictionary.AUTHORS.decode(id), (double) available[id] / copies[id]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, Long> loanBuckets(long[] counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            result.put(LOAN_BUCKET_LABELS[i], counts[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    public long getTotalBooks() {
+        return totalBooks;
+    }
+
+    public long getAvailableBooks() {
+        return availableBooks;
+    }
+
+    public long getTotalCopies() {
+        return totalCopies;
+    }
+
+    public long getAvailableCopies() {
+        return availableCopies;
+    }
+
+    public long getTotalMembers() {
+        return totalMembers;
+    }
+
+    public long getActiveBorrowers() {
+        return activeBorrowers;
+    }
+
+    public long getTotalLoans() {
+        return totalLoans;
+    }
+
+    /**
+     * @return publisher → number of books, most books first
+     */
+    public Map<String, Integer> getBooksPerPublisher() {
+        return booksPerPublisher;
+    }
+
+    /**
+     * @return author → available copies / total copies (0.0 - 1.0), most copies first
+     */
+    public Map<String, Double> getAvailabilityByAuthor() {
+        return availabilityByAuthor;
+    }
+
+    /**
+     * @return loan bucket ("0", "1", "2", "3-4", "5+") → number of members
+     */
+    public Map<String, Long> getMembersByLoanBucket() {
+        return membersByLoanBucket;
+    }
+
+    /**
+     * Print the report, top N publishers / authors
+     */
+    public void display(int top) {
+        System.out.println("\n📈 === Catalog Report ===");
+        System.out.println("   Books: " + totalBooks + " (" + availableBooks + " available)");
+        System.out.println("   Copies: " + totalCopies + " (" + availableCopies + " on the shelf)");
+        System.out.println("   Members: " + totalMembers + " (" + activeBorrowers + " borrowing, "
+                + totalLoans + " loans)");
+
+        System.out.println("\n   🏢 Books per publisher:");
+        booksPerPublisher.entrySet().stream().limit(top)
+                .forEach(e -> System.out.println("      " + e.getKey() + ": " + e.getValue()));
+
+        System.out.println("\n   ✍️ Availability by author:");
+        availabilityByAuthor.entrySet().stream().limit(top)
+                .forEach(e -> System.out.printf("      %s: %.0f%%%n", e.getKey(), e.getValue() * 100));
+
+        System.out.println("\n   👥 Members by books on loan:");
+        membersByLoanBucket.forEach((bucket, members) -> System.out.println("      " + bucket + ": " + members));
+        System.out.println("=".repeat(50));
+    }
+}
@@ -0,0 +1,35 @@
+package LibrarayManagementSystem.analytics;
+
+import LibrarayManagementSystem.models.Member;
+
+/**
+ * MemberAggregates - Member counts and the loans-per-member histogram, in ONE pass
+ */
+final class MemberAggregates implements Accumulator<Member, MemberAggregates> {
+
+    long members;
+    long borrowers;
+    long loans;
+    final long[] membersByLoanBucket = new long[CatalogReport.LOAN_BUCKETS.length];
+
+    @Override
+    public void add(Member member) {
+        int borrowed = member.getBorrowedBooksCount();
+        members++;
+        loans += borrowed;
+        if (borrowed > 0) {
+            borrowers++;
+        }
+        membersByLoanBucket[CatalogReport.loanBucketOf(borrowed)]++;
+    }
+
+    @Override
+    public void merge(MemberAggregates other) {
+        members += other.members;
+        borrowers += other.borrowers;
+        loans += other.loans;
+        for (int i = 0; i < membersByLoanBucket.length; i++) {
+            membersByLoanBucket[i] += other.membersByLoanBucket[i];
+        }
+    }
+}
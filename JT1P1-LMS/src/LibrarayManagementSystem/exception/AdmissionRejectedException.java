@@ -0,0 +1,43 @@
+package LibrarayManagementSystem.exception;
+
+/**
+ * Completes a request future when AdmissionController refuses the request
+ *
+ * STACKLESS: under overload thousands of these are created per second,
+ * and the stack would only ever point into the controller.
+ */
+public class AdmissionRejectedException extends Exception {
+
+    /**
+     * Why the request was not run
+     */
+    public enum Reason {
+        RATE_LIMITED,   // Client/branch used up its token bucket
+        QUEUE_FULL,     // No room, and nothing less important to drop
+        SHED,           // Was queued, dropped to make room for a higher-priority request
+        EXPIRED,        // Waited in the queue longer than the limit
+        SHUTDOWN        // Controller closed
+    }
+
+    private final Reason reason;
+    private final String clientKey;
+
+    public AdmissionRejectedException(Reason reason, String clientKey) {
+        super(null, null, false, false);
+        this.reason = reason;
+        this.clientKey = clientKey;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Request from " + clientKey + " rejected: " + reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public String getClientKey() {
+        return clientKey;
+    }
+}
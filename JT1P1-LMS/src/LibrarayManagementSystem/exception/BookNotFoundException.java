@@ -1,8 +1,36 @@
 package LibrarayManagementSystem.exception;
 
+/**
+ * Thrown by BookService.findBookById() when no book has the given ID
+ *
+ * STACKLESS: a missing book is an expected outcome, not a bug, so the
+ * exception skips fillInStackTrace() (the expensive part of throwing).
+ * When built from an ID, the message is only created if someone asks for it.
+ */
 public class BookNotFoundException extends Exception {
+
+    private final long bookId;
+
     public BookNotFoundException(String message) {
-        super("Book not found: " + message);
+        super("Book not found: " + message, null, false, false);
+        this.bookId = 0L;
+    }
+
+    public BookNotFoundException(long bookId) {
+        super(null, null, false, false);
+        this.bookId = bookId;
     }
 
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : "Book not found: Book with ID " + bookId + " not found";
+    }
+
+    /**
+     * @return the ID that was looked up (0 if built from a message)
+     */
+    public long getBookId() {
+        return bookId;
+    }
 }
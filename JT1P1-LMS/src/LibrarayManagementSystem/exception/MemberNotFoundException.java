@@ -1,8 +1,35 @@
 package LibrarayManagementSystem.exception;
 
+/**
+ * Thrown by MemberService.findMemberById() when no member has the given ID
+ *
+ * STACKLESS like BookNotFoundException: no stack trace is captured and the
+ * message is built lazily when constructed from an ID.
+ */
 public class MemberNotFoundException extends Exception {
 
+    private final long memberId;
+
     public MemberNotFoundException(String message) {
-        super("Member not found: " + message);
+        super("Member not found: " + message, null, false, false);
+        this.memberId = 0L;
+    }
+
+    public MemberNotFoundException(long memberId) {
+        super(null, null, false, false);
+        this.memberId = memberId;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : "Member not found: Member with ID " + memberId + " not found";
+    }
+
+    /**
+     * @return the ID that was looked up (0 if built from a message)
+     */
+    public long getMemberId() {
+        return memberId;
     }
 }
@@ -0,0 +1,25 @@
+package LibrarayManagementSystem.importer;
+
+/**
+ * One validated feed row, before it becomes a Book
+ *
+ * WHY NOT A Book DIRECTLY? Creating a Book takes an ID from IdAllocator.
+ * Duplicates are only known after parsing, so IDs are handed out later,
+ * in file order, and never wasted on rows that get dropped.
+ */
+final class BookRecord {
+
+    final String title;
+    final String author;
+    final String publisher;
+    final String isbn;       // Normalized: no hyphens/spaces, upper case
+    final int copies;
+
+    BookRecord(String title, String author, String publisher, String isbn, int copies) {
+        this.title = title;
+        this.author = author;
+        this.publisher = publisher;
+        this.isbn = isbn;
+        this.copies = copies;
+    }
+}
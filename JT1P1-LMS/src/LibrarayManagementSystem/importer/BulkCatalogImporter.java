@@ -0,0 +1,356 @@
+package LibrarayManagementSystem.importer;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.services.BookService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BulkCatalogImporter - Load a vendor feed (CSV / JSON lines) into BookService
+ *
+ * WHY NOT addBook() PER ROW?
+ * --------------------------
+ * addBook() prints a line and rewrites the whole books.dat every time.
+ * For a 500k-row feed that is 500k full-file rewrites - effectively never done.
+ *
+ * PIPELINE:
+ * ---------
+ *   reader thread ──batches of lines──▶ parser threads ──parsed batches──▶ caller thread
+ *   (streams file)                      (parse + validate,                 (in file order: dedupe by ISBN,
+ *                                        in parallel)                       create Books, addBooks())
+ *
+ * Then ONE saveToFile() at the end.
+ *
+ * - Dedupe: ISBNs are normalized ("978-0-13..." = "97801..."); the first row
+ *   in file order wins, rows whose ISBN is already in the catalog are skipped
+ * - IDs are only allocated for rows that are actually imported
+ * - BookService is touched by the calling thread only (it is not thread-safe)
+ *
+ * BOUNDED MEMORY:
+ * ---------------
+ * At most maxBatchesInFlight × batchSize lines are held between the reader
+ * and the caller (a Semaphore blocks the reader), whatever the feed size.
+ * The only thing that grows with the feed is the set of seen ISBNs.
+ */
+public class BulkCatalogImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 2_000;
+    private static final int MAX_SAMPLE_ERRORS = 20;
+
+    private final BookService bookService;
+    private final int parserThreads;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxBatchesInFlight;
+    private long progressEvery = 100_000;
+    private boolean strictIsbn;
+
+    public BulkCatalogImporter(BookService bookService) {
+        this(bookService, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BulkCatalogImporter(BookService bookService, int parserThreads) {
+        if (parserThreads <= 0) {
+            throw new IllegalArgumentException("parserThreads must be positive");
+        }
+        this.bookService = bookService;
+        this.parserThreads = parserThreads;
+        this.maxBatchesInFlight = parserThreads * 2;
+    }
+
+    /**
+     * Lines per batch handed to a parser thread
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Batches read but not yet committed (default 2 × parser threads)
+     */
+    public void setMaxBatchesInFlight(int maxBatchesInFlight) {
+        if (maxBatchesInFlight <= 0) {
+            throw new IllegalArgumentException("maxBatchesInFlight must be positive");
+        }
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
+    /**
+     * Log a progress line every this many rows (0 = never)
+     */
+    public void setProgressEvery(long progressEvery) {
+        this.progressEvery = progressEvery;
+    }
+
+    /**
+     * Reject rows whose ISBN is not a valid ISBN-10/13 (checksum included)
+     */
+    public void setStrictIsbn(boolean strictIsbn) {
+        this.strictIsbn = strictIsbn;
+    }
+
+    // ==================== IMPORT ====================
+
+    /**
+     * Import a feed file; the format comes from the extension (.jsonl = JSON lines, else CSV)
+     */
+    public ImportReport importFile(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(reader, ImportFormat.fromFileName(file.getFileName().toString()));
+        }
+    }
+
+    /**
+     * Import everything the reader delivers, then save one snapshot
+     *
+     * If reading fails half way, the rows read so far stay imported and
+     * are saved; the report says why it stopped (getReadError()).
+     *
+     * @throws IOException if the CSV header cannot be read or is not usable
+     */
+    public ImportReport importFrom(BufferedReader reader, ImportFormat format) throws IOException {
+        long start = System.nanoTime();
+
+        RecordParser parser;
+        long firstLine = 1;
+        if (format == ImportFormat.CSV) {
+            String header = reader.readLine();
+            if (header == null) {
+                return new ImportReport(0, 0, 0, 0, new ArrayList<>(), System.nanoTime() - start, null);
+            }
+            try {
+                parser = RecordParser.forCsvHeader(header, strictIsbn);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage());
+            }
+            firstLine = 2;
+        } else {
+            parser = RecordParser.forJsonLines(strictIsbn);
+        }
+
+        Counts counts = new Counts();
+        Set<String> seenIsbns = existingIsbns();
+        BlockingQueue<ParsedBatch> parsed = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(maxBatchesInFlight);
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads, parserThreadFactory());
+
+        long startLine = firstLine;
+        Thread readerThread = new Thread(() -> readBatches(reader, parser, startLine, parsers, inFlight, parsed),
+                "lms-import-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+
+        String readError = null;
+        try {
+            // Commit batches in file order - they may finish parsing out of order
+            Map<Long, ParsedBatch> pending = new HashMap<>();
+            long next = 0;
+            long total = -1;
+            long nextProgress = progressEvery;
+            while (total < 0 || next < total) {
+                ParsedBatch batch = parsed.take();
+                if (batch.isEnd()) {
+                    total = batch.sequence;
+                    readError = batch.readError;
+                    continue;
+                }
+                pending.put(batch.sequence, batch);
+                for (ParsedBatch ready = pending.remove(next); ready != null; ready = pending.remove(next)) {
+                    commit(ready, seenIsbns, counts);
+                    inFlight.release();
+                    next++;
+                }
+                if (progressEvery > 0 && counts.rows >= nextProgress) {
+                    logProgress(counts, start);
+                    nextProgress = (counts.rows / progressEvery + 1) * progressEvery;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            readError = "import interrupted";
+        } finally {
+            // Normally the reader has finished by now. If the loop stopped early
+            // (interrupted, or addBooks() threw) it may be blocked on inFlight forever
+            readerThread.interrupt();
+            parsers.shutdownNow();
+        }
+
+        if (counts.imported > 0) {
+            bookService.saveToFile();  // The ONE snapshot for the whole import
+        }
+        ImportReport report = new ImportReport(counts.rows, counts.imported, counts.duplicates, counts.invalid,
+                counts.errors, System.nanoTime() - start, readError);
+        Log.info("📦 Import finished: {} imported, {} duplicates, {} invalid",
+                report.getImported(), report.getDuplicates(), report.getInvalid());
+        return report;
+    }
+
+    private Set<String> existingIsbns() {
+        List<Book> books = bookService.getAllBooks();
+        Set<String> isbns = new HashSet<>(Math.max(16, books.size() * 2));
+        for (Book book : books) {
+            isbns.add(RecordParser.normalizeIsbn(book.getBookISBN()));
+        }
+        return isbns;
+    }
+
+    /**
+     * Runs on the caller thread: dedupe, create Books (IDs in file order), insert
+     */
+    private void commit(ParsedBatch batch, Set<String> seenIsbns, Counts counts) {
+        counts.rows += batch.rows;
+        counts.invalid += batch.invalid;
+        for (String error : batch.errors) {
+            if (counts.errors.size() < MAX_SAMPLE_ERRORS) {
+                counts.errors.add(error);
+            }
+        }
+
+        List<Book> books = new ArrayList<>(batch.records.size());
+        for (BookRecord record : batch.records) {
+            if (!seenIsbns.add(record.isbn)) {
+                counts.duplicates++;
+                continue;
+            }
+            books.add(new Book(record.title, record.author, record.publisher, record.isbn,
+                    record.copies, record.copies > 0));
+        }
+        counts.imported += bookService.addBooks(books);
+    }
+
+    private static void logProgress(Counts counts, long start) {
+        long elapsed = System.nanoTime() - start;
+        long rowsPerSecond = elapsed == 0 ? 0 : counts.rows * 1_000_000_000L / elapsed;
+        Log.info("📦 Import progress: {} rows, {} imported ({} rows/s)", counts.rows, counts.imported, rowsPerSecond);
+    }
+
+    // ==================== READER / PARSERS ====================
+
+    /**
+     * Runs on the reader thread: cut the stream into batches, hand them to parsers
+     */
+    private void readBatches(BufferedReader reader, RecordParser parser, long firstLine,
+            ExecutorService parsers, Semaphore inFlight, BlockingQueue<ParsedBatch> parsed) {
+        long sequence = 0;
+        long lineNumber = firstLine;
+        String error = null;
+        try {
+            List<String> lines = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == batchSize) {
+                    submit(sequence++, lineNumber, lines, parser, parsers, inFlight, parsed);
+                    lineNumber += lines.size();
+                    lines = new ArrayList<>(batchSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(sequence++, lineNumber, lines, parser, parsers, inFlight, parsed);
+            }
+        } catch (IOException e) {
+            error = "read failed near line " + lineNumber + ": " + e.getMessage();
+        } catch (InterruptedException | RejectedExecutionException e) {
+            error = "import interrupted";  // The caller stopped (parsers shut down)
+        }
+        parsed.add(ParsedBatch.end(sequence, error));
+    }
+
+    private static void submit(long sequence, long firstLine, List<String> lines, RecordParser parser,
+            ExecutorService parsers, Semaphore inFlight, BlockingQueue<ParsedBatch> parsed)
+            throws InterruptedException {
+        inFlight.acquire();  // Back-pressure: wait until the caller commits an older batch
+        parsers.execute(() -> parsed.add(parseBatch(sequence, firstLine, lines, parser)));
+    }
+
+    /**
+     * Runs on a parser thread; never throws - bad rows become errors in the batch
+     */
+    private static ParsedBatch parseBatch(long sequence, long firstLine, List<String> lines, RecordParser parser) {
+        ParsedBatch batch = new ParsedBatch(sequence, new ArrayList<>(lines.size()));
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.rows++;
+            try {
+                batch.records.add(parser.parse(line));
+            } catch (RuntimeException e) {
+                batch.invalid++;
+                if (batch.errors.size() < MAX_SAMPLE_ERRORS) {
+                    batch.errors.add("line " + (firstLine + i) + ": " + e.getMessage());
+                }
+            }
+        }
+        return batch;
+    }
+
+    private static ThreadFactory parserThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "lms-import-parser-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Parsed rows of one batch, or (records == null) the end-of-feed marker
+     */
+    private static final class ParsedBatch {
+        final long sequence;            // For the end marker: total number of batches
+        final List<BookRecord> records;
+        final List<String> errors = new ArrayList<>();
+        int rows;
+        int invalid;
+        String readError;
+
+        ParsedBatch(long sequence, List<BookRecord> records) {
+            this.sequence = sequence;
+            this.records = records;
+        }
+
+        static ParsedBatch end(long totalBatches, String readError) {
+            ParsedBatch end = new ParsedBatch(totalBatches, null);
+            end.readError = readError;
+            return end;
+        }
+
+        boolean isEnd() {
+            return records == null;
+        }
+    }
+
+    /**
+     * Running totals, only touched by the caller thread
+     */
+    private static final class Counts {
+        long rows;
+        long imported;
+        long duplicates;
+        long invalid;
+        final List<String> errors = new ArrayList<>();
+    }
+}
@@ -0,0 +1,72 @@
+package LibrarayManagementSystem.importer;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * CatalogImportMain - Command line bulk import of a vendor feed
+ *
+ * USAGE:
+ * ------
+ *     java -cp core/target/lms-core-1.0-SNAPSHOT.jar LibrarayManagementSystem.importer.CatalogImportMain FEED [options]
+ *
+ *     FEED             .csv (header: title,author,publisher,isbn,copies) or .jsonl
+ *     --data DIR       data directory to import into     (default data)
+ *     --threads N      parser threads                    (default: CPU count)
+ *     --batch N        lines per batch                   (default 2000)
+ *     --strict-isbn    reject rows with an invalid ISBN-10/13 checksum
+ *
+ * Existing books are loaded first, so re-running the same feed imports nothing new.
+ */
+public class CatalogImportMain {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: CatalogImportMain FEED [--data DIR] [--threads N] [--batch N] [--strict-isbn]");
+            return;
+        }
+
+        Path feed = Paths.get(args[0]);
+        String dataDir = "data";
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = BulkCatalogImporter.DEFAULT_BATCH_SIZE;
+        boolean strictIsbn = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--data":
+                    dataDir = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--batch":
+                    batchSize = Integer.parseInt(args[++i]);
+                    break;
+                case "--strict-isbn":
+                    strictIsbn = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        FileRepository repository = new FileRepository(dataDir);
+        BookService.persistIdsTo(repository);
+        BookService bookService = new BookService(repository);
+        bookService.loadFromFile();
+
+        BulkCatalogImporter importer = new BulkCatalogImporter(bookService, threads);
+        importer.setBatchSize(batchSize);
+        importer.setStrictIsbn(strictIsbn);
+
+        System.out.println("📦 Importing " + feed + " with " + threads + " parser thread(s)...");
+        importer.importFile(feed).display();
+        System.out.println("   Catalog size now: " + bookService.getTotalBooksCount());
+
+        Log.getLogger().close();
+    }
+}
@@ -0,0 +1,27 @@
+package LibrarayManagementSystem.importer;
+
+/**
+ * Supported vendor feed formats
+ *
+ * CSV   : header row + one book per line, e.g.
+ *         title,author,publisher,isbn,copies
+ *         "Clean Code, 2nd Ed",Robert Martin,Prentice Hall,978-0132350884,3
+ *
+ * JSONL : one flat JSON object per line, e.g.
+ *         {"title":"Clean Code","author":"Robert Martin","isbn":"9780132350884","copies":3}
+ */
+public enum ImportFormat {
+    CSV,
+    JSONL;
+
+    /**
+     * Guess the format from a file name (.jsonl / .ndjson / .json = JSONL, anything else = CSV)
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson") || lower.endsWith(".json")) {
+            return JSONL;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,104 @@
+package LibrarayManagementSystem.importer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ImportReport - What happened during one bulk import
+ *
+ * rowsRead = imported + duplicates + invalid
+ */
+public class ImportReport {
+
+    private final long rowsRead;
+    private final long imported;
+    private final long duplicates;
+    private final long invalid;
+    private final List<String> sampleErrors;
+    private final long elapsedNanos;
+    private final String readError;
+
+    ImportReport(long rowsRead, long imported, long duplicates, long invalid, List<String> sampleErrors,
+            long elapsedNanos, String readError) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.invalid = invalid;
+        this.sampleErrors = Collections.unmodifiableList(sampleErrors);
+        this.elapsedNanos = elapsedNanos;
+        this.readError = readError;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Rows skipped because the ISBN was already in the catalog or earlier in the feed
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * First few rejected rows as "line N: reason"
+     */
+    public List<String> getSampleErrors() {
+        return sampleErrors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rowsRead * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * @return why reading the feed stopped early, or null if the whole feed was read
+     */
+    public String getReadError() {
+        return readError;
+    }
+
+    public boolean isComplete() {
+        return readError == null;
+    }
+
+    public void display() {
+        System.out.println("\n📦 === Import Report ===");
+        System.out.println("   Rows read:  " + rowsRead);
+        System.out.println("   Imported:   " + imported);
+        System.out.println("   Duplicates: " + duplicates);
+        System.out.println("   Invalid:    " + invalid);
+        System.out.printf("   Time:       %.2f s (%,.0f rows/s)%n", elapsedNanos / 1e9, getRowsPerSecond());
+        if (readError != null) {
+            System.out.println("   ❌ Feed not fully read: " + readError);
+        }
+        for (String error : sampleErrors) {
+            System.out.println("   ⚠️ " + error);
+        }
+        System.out.println("=".repeat(50));
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{"
+                + "rowsRead=" + rowsRead
+                + ", imported=" + imported
+                + ", duplicates=" + duplicates
+                + ", invalid=" + invalid
+                + ", elapsedMillis=" + elapsedNanos / 1_000_000
+                + (readError != null ? ", readError='" + readError + '\'' : "")
+                + '}';
+    }
+}
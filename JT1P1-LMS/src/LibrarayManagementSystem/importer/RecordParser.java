@@ -0,0 +1,379 @@
+package LibrarayManagementSystem.importer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RecordParser - Turns one feed line into a validated BookRecord
+ *
+ * Immutable after construction, so all parser threads share one instance.
+ * Every problem with a row is an IllegalArgumentException whose message is
+ * the reason shown in the import report ("missing title", "bad ISBN" ...).
+ *
+ * LIMITS (kept simple on purpose):
+ * - CSV: quoted fields with "" escapes are fine, but a quoted field may not
+ *   span several lines (the importer streams line by line)
+ * - JSONL: flat objects only - strings, numbers, true/false/null
+ */
+final class RecordParser {
+
+    private static final int NO_COLUMN = -1;
+
+    private final ImportFormat format;
+    private final boolean strictIsbn;
+
+    // CSV column positions (from the header row)
+    private final int titleColumn;
+    private final int authorColumn;
+    private final int publisherColumn;
+    private final int isbnColumn;
+    private final int copiesColumn;
+
+    private RecordParser(ImportFormat format, boolean strictIsbn, int[] columns) {
+        this.format = format;
+        this.strictIsbn = strictIsbn;
+        this.titleColumn = columns[0];
+        this.authorColumn = columns[1];
+        this.publisherColumn = columns[2];
+        this.isbnColumn = columns[3];
+        this.copiesColumn = columns[4];
+    }
+
+    static RecordParser forJsonLines(boolean strictIsbn) {
+        return new RecordParser(ImportFormat.JSONL, strictIsbn,
+                new int[] {NO_COLUMN, NO_COLUMN, NO_COLUMN, NO_COLUMN, NO_COLUMN});
+    }
+
+    /**
+     * @throws IllegalArgumentException if title, author or isbn column is missing
+     */
+    static RecordParser forCsvHeader(String headerLine, boolean strictIsbn) {
+        int[] columns = {NO_COLUMN, NO_COLUMN, NO_COLUMN, NO_COLUMN, NO_COLUMN};
+        List<String> names = splitCsv(stripBom(headerLine));
+        for (int i = 0; i < names.size(); i++) {
+            int field = fieldIndex(names.get(i));
+            if (field != NO_COLUMN) {
+                columns[field] = i;
+            }
+        }
+        if (columns[0] == NO_COLUMN || columns[1] == NO_COLUMN || columns[3] == NO_COLUMN) {
+            throw new IllegalArgumentException("CSV header needs title, author and isbn columns: " + headerLine);
+        }
+        return new RecordParser(ImportFormat.CSV, strictIsbn, columns);
+    }
+
+    /**
+     * Field names accepted by both formats (case-insensitive): title, author,
+     * publisher, isbn, copies / quantity
+     *
+     * @return 0-4 in constructor column order, or NO_COLUMN for unknown names (ignored)
+     */
+    private static int fieldIndex(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "title":
+                return 0;
+            case "author":
+                return 1;
+            case "publisher":
+                return 2;
+            case "isbn":
+                return 3;
+            case "copies":
+            case "quantity":
+                return 4;
+            default:
+                return NO_COLUMN;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException with the reason the row was rejected
+     */
+    BookRecord parse(String line) {
+        if (format == ImportFormat.JSONL) {
+            // Same names as a CSV header; like a repeated column, a later key wins
+            String[] values = new String[5];
+            for (Map.Entry<String, String> field : parseJsonObject(line).entrySet()) {
+                int index = fieldIndex(field.getKey());
+                if (index != NO_COLUMN) {
+                    values[index] = field.getValue();
+                }
+            }
+            return toRecord(values[0], values[1], values[2], values[3], values[4]);
+        }
+        List<String> fields = splitCsv(line);
+        return toRecord(column(fields, titleColumn), column(fields, authorColumn), column(fields, publisherColumn),
+                column(fields, isbnColumn), column(fields, copiesColumn));
+    }
+
+    private static String column(List<String> fields, int index) {
+        return index == NO_COLUMN || index >= fields.size() ? null : fields.get(index);
+    }
+
+    // ==================== VALIDATION ====================
+
+    private BookRecord toRecord(String title, String author, String publisher, String isbn, String copies) {
+        title = trimToNull(title);
+        author = trimToNull(author);
+        if (title == null) {
+            throw new IllegalArgumentException("missing title");
+        }
+        if (author == null) {
+            throw new IllegalArgumentException("missing author");
+        }
+
+        String normalizedIsbn = normalizeIsbn(isbn);
+        if (normalizedIsbn.isEmpty()) {
+            throw new IllegalArgumentException("missing isbn");
+        }
+        if (strictIsbn && !isValidIsbn(normalizedIsbn)) {
+            throw new IllegalArgumentException("bad ISBN checksum: " + isbn);
+        }
+
+        int copyCount = 1;  // Feeds often leave copies empty - one copy is the sensible default
+        String trimmedCopies = trimToNull(copies);
+        if (trimmedCopies != null) {
+            try {
+                copyCount = Integer.parseInt(trimmedCopies);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("copies is not a number: " + copies);
+            }
+            if (copyCount < 0) {
+                throw new IllegalArgumentException("negative copies: " + copies);
+            }
+        }
+
+        String trimmedPublisher = trimToNull(publisher);
+        return new BookRecord(title, author, trimmedPublisher == null ? "" : trimmedPublisher,
+                normalizedIsbn, copyCount);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * "978-0-13-235088-4" → "9780132350884" (same key for the same book, however it is written)
+     */
+    static String normalizeIsbn(String isbn) {
+        if (isbn == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(isbn.length());
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c != '-' && c != ' ') {
+                sb.append(Character.toUpperCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * ISBN-10 (weights 10..1, mod 11, last digit may be X) or ISBN-13 (weights 1,3, mod 10)
+     */
+    static boolean isValidIsbn(String isbn) {
+        if (isbn.length() == 10) {
+            int sum = 0;
+            for (int i = 0; i < 10; i++) {
+                char c = isbn.charAt(i);
+                int digit;
+                if (c >= '0' && c <= '9') {
+                    digit = c - '0';
+                } else if (c == 'X' && i == 9) {
+                    digit = 10;
+                } else {
+                    return false;
+                }
+                sum += digit * (10 - i);
+            }
+            return sum % 11 == 0;
+        }
+        if (isbn.length() == 13) {
+            int sum = 0;
+            for (int i = 0; i < 13; i++) {
+                char c = isbn.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                sum += (c - '0') * (i % 2 == 0 ? 1 : 3);
+            }
+            return sum % 10 == 0;
+        }
+        return false;
+    }
+
+    // ==================== CSV ====================
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    /**
+     * Split one CSV line; quoted fields may contain commas and "" for a quote
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ==================== JSON LINES ====================
+
+    /**
+     * Parse a flat JSON object into field → text value (numbers/booleans as text, null as null)
+     */
+    static Map<String, String> parseJsonObject(String line) {
+        Map<String, String> fields = new LinkedHashMap<>();  // File order
+        int[] pos = {skipSpaces(line, 0)};
+        expect(line, pos, '{');
+        if (peek(line, pos) == '}') {
+            pos[0]++;
+            return fields;
+        }
+        while (true) {
+            String name = readString(line, pos);
+            expect(line, pos, ':');
+            fields.put(name, readValue(line, pos));
+            char next = peek(line, pos);
+            pos[0]++;
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("bad JSON: expected , or } at " + (pos[0] - 1));
+            }
+        }
+        if (skipSpaces(line, pos[0]) != line.length()) {
+            throw new IllegalArgumentException("bad JSON: text after object");
+        }
+        return fields;
+    }
+
+    private static int skipSpaces(String line, int i) {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static char peek(String line, int[] pos) {
+        pos[0] = skipSpaces(line, pos[0]);
+        if (pos[0] >= line.length()) {
+            throw new IllegalArgumentException("bad JSON: unexpected end of line");
+        }
+        return line.charAt(pos[0]);
+    }
+
+    private static void expect(String line, int[] pos, char expected) {
+        if (peek(line, pos) != expected) {
+            throw new IllegalArgumentException("bad JSON: expected " + expected + " at " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    private static String readValue(String line, int[] pos) {
+        char c = peek(line, pos);
+        if (c == '"') {
+            return readString(line, pos);
+        }
+        if (c == '{' || c == '[') {
+            throw new IllegalArgumentException("bad JSON: nested values are not supported");
+        }
+        int start = pos[0];
+        while (pos[0] < line.length() && ",}".indexOf(line.charAt(pos[0])) < 0
+                && !Character.isWhitespace(line.charAt(pos[0]))) {
+            pos[0]++;
+        }
+        String literal = line.substring(start, pos[0]);
+        if (literal.isEmpty()) {
+            throw new IllegalArgumentException("bad JSON: missing value at " + start);
+        }
+        return literal.equals("null") ? null : literal;
+    }
+
+    private static String readString(String line, int[] pos) {
+        expect(line, pos, '"');
+        StringBuilder sb = new StringBuilder();
+        while (pos[0] < line.length()) {
+            char c = line.charAt(pos[0]++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos[0] >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(pos[0]++);
+            switch (escaped) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    if (pos[0] + 4 > line.length()) {
+                        throw new IllegalArgumentException("bad JSON: short \\u escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(line.substring(pos[0], pos[0] + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("bad JSON: bad \\u escape");
+                    }
+                    pos[0] += 4;
+                    break;
+                default:
+                    sb.append(escaped);  // \" \\ \/
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("bad JSON: unterminated string");
+    }
+}
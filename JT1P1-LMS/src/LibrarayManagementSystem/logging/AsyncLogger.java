@@ -0,0 +1,227 @@
+package LibrarayManagementSystem.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AsyncLogger - Hands events to a background thread through a bounded buffer
+ *
+ * CALLER SIDE (hot path):
+ * -----------------------
+ * - Level check, then one small Event object offered to an ArrayBlockingQueue
+ * - No string formatting, no I/O, never blocks
+ * - If the buffer is full the event is DROPPED and counted (getDroppedCount),
+ *   so a slow disk can never slow down issueBook()
+ *
+ * WRITER THREAD:
+ * --------------
+ * - Drains events in batches, formats them as
+ *   "2026-01-01T10:00:00.123Z INFO  ✅ Book added: Clean Code"
+ * - Writes through a BufferedWriter and flushes once per batch
+ *
+ * AFTER close():
+ * --------------
+ * The writer thread is gone, so events are written synchronously on the
+ * caller's thread instead of being queued (and lost).
+ */
+public class AsyncLogger implements EventLogger {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int BATCH = 256;
+
+    private static final class Event {
+        final long timeMillis;
+        final LogLevel level;
+        final String template;
+        final int argCount;
+        final Object arg0;
+        final Object arg1;
+        final Object arg2;
+
+        Event(long timeMillis, LogLevel level, String template, int argCount, Object arg0, Object arg1,
+                Object arg2) {
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.template = template;
+            this.argCount = argCount;
+            this.arg0 = arg0;
+            this.arg1 = arg1;
+            this.arg2 = arg2;
+        }
+    }
+
+    private final LogLevel minLevel;
+    private final BlockingQueue<Event> buffer;
+    private final Writer writer;
+    private final Thread writerThread;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();   // Written or failed
+    private volatile boolean running = true;
+
+    // flush() parks on this until the writer thread reports progress
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition progressMade = progressLock.newCondition();
+
+    public AsyncLogger(LogLevel minLevel, OutputStream out) {
+        this(minLevel, out, DEFAULT_CAPACITY);
+    }
+
+    public AsyncLogger(LogLevel minLevel, OutputStream out, int capacity) {
+        this.minLevel = minLevel;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.writerThread = new Thread(this::drainLoop, "lms-async-logger");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(minLevel) >= 0 && level != LogLevel.OFF;
+    }
+
+    @Override
+    public void log(LogLevel level, String template, int argCount, Object arg0, Object arg1, Object arg2) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        Event event = new Event(System.currentTimeMillis(), level, template, argCount, arg0, arg1, arg2);
+        if (!running) {
+            List<Event> late = new ArrayList<>(1);
+            late.add(event);
+            write(late, new StringBuilder(256));
+            return;
+        }
+        if (buffer.offer(event)) {
+            accepted.incrementAndGet();
+            if (!running) {
+                // close() started meanwhile: the writer thread may already have seen
+                // an empty buffer and exited, so don't leave the event behind
+                drainRemaining();
+            }
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(BATCH);
+        StringBuilder line = new StringBuilder(256);
+        while (running || !buffer.isEmpty()) {
+            try {
+                Event first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, BATCH - 1);
+                write(batch, line);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        }
+    }
+
+    // Whatever is still queued, written on the caller's thread
+    private void drainRemaining() {
+        List<Event> batch = new ArrayList<>();
+        buffer.drainTo(batch);
+        if (!batch.isEmpty()) {
+            write(batch, new StringBuilder(256));
+        }
+    }
+
+    // Format, write and flush one batch, then clear it. Locked on the writer:
+    // after close() the writer thread and late callers may both get here.
+    private void write(List<Event> batch, StringBuilder line) {
+        synchronized (writer) {
+            try {
+                for (Event event : batch) {
+                    line.setLength(0);
+                    line.append(Instant.ofEpochMilli(event.timeMillis)).append(' ');
+                    line.append(String.format("%-5s ", event.level));
+                    EventLogger.format(line, event.template, event.argCount, event.arg0, event.arg1, event.arg2);
+                    line.append(System.lineSeparator());
+                    writer.append(line);
+                }
+                writer.flush();
+                written.addAndGet(batch.size());
+            } catch (IOException e) {
+                // Nowhere left to report to - count the batch as dropped and keep going
+                dropped.addAndGet(batch.size());
+            }
+        }
+        processed.addAndGet(batch.size());
+        batch.clear();
+        signalProgress();
+    }
+
+    private void signalProgress() {
+        progressLock.lock();
+        try {
+            progressMade.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    /**
+     * Wait (up to 5 s) until everything logged so far has been written
+     */
+    @Override
+    public void flush() {
+        long remaining = TimeUnit.SECONDS.toNanos(5);
+        long target = accepted.get();
+        progressLock.lock();
+        try {
+            while (processed.get() < target && remaining > 0) {
+                remaining = progressMade.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainRemaining();  // The writer thread timed out, or an event slipped in as it exited
+        try {
+            synchronized (writer) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error flushing log output: " + e.getMessage());
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+}
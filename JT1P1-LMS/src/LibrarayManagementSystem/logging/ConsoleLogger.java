@@ -0,0 +1,41 @@
+package LibrarayManagementSystem.logging;
+
+import java.io.PrintStream;
+
+/**
+ * ConsoleLogger - Prints each event immediately (interactive demo default)
+ *
+ * Same output as the old System.out.println calls: just the message,
+ * ERROR goes to stderr. Synchronous - the caller pays for the I/O.
+ */
+public class ConsoleLogger implements EventLogger {
+
+    private final LogLevel minLevel;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public ConsoleLogger(LogLevel minLevel) {
+        this(minLevel, System.out, System.err);
+    }
+
+    public ConsoleLogger(LogLevel minLevel, PrintStream out, PrintStream err) {
+        this.minLevel = minLevel;
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(minLevel) >= 0 && level != LogLevel.OFF;
+    }
+
+    @Override
+    public void log(LogLevel level, String template, int argCount, Object arg0, Object arg1, Object arg2) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(template.length() + 32);
+        EventLogger.format(message, template, argCount, arg0, arg1, arg2);
+        (level == LogLevel.ERROR ? err : out).println(message);
+    }
+}
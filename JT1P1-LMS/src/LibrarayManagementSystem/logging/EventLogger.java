@@ -0,0 +1,50 @@
+package LibrarayManagementSystem.logging;
+
+/**
+ * EventLogger - Pluggable destination for service log events
+ *
+ * Messages are TEMPLATES with "{}" placeholders plus up to three arguments.
+ * The template is only formatted if (and when) the event is actually written,
+ * so a disabled level costs one isEnabled() check and nothing else.
+ *
+ * Implementations: ConsoleLogger (synchronous), AsyncLogger (background thread),
+ * NoOpLogger (silent).
+ */
+public interface EventLogger {
+
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * @param argCount how many of arg0..arg2 are used
+     */
+    void log(LogLevel level, String template, int argCount, Object arg0, Object arg1, Object arg2);
+
+    /**
+     * Write out anything still buffered (no-op for synchronous loggers)
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flush and release resources; the logger must not be used afterwards
+     */
+    default void close() {
+        flush();
+    }
+
+    /**
+     * Replace each "{}" in template with the next argument
+     */
+    static void format(StringBuilder out, String template, int argCount, Object arg0, Object arg1, Object arg2) {
+        int argIndex = 0;
+        int from = 0;
+        int at;
+        while (argIndex < argCount && (at = template.indexOf("{}", from)) >= 0) {
+            out.append(template, from, at);
+            out.append(argIndex == 0 ? arg0 : argIndex == 1 ? arg1 : arg2);
+            argIndex++;
+            from = at + 2;
+        }
+        out.append(template, from, template.length());
+    }
+}
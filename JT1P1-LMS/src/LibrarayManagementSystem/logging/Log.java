@@ -0,0 +1,117 @@
+package LibrarayManagementSystem.logging;
+
+/**
+ * Log - Static facade the services log through
+ *
+ * USAGE:
+ * ------
+ *     Log.info("✅ Book added: {}", book.getBookTitle());
+ *
+ * The arguments are passed as-is; "{}" is only filled in when the event is
+ * written, and not at all if the level is disabled.
+ *
+ * CONFIGURATION (system properties):
+ * ----------------------------------
+ * -Dlms.log=console|async|off   choose the logger (async writes to stdout)
+ * -Dlms.log.level=DEBUG|INFO|WARN|ERROR
+ * -Dlms.mode=server             default becomes "off" instead of "console"
+ *
+ * Or plug in any EventLogger with Log.setLogger(...).
+ */
+public final class Log {
+
+    private static volatile EventLogger logger = createDefault();
+
+    private Log() {
+    }
+
+    private static EventLogger createDefault() {
+        boolean serverMode = "server".equalsIgnoreCase(System.getProperty("lms.mode"));
+        String kind = System.getProperty("lms.log", serverMode ? "off" : "console");
+        LogLevel level = LogLevel.valueOf(System.getProperty("lms.log.level", "INFO").toUpperCase());
+
+        switch (kind.toLowerCase()) {
+            case "off":
+                return NoOpLogger.INSTANCE;
+            case "async":
+                return new AsyncLogger(level, System.out);
+            default:
+                return new ConsoleLogger(level);
+        }
+    }
+
+    public static EventLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Swap the logger; the previous one is flushed and closed
+     */
+    public static void setLogger(EventLogger newLogger) {
+        EventLogger previous = logger;
+        logger = newLogger;
+        if (previous != newLogger) {
+            previous.close();
+        }
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return logger.isEnabled(level);
+    }
+
+    // ==================== INFO ====================
+
+    public static void info(String message) {
+        logger.log(LogLevel.INFO, message, 0, null, null, null);
+    }
+
+    public static void info(String template, Object arg0) {
+        logger.log(LogLevel.INFO, template, 1, arg0, null, null);
+    }
+
+    public static void info(String template, Object arg0, Object arg1) {
+        logger.log(LogLevel.INFO, template, 2, arg0, arg1, null);
+    }
+
+    public static void info(String template, Object arg0, Object arg1, Object arg2) {
+        logger.log(LogLevel.INFO, template, 3, arg0, arg1, arg2);
+    }
+
+    // ==================== WARN ====================
+
+    public static void warn(String message) {
+        logger.log(LogLevel.WARN, message, 0, null, null, null);
+    }
+
+    public static void warn(String template, Object arg0) {
+        logger.log(LogLevel.WARN, template, 1, arg0, null, null);
+    }
+
+    public static void warn(String template, Object arg0, Object arg1) {
+        logger.log(LogLevel.WARN, template, 2, arg0, arg1, null);
+    }
+
+    public static void warn(String template, Object arg0, Object arg1, Object arg2) {
+        logger.log(LogLevel.WARN, template, 3, arg0, arg1, arg2);
+    }
+
+    // ==================== ERROR ====================
+
+    public static void error(String message) {
+        logger.log(LogLevel.ERROR, message, 0, null, null, null);
+    }
+
+    public static void error(String template, Object arg0) {
+        logger.log(LogLevel.ERROR, template, 1, arg0, null, null);
+    }
+
+    public static void error(String template, Object arg0, Object arg1) {
+        logger.log(LogLevel.ERROR, template, 2, arg0, arg1, null);
+    }
+
+    // ==================== DEBUG ====================
+
+    public static void debug(String template, Object arg0) {
+        logger.log(LogLevel.DEBUG, template, 1, arg0, null, null);
+    }
+}
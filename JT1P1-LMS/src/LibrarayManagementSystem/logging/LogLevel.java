@@ -0,0 +1,8 @@
+package LibrarayManagementSystem.logging;
+
+/**
+ * Log levels, lowest to highest. OFF disables everything.
+ */
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR, OFF
+}
@@ -0,0 +1,21 @@
+package LibrarayManagementSystem.logging;
+
+/**
+ * NoOpLogger - Drops everything (server mode default)
+ */
+public final class NoOpLogger implements EventLogger {
+
+    public static final NoOpLogger INSTANCE = new NoOpLogger();
+
+    private NoOpLogger() {
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return false;
+    }
+
+    @Override
+    public void log(LogLevel level, String template, int argCount, Object arg0, Object arg1, Object arg2) {
+    }
+}
@@ -0,0 +1,117 @@
+package LibrarayManagementSystem.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram - Lock-free, HDR-style latency histogram (nanoseconds)
+ *
+ * BUCKET LAYOUT (log-linear, like HdrHistogram):
+ * ----------------------------------------------
+ * - Values 0..31 get one bucket each
+ * - Every power-of-two range above that is split into 32 equal sub-buckets
+ *
+ * So any recorded value is reported with at most ~3% error, from 1 ns up to
+ * Long.MAX_VALUE, using a fixed array of ~1900 counters.
+ *
+ * record() is one AtomicLongArray increment + two LongAdder adds + a max CAS
+ * that only runs when a new maximum is seen - no locks anywhere.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;   // 32
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Highest value that maps to the same bucket as index
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + mantissa + 1) << shift) - 1;
+    }
+
+    public void record(long nanos) {
+        counts.incrementAndGet(indexOf(nanos));
+        totalCount.increment();
+        totalNanos.add(nanos);
+
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Value at the given percentile (0..100), e.g. 99.9 for p999
+     *
+     * Reads the buckets without stopping writers, so the result is a
+     * consistent-enough snapshot for monitoring, not an exact cut.
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0.0 : (double) totalNanos.sum() / count;
+    }
+
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Clear all counts (concurrent records may land on either side of the reset)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+    }
+}
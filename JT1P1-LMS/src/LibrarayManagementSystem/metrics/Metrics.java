@@ -0,0 +1,116 @@
+package LibrarayManagementSystem.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Metrics - Registry of per-operation latency metrics, exposed over JMX
+ *
+ * OFF SWITCH:
+ * -----------
+ * Run with -Dlms.metrics=false to disable. ENABLED is a static final constant,
+ * so the JIT removes the timing code completely - no System.nanoTime() calls,
+ * no histogram writes.
+ *
+ * JMX:
+ * ----
+ * registerMBeans() publishes each operation as
+ *     LibrarayManagementSystem:type=Operation,name=<operation>
+ * Open JConsole → MBeans tab to see count, p50, p99, p999, max.
+ */
+public final class Metrics {
+
+    public static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("lms.metrics", "true"));
+
+    private static final String DOMAIN = "LibrarayManagementSystem";
+
+    // LibraryService
+    public static final OperationMetrics ISSUE_BOOK = new OperationMetrics("issueBook");
+    public static final OperationMetrics RETURN_BOOK = new OperationMetrics("returnBook");
+
+    // BookService
+    public static final OperationMetrics ADD_BOOK = new OperationMetrics("addBook");
+    public static final OperationMetrics REMOVE_BOOK = new OperationMetrics("removeBook");
+    public static final OperationMetrics FIND_BOOK_BY_ID = new OperationMetrics("findBookById");
+    public static final OperationMetrics FIND_BOOKS_BY_IDS = new OperationMetrics("findBooksByIds");
+    public static final OperationMetrics FIND_BOOKS_BY_TITLE = new OperationMetrics("findBooksByTitle");
+    public static final OperationMetrics FIND_BOOKS_BY_AUTHOR = new OperationMetrics("findBooksByAuthor");
+    public static final OperationMetrics COUNT_BOOKS_BY_AUTHOR = new OperationMetrics("countBooksByAuthor");
+    public static final OperationMetrics COUNT_BOOKS_BY_PUBLISHER = new OperationMetrics("countBooksByPublisher");
+
+    // MemberService
+    public static final OperationMetrics FIND_MEMBERS_BY_PHONE = new OperationMetrics("findMembersByPhonePrefix");
+    public static final OperationMetrics FIND_MEMBERS_BY_NAME = new OperationMetrics("findMembersByName");
+
+    // CatalogAnalytics
+    public static final OperationMetrics CATALOG_REPORT = new OperationMetrics("catalogReport");
+
+    // ReportExporter
+    public static final OperationMetrics EXPORT_REPORT = new OperationMetrics("exportReport");
+
+    // LibraryRepository (FileRepository or JdbcRepository)
+    public static final OperationMetrics SAVE_BOOKS = new OperationMetrics("saveBooks");
+    public static final OperationMetrics LOAD_BOOKS = new OperationMetrics("loadBooks");
+    public static final OperationMetrics SAVE_MEMBERS = new OperationMetrics("saveMembers");
+    public static final OperationMetrics LOAD_MEMBERS = new OperationMetrics("loadMembers");
+
+    private static final List<OperationMetrics> ALL = List.of(
+            ISSUE_BOOK, RETURN_BOOK,
+            ADD_BOOK, REMOVE_BOOK, FIND_BOOK_BY_ID, FIND_BOOKS_BY_IDS, FIND_BOOKS_BY_TITLE, FIND_BOOKS_BY_AUTHOR,
+            COUNT_BOOKS_BY_AUTHOR, COUNT_BOOKS_BY_PUBLISHER,
+            FIND_MEMBERS_BY_PHONE, FIND_MEMBERS_BY_NAME,
+            CATALOG_REPORT, EXPORT_REPORT,
+            SAVE_BOOKS, LOAD_BOOKS, SAVE_MEMBERS, LOAD_MEMBERS);
+
+    private Metrics() {
+    }
+
+    /**
+     * Start timestamp for an operation (0 when metrics are disabled)
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    public static List<OperationMetrics> all() {
+        return ALL;
+    }
+
+    /**
+     * Register every operation as an MBean on the platform MBean server
+     * (safe to call more than once)
+     */
+    public static void registerMBeans() {
+        if (!ENABLED) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics metrics : ALL) {
+            try {
+                ObjectName objectName = new ObjectName(DOMAIN + ":type=Operation,name=" + metrics.getName());
+                if (!server.isRegistered(objectName)) {
+                    server.registerMBean(metrics, objectName);
+                }
+            } catch (JMException e) {
+                System.err.println("❌ Error registering metrics for " + metrics.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Print a one-line summary per operation that has been called
+     */
+    public static void displaySummary() {
+        System.out.println("\n⏱️ === Operation Latency ===");
+        for (OperationMetrics metrics : ALL) {
+            if (metrics.getCount() > 0) {
+                System.out.println("   " + metrics);
+            }
+        }
+        System.out.println("=".repeat(50));
+    }
+}
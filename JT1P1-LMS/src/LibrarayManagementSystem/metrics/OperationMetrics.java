@@ -0,0 +1,92 @@
+package LibrarayManagementSystem.metrics;
+
+/**
+ * OperationMetrics - Latency histogram + call counter for one operation
+ *
+ * USAGE:
+ * ------
+ *     long start = Metrics.start();
+ *     try {
+ *         ... operation ...
+ *     } finally {
+ *         Metrics.ISSUE_BOOK.record(start);
+ *     }
+ *
+ * When metrics are disabled, start() returns 0 and record() returns at once.
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private volatile long resetAtNanos = System.nanoTime();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record one call that started at startNanos (from Metrics.start())
+     */
+    public void record(long startNanos) {
+        if (!Metrics.ENABLED) {
+            return;
+        }
+        histogram.record(System.nanoTime() - startNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public double getThroughputPerSecond() {
+        double seconds = (System.nanoTime() - resetAtNanos) / 1e9;
+        return seconds <= 0 ? 0.0 : histogram.getCount() / seconds;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return histogram.getMean() / 1_000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return histogram.percentile(50.0) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return histogram.percentile(99.0) / 1_000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return histogram.percentile(99.9) / 1_000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return histogram.getMax() / 1_000.0;
+    }
+
+    @Override
+    public void reset() {
+        histogram.reset();
+        resetAtNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-20s count=%d p50=%.1fµs p99=%.1fµs p999=%.1fµs max=%.1fµs",
+                name, getCount(), getP50Micros(), getP99Micros(), getP999Micros(), getMaxMicros());
+    }
+}
@@ -0,0 +1,25 @@
+package LibrarayManagementSystem.metrics;
+
+/**
+ * JMX view of one operation's metrics (visible in JConsole / VisualVM)
+ *
+ * Latencies are in microseconds; throughput is calls per second since the last reset.
+ */
+public interface OperationMetricsMBean {
+
+    long getCount();
+
+    double getThroughputPerSecond();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
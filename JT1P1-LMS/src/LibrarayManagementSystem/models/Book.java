@@ -1,17 +1,52 @@
 package LibrarayManagementSystem.models;
 
-import LibrarayManagementSystem.exception.BookNotFoundException;
+import LibrarayManagementSystem.utils.IdAllocator;
+import LibrarayManagementSystem.utils.StringDictionary;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
+/**
+ * Book - One title in the catalog
+ *
+ * DICTIONARY ENCODING:
+ * --------------------
+ * Author and publisher repeat across thousands of books, so they are stored
+ * as int IDs from StringDictionary.AUTHORS / PUBLISHERS. The getters still
+ * return Strings (the one canonical copy); getBookAuthorId() /
+ * getBookPublisherId() expose the IDs for fast group-by.
+ *
+ * SERIALIZATION:
+ * --------------
+ * books.dat stores the IDs (FileRepository writes the tables once, before
+ * the books). Files written before encoding stored the Strings - readObject()
+ * still accepts those.
+ */
 public class Book implements Serializable {
     
     private static final long serialVersionUID = 1L;  // For version control
 
-    private static long bookIdCounter = 0L;
+    // Stream layout: the encoded IDs + the legacy String fields (read-only, for old files)
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("bookId", long.class),
+            new ObjectStreamField("bookTitle", String.class),
+            new ObjectStreamField("bookAuthorId", int.class),
+            new ObjectStreamField("bookPublisherId", int.class),
+            new ObjectStreamField("bookISBN", String.class),
+            new ObjectStreamField("bookCopiesTotal", int.class),
+            new ObjectStreamField("bookCopiesAvailable", int.class),
+            new ObjectStreamField("bookAvailable", boolean.class),
+            new ObjectStreamField("bookAuthor", String.class),
+            new ObjectStreamField("bookPublisher", String.class)
+    };
+
     private long bookId;
     private String bookTitle;
-    private String bookAuthor;
-    private String bookPublisher;
+    private int bookAuthorId = StringDictionary.NULL_ID;
+    private int bookPublisherId = StringDictionary.NULL_ID;
     private String bookISBN;
     private int bookCopiesTotal;
     private int bookCopiesAvailable;
@@ -24,10 +59,26 @@ public class Book implements Serializable {
     // constructor of book class
     public Book(String bookTitle, String bookAuthor, String bookPublisher, String bookISBN, int bookCopies,
             boolean bookAvailable) {
-        this.bookId = ++bookIdCounter;
+        this.bookId = IdAllocator.BOOKS.nextId();
+        this.bookTitle = bookTitle;
+        this.bookAuthorId = StringDictionary.AUTHORS.encode(bookAuthor);
+        this.bookPublisherId = StringDictionary.PUBLISHERS.encode(bookPublisher);
+        this.bookISBN = bookISBN;
+        bookCopiesAvailable = bookCopies;
+        bookCopiesTotal = bookCopies;
+        this.bookAvailable = bookAvailable;
+    }
+
+    /**
+     * Rebuild a book that already has an ID (e.g. read back from storage)
+     * Does NOT take a new ID from IdAllocator
+     */
+    public Book(long bookId, String bookTitle, String bookAuthor, String bookPublisher, String bookISBN,
+            int bookCopies, boolean bookAvailable) {
+        this.bookId = bookId;
         this.bookTitle = bookTitle;
-        this.bookAuthor = bookAuthor;
-        this.bookPublisher = bookPublisher;
+        this.bookAuthorId = StringDictionary.AUTHORS.encode(bookAuthor);
+        this.bookPublisherId = StringDictionary.PUBLISHERS.encode(bookPublisher);
         this.bookISBN = bookISBN;
         bookCopiesAvailable = bookCopies;
         bookCopiesTotal = bookCopies;
@@ -38,10 +89,10 @@ public class Book implements Serializable {
         return bookAvailable;
     }
 
-    public long getBookId() throws BookNotFoundException {
-        if (bookId <= 0) {
-            throw new BookNotFoundException("Book ID is not set or invalid.");
-        }
+    /**
+     * @return book ID, or 0 if not set (default constructor)
+     */
+    public long getBookId() {
         return bookId;
     }
 
@@ -54,19 +105,33 @@ public class Book implements Serializable {
     }
 
     public String getBookAuthor() {
-        return bookAuthor;
+        return StringDictionary.AUTHORS.decode(getBookAuthorId());
     }
 
     public void setBookAuthor(String bookAuthor) {
-        this.bookAuthor = bookAuthor;
+        this.bookAuthorId = StringDictionary.AUTHORS.encode(bookAuthor);
+    }
+
+    /**
+     * @return author ID in StringDictionary.AUTHORS (NULL_ID if no author)
+     */
+    public int getBookAuthorId() {
+        return bookAuthorId;
     }
 
     public String getBookPublisher() {
-        return bookPublisher;
+        return StringDictionary.PUBLISHERS.decode(getBookPublisherId());
     }
 
     public void setBookPublisher(String bookPublisher) {
-        this.bookPublisher = bookPublisher;
+        this.bookPublisherId = StringDictionary.PUBLISHERS.encode(bookPublisher);
+    }
+
+    /**
+     * @return publisher ID in StringDictionary.PUBLISHERS (NULL_ID if no publisher)
+     */
+    public int getBookPublisherId() {
+        return bookPublisherId;
     }
 
     public String getBookISBN() {
@@ -128,10 +193,44 @@ public class Book implements Serializable {
         return "Book{" +
                 "bookId=" + bookId +
                 ", title='" + bookTitle + '\'' +
-                ", author='" + bookAuthor + '\'' +
+                ", author='" + getBookAuthor() + '\'' +
                 ", ISBN='" + bookISBN + '\'' +
                 ", available=" + bookCopiesAvailable + "/" + bookCopiesTotal +
                 '}';
     }
 
+    // ==================== SERIALIZATION ====================
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("bookId", bookId);
+        fields.put("bookTitle", bookTitle);
+        fields.put("bookAuthorId", bookAuthorId);
+        fields.put("bookPublisherId", bookPublisherId);
+        fields.put("bookISBN", bookISBN);
+        fields.put("bookCopiesTotal", bookCopiesTotal);
+        fields.put("bookCopiesAvailable", bookCopiesAvailable);
+        fields.put("bookAvailable", bookAvailable);
+        out.writeFields();  // Legacy bookAuthor / bookPublisher stay null
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        bookId = fields.get("bookId", 0L);
+        bookTitle = (String) fields.get("bookTitle", null);
+        bookISBN = (String) fields.get("bookISBN", null);
+        bookCopiesTotal = fields.get("bookCopiesTotal", 0);
+        bookCopiesAvailable = fields.get("bookCopiesAvailable", 0);
+        bookAvailable = fields.get("bookAvailable", false);
+
+        if (fields.defaulted("bookAuthorId")) {
+            // Old file: Strings in the stream, encode them now
+            bookAuthorId = StringDictionary.AUTHORS.encode((String) fields.get("bookAuthor", null));
+            bookPublisherId = StringDictionary.PUBLISHERS.encode((String) fields.get("bookPublisher", null));
+        } else {
+            bookAuthorId = StringDictionary.AUTHORS.fromSaved(fields.get("bookAuthorId", StringDictionary.NULL_ID));
+            bookPublisherId = StringDictionary.PUBLISHERS.fromSaved(
+                    fields.get("bookPublisherId", StringDictionary.NULL_ID));
+        }
+    }
 }
@@ -4,13 +4,12 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import LibrarayManagementSystem.exception.MemberNotFoundException;
+import LibrarayManagementSystem.utils.IdAllocator;
 
 public class Member implements Serializable {
 
     private static final long serialVersionUID = 1L; // For version control
 
-    private static long memberIdCounter = 0L;
     private long memberId;
     private String memberName;
     private String memberPhone;
@@ -21,17 +20,28 @@ public class Member implements Serializable {
     }
 
     public Member(String memberName, String memberPhone) {
-        this.memberId = ++memberIdCounter;
+        this.memberId = IdAllocator.MEMBERS.nextId();
         this.memberName = memberName;
         this.memberPhone = memberPhone;
         this.borrowedBookIds = new ArrayList<>();
     }
 
+    /**
+     * Rebuild a member that already has an ID (e.g. received from a replication primary)
+     * Does NOT take a new ID from IdAllocator
+     */
+    public Member(long memberId, String memberName, String memberPhone, List<Long> borrowedBookIds) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.memberPhone = memberPhone;
+        this.borrowedBookIds = new ArrayList<>(borrowedBookIds);
+    }
+
     // getter setter
-    public Long getMemberId() throws MemberNotFoundException {
-        if (memberId <= 0) {
-            throw new MemberNotFoundException("Member ID is not set or invalid.");
-        }
+    /**
+     * @return member ID, or 0 if not set (default constructor)
+     */
+    public long getMemberId() {
         return memberId;
     }
 
@@ -56,6 +66,17 @@ public class Member implements Serializable {
         return borrowedBookIds;
     }
 
+    /**
+     * Borrowed IDs as a primitive array, ready for BookService.findBooksByIds()
+     */
+    public long[] getBorrowedBookIdArray() {
+        long[] ids = new long[borrowedBookIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = borrowedBookIds.get(i);
+        }
+        return ids;
+    }
+
     /**
      * Add a book ID to member's borrowed list
      */
@@ -0,0 +1,51 @@
+package LibrarayManagementSystem.replication;
+
+/**
+ * FollowerStatus - The primary's view of one connected follower
+ */
+public class FollowerStatus {
+
+    private final String address;
+    private final long ackedSeq;
+    private final long recordsBehind;
+    private final long millisSinceAck;
+
+    FollowerStatus(String address, long ackedSeq, long recordsBehind, long millisSinceAck) {
+        this.address = address;
+        this.ackedSeq = ackedSeq;
+        this.recordsBehind = recordsBehind;
+        this.millisSinceAck = millisSinceAck;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Newest sequence number the follower says it has applied
+     */
+    public long getAckedSeq() {
+        return ackedSeq;
+    }
+
+    /**
+     * Primary head - acked seq (0 = fully caught up)
+     */
+    public long getRecordsBehind() {
+        return recordsBehind;
+    }
+
+    public long getMillisSinceAck() {
+        return millisSinceAck;
+    }
+
+    @Override
+    public String toString() {
+        return "FollowerStatus{"
+                + "address=" + address
+                + ", ackedSeq=" + ackedSeq
+                + ", recordsBehind=" + recordsBehind
+                + ", millisSinceAck=" + millisSinceAck
+                + '}';
+    }
+}
@@ -0,0 +1,197 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutation - One frame of the replication stream
+ *
+ * WIRE FORMAT:
+ * ------------
+ *     byte type | long seq | long timestampMicros | int payloadLength | payload
+ *
+ * timestampMicros = primary wall clock when the change was logged; followers
+ * on the same host subtract it from their own clock to get replication lag.
+ *
+ *     BOOK_PUT      id, title, author, publisher, isbn, copiesTotal, copiesAvailable, available
+ *     BOOK_REMOVE   id
+ *     MEMBER_PUT    id, name, phone, borrowedCount, borrowed IDs...
+ *     MEMBER_REMOVE id
+ *
+ * The payload is encoded ONCE on the primary and the same bytes are sent
+ * to every follower.
+ */
+public final class Mutation {
+
+    private final MutationType type;
+    private final long seq;
+    private final long timestampMicros;
+    private final long entityId;
+    private final byte[] payload;
+
+    private Mutation(MutationType type, long seq, long timestampMicros, long entityId, byte[] payload) {
+        this.type = type;
+        this.seq = seq;
+        this.timestampMicros = timestampMicros;
+        this.entityId = entityId;
+        this.payload = payload;
+    }
+
+    /**
+     * Wall clock in microseconds (comparable between JVMs on one host)
+     */
+    static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    // ==================== ENCODING (primary) ====================
+
+    static Mutation bookPut(long seq, long timestampMicros, Book book) {
+        return new Mutation(MutationType.BOOK_PUT, seq, timestampMicros, book.getBookId(), encode(out -> {
+            out.writeLong(book.getBookId());
+            writeString(out, book.getBookTitle());
+            writeString(out, book.getBookAuthor());
+            writeString(out, book.getBookPublisher());
+            writeString(out, book.getBookISBN());
+            out.writeInt(book.getBookCopiesTotal());
+            out.writeInt(book.getBookCopiesAvailable());
+            out.writeBoolean(book.isBookAvailable());
+        }));
+    }
+
+    static Mutation memberPut(long seq, long timestampMicros, Member member) {
+        return new Mutation(MutationType.MEMBER_PUT, seq, timestampMicros, member.getMemberId(), encode(out -> {
+            out.writeLong(member.getMemberId());
+            writeString(out, member.getMemberName());
+            writeString(out, member.getMemberPhone());
+            List<Long> borrowed = member.getBorrowedBookIds();
+            out.writeInt(borrowed.size());
+            for (long bookId : borrowed) {
+                out.writeLong(bookId);
+            }
+        }));
+    }
+
+    static Mutation remove(MutationType type, long seq, long timestampMicros, long entityId) {
+        return new Mutation(type, seq, timestampMicros, entityId, encode(out -> out.writeLong(entityId)));
+    }
+
+    static Mutation control(MutationType type, long seq, long timestampMicros) {
+        return new Mutation(type, seq, timestampMicros, 0L, new byte[0]);
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(PayloadWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // In-memory stream: cannot happen
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // ==================== WIRE ====================
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeByte(type.code);
+        out.writeLong(seq);
+        out.writeLong(timestampMicros);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    static Mutation readFrom(DataInputStream in) throws IOException {
+        MutationType type = MutationType.fromCode(in.readByte());
+        long seq = in.readLong();
+        long timestampMicros = in.readLong();
+        byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+        return new Mutation(type, seq, timestampMicros, 0L, payload);
+    }
+
+    // ==================== APPLY (follower) ====================
+
+    void applyTo(BookService bookService, MemberService memberService) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        switch (type) {
+            case BOOK_PUT: {
+                long id = in.readLong();
+                Book book = new Book(id, readString(in), readString(in), readString(in), readString(in),
+                        in.readInt(), false);
+                book.setBookCopiesAvailable(in.readInt());
+                book.setBookAvailable(in.readBoolean());
+                bookService.putReplicated(book);
+                break;
+            }
+            case BOOK_REMOVE:
+                bookService.removeReplicated(in.readLong());
+                break;
+            case MEMBER_PUT: {
+                long id = in.readLong();
+                String name = readString(in);
+                String phone = readString(in);
+                int count = in.readInt();
+                List<Long> borrowed = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    borrowed.add(in.readLong());
+                }
+                memberService.putReplicated(new Member(id, name, phone, borrowed));
+                break;
+            }
+            case MEMBER_REMOVE:
+                memberService.removeReplicated(in.readLong());
+                break;
+            default:
+                break;  // Control frames carry no state
+        }
+    }
+
+    /**
+     * Key for log compaction: books and members never collide
+     */
+    long compactionKey() {
+        boolean member = type == MutationType.MEMBER_PUT || type == MutationType.MEMBER_REMOVE;
+        return member ? -entityId : entityId;
+    }
+
+    public MutationType getType() {
+        return type;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public long getTimestampMicros() {
+        return timestampMicros;
+    }
+}
@@ -0,0 +1,94 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * MutationLog - The primary's ordered change log, compacted per entity
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - append*() gives every change the next sequence number and encodes it once
+ * - COMPACTION: only the newest PUT per book/member is kept (a REMOVE drops
+ *   the entry), so the log never grows beyond one frame per live entity
+ * - A new follower gets the compacted log as its snapshot, then every
+ *   later change through its own queue
+ *
+ * Everything is under one lock, so a follower can never miss a change
+ * between its snapshot and its first live frame.
+ */
+final class MutationLog {
+
+    /**
+     * Receives live changes after subscribe()
+     */
+    interface Subscriber {
+        /**
+         * @return false if the subscriber cannot keep up (it is then dropped)
+         */
+        boolean offer(Mutation mutation);
+    }
+
+    static final class Snapshot {
+        final List<Mutation> mutations;
+        final long seq;
+
+        Snapshot(List<Mutation> mutations, long seq) {
+            this.mutations = mutations;
+            this.seq = seq;
+        }
+    }
+
+    private long head;  // Newest sequence number handed out
+    private final LinkedHashMap<Long, Mutation> compacted = new LinkedHashMap<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    synchronized long head() {
+        return head;
+    }
+
+    synchronized int size() {
+        return compacted.size();
+    }
+
+    void appendBookPut(Book book) {
+        append(seq -> Mutation.bookPut(seq, Mutation.nowMicros(), book));
+    }
+
+    void appendMemberPut(Member member) {
+        append(seq -> Mutation.memberPut(seq, Mutation.nowMicros(), member));
+    }
+
+    void appendRemove(MutationType type, long entityId) {
+        append(seq -> Mutation.remove(type, seq, Mutation.nowMicros(), entityId));
+    }
+
+    private synchronized void append(LongFunction<Mutation> factory) {
+        Mutation mutation = factory.apply(++head);
+
+        // Remove + put moves the entity to the end, keeping the map in seq order
+        compacted.remove(mutation.compactionKey());
+        if (mutation.getType() == MutationType.BOOK_PUT || mutation.getType() == MutationType.MEMBER_PUT) {
+            compacted.put(mutation.compactionKey(), mutation);
+        }
+
+        subscribers.removeIf(subscriber -> !subscriber.offer(mutation));
+    }
+
+    /**
+     * Current state + registration for everything after it, atomically
+     */
+    synchronized Snapshot subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        return new Snapshot(new ArrayList<>(compacted.values()), head);
+    }
+
+    synchronized void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
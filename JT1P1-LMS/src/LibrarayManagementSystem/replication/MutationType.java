@@ -0,0 +1,37 @@
+package LibrarayManagementSystem.replication;
+
+/**
+ * Frame types on the replication stream
+ *
+ * Every data change is a full UPSERT or a REMOVE of one entity, so applying
+ * the same frame twice is harmless and the log can be compacted per entity.
+ */
+public enum MutationType {
+    BOOK_PUT(1),
+    BOOK_REMOVE(2),
+    MEMBER_PUT(3),
+    MEMBER_REMOVE(4),
+    /** Primary is alive; seq = newest sequence number in the log */
+    HEARTBEAT(5),
+    /** All current state has been sent; live changes follow */
+    SNAPSHOT_END(6);
+
+    final byte code;
+
+    MutationType(int code) {
+        this.code = (byte) code;
+    }
+
+    static MutationType fromCode(byte code) {
+        for (MutationType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown frame type: " + code);
+    }
+
+    boolean isData() {
+        return this != HEARTBEAT && this != SNAPSHOT_END;
+    }
+}
@@ -0,0 +1,317 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.LatencyHistogram;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * ReplicationFollower - Keeps a read-only copy of a primary's catalog
+ *
+ * HOW IT WORKS:
+ * -------------
+ * 1. Connect → clear local state → apply the snapshot until SNAPSHOT_END
+ * 2. Apply live frames as they arrive, in batches under the WRITE lock
+ * 3. After each batch send the applied seq back (the primary's ack)
+ * 4. Queries go through read(), which takes the READ lock, so a query
+ *    never sees half of a batch
+ *
+ * LAG:
+ * ----
+ * - Time lag: follower clock - primary timestamp of each live change
+ *   (both JVMs on one host, so they share the wall clock)
+ * - Records behind: primary head (from frames and heartbeats) - applied seq
+ *
+ * If the connection drops and reconnect is on, the follower bootstraps
+ * again from a fresh snapshot (no resume-from-seq: the log is compacted).
+ *
+ * বাংলায়: follower নিজে কিছু change করে না, শুধু primary কে copy করে।
+ */
+public class ReplicationFollower implements Closeable {
+
+    private static final int MAX_BATCH_FRAMES = 1024;
+    private static final int SOCKET_BUFFER_BYTES = 64 * 1024;
+    private static final long RECONNECT_DELAY_MILLIS = 500;
+
+    private final BookService bookService;
+    private final MemberService memberService;
+    private final String host;
+    private final int port;
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    // awaitSeq() waits here for appliedSeq to move
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition progressed = progressLock.newCondition();
+
+    private final LatencyHistogram lagHistogram = new LatencyHistogram();
+    private volatile long appliedSeq;
+    private volatile long primarySeq;
+    private volatile long lastLagMicros;
+    private volatile long maxLagMicros;
+    private volatile boolean bootstrapped;
+    private volatile long bootstraps;
+    private volatile boolean reconnect = true;
+    private volatile boolean closed;
+    private volatile Socket socket;
+    private Thread worker;
+
+    public ReplicationFollower(BookService bookService, MemberService memberService, String host, int port) {
+        this.bookService = bookService;
+        this.memberService = memberService;
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Reconnect (and bootstrap again) when the primary goes away - default on
+     */
+    public void setReconnect(boolean reconnect) {
+        this.reconnect = reconnect;
+    }
+
+    public void start() {
+        worker = new Thread(this::run, "lms-repl-follower");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        while (!closed) {
+            try (Socket s = new Socket(host, port)) {
+                socket = s;
+                s.setTcpNoDelay(true);
+                stream(s);
+            } catch (EOFException e) {
+                Log.info("📡 Primary closed the replication stream");
+            } catch (IOException e) {
+                if (!closed) {
+                    Log.warn("⚠️ Replication connection to {}:{} failed: {}", host, port, e.getMessage());
+                }
+            }
+            bootstrapped = false;
+            signalProgress();
+            if (!reconnect || closed) {
+                break;
+            }
+            sleepQuietly(RECONNECT_DELAY_MILLIS);
+        }
+        closed = true;
+        signalProgress();
+    }
+
+    private void stream(Socket s) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), SOCKET_BUFFER_BYTES));
+        DataOutputStream acks = new DataOutputStream(s.getOutputStream());
+
+        // Fresh bootstrap: whatever we had may be stale
+        stateLock.writeLock().lock();
+        try {
+            bookService.getBooks().clear();
+            memberService.getMembers().clear();
+            memberService.rebuildIndexes();
+            appliedSeq = 0;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        bootstraps++;
+
+        while (!closed) {
+            Mutation first = Mutation.readFrom(in);  // Blocks until the primary sends something
+            long batchSeq = applyBatch(first, in);
+            if (batchSeq > 0) {
+                acks.writeLong(batchSeq);
+                acks.flush();
+            }
+            signalProgress();
+        }
+    }
+
+    /**
+     * Apply first and whatever else is already buffered, under one write lock
+     *
+     * @return seq to acknowledge (0 = nothing new)
+     */
+    private long applyBatch(Mutation first, DataInputStream in) throws IOException {
+        long before = appliedSeq;
+        stateLock.writeLock().lock();
+        try {
+            Mutation mutation = first;
+            int frames = 0;
+            while (true) {
+                apply(mutation);
+                if (++frames >= MAX_BATCH_FRAMES || in.available() == 0) {
+                    break;
+                }
+                mutation = Mutation.readFrom(in);
+            }
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        return appliedSeq != before ? appliedSeq : 0;
+    }
+
+    private void apply(Mutation mutation) throws IOException {
+        switch (mutation.getType()) {
+            case HEARTBEAT:
+                primarySeq = Math.max(primarySeq, mutation.getSeq());
+                return;
+            case SNAPSHOT_END:
+                bootstrapped = true;
+                appliedSeq = mutation.getSeq();
+                primarySeq = Math.max(primarySeq, mutation.getSeq());
+                Log.info("📡 Bootstrapped from primary at seq {} ({} books, {} members)",
+                        mutation.getSeq(), bookService.getBooks().size(), memberService.getMembers().size());
+                return;
+            default:
+                mutation.applyTo(bookService, memberService);
+        }
+        primarySeq = Math.max(primarySeq, mutation.getSeq());
+        if (bootstrapped) {
+            // Snapshot frames are old by design; only live changes count as lag
+            appliedSeq = mutation.getSeq();
+            long lag = Math.max(0, Mutation.nowMicros() - mutation.getTimestampMicros());
+            lastLagMicros = lag;
+            if (lag > maxLagMicros) {
+                maxLagMicros = lag;
+            }
+            lagHistogram.record(lag * 1_000);
+        }
+    }
+
+    private void signalProgress() {
+        progressLock.lock();
+        try {
+            progressed.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Run a read-only query against a consistent state
+     *
+     * Example: follower.read(() -> bookService.findBooksByAuthor("Knuth"))
+     */
+    public <T> T read(Supplier<T> query) {
+        stateLock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Wait until every change up to seq is applied (read-your-writes)
+     *
+     * @return true if reached, false on timeout or when the stream ended
+     */
+    public boolean awaitSeq(long seq, long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        progressLock.lock();
+        try {
+            while (!(bootstrapped && appliedSeq >= seq)) {
+                if (remaining <= 0 || closed) {
+                    return false;
+                }
+                remaining = progressed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    // ==================== STATUS ====================
+
+    public boolean isBootstrapped() {
+        return bootstrapped;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public long getAppliedSeq() {
+        return appliedSeq;
+    }
+
+    /**
+     * Changes the primary has logged that are not applied here yet
+     */
+    public long getRecordsBehind() {
+        return Math.max(0, primarySeq - appliedSeq);
+    }
+
+    public long getLastLagMicros() {
+        return lastLagMicros;
+    }
+
+    public long getMaxLagMicros() {
+        return maxLagMicros;
+    }
+
+    /**
+     * Lag of every live change, in nanoseconds (recorded from microseconds)
+     */
+    public LatencyHistogram getLagHistogram() {
+        return lagHistogram;
+    }
+
+    public long getBootstraps() {
+        return bootstraps;
+    }
+
+    public void displayStatus() {
+        System.out.println("\n📡 === Replication Follower ===");
+        System.out.println("   Primary: " + host + ":" + port + (bootstrapped ? " (streaming)" : " (not connected)"));
+        System.out.println("   Applied seq: " + appliedSeq + ", behind: " + getRecordsBehind());
+        System.out.printf("   Lag: last %.2f ms, p50 %.2f ms, p99 %.2f ms, max %.2f ms (%d changes)%n",
+                lastLagMicros / 1e3, lagHistogram.percentile(50) / 1e6, lagHistogram.percentile(99) / 1e6,
+                maxLagMicros / 1e3, lagHistogram.getCount());
+        System.out.println("=".repeat(50));
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        Socket s = socket;
+        if (s != null) {
+            s.close();
+        }
+        signalProgress();
+    }
+
+    /**
+     * Wait for the worker thread to finish (after close() or a lost primary
+     * with reconnect off)
+     */
+    public void join() throws InterruptedException {
+        if (worker != null) {
+            worker.join();
+        }
+    }
+}
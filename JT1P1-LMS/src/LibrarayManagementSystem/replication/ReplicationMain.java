@@ -0,0 +1,155 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ReplicationMain - Run a replication primary or follower from the command line
+ *
+ * USAGE (one terminal each, same host):
+ * ------
+ *     java -cp core/target/lms-core-1.0-SNAPSHOT.jar LibrarayManagementSystem.replication.ReplicationMain primary [options]
+ *     java -cp core/target/lms-core-1.0-SNAPSHOT.jar LibrarayManagementSystem.replication.ReplicationMain follower [options]
+ *
+ *     --port N          replication port                      (default 7070)
+ *     --data DIR        primary: data directory to load       (default data)
+ *     --seconds N       primary: how long to run the demo workload of
+ *                       issues/returns (default 60)
+ *     --rate N          primary: loans per second              (default 50)
+ *     --exit-on-close   follower: stop when the primary goes away instead
+ *                       of reconnecting, and print "DIGEST <n>"
+ *
+ * The primary prints "DIGEST <n>" when it stops; a caught-up follower
+ * prints the same number (see StateDigest).
+ */
+public class ReplicationMain {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: ReplicationMain primary|follower [--port N] [--data DIR] [--seconds N]"
+                    + " [--rate N] [--exit-on-close]");
+            return;
+        }
+
+        int port = ReplicationPrimary.DEFAULT_PORT;
+        String dataDir = "data";
+        int seconds = 60;
+        int rate = 50;
+        boolean exitOnClose = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--data":
+                    dataDir = args[++i];
+                    break;
+                case "--seconds":
+                    seconds = Integer.parseInt(args[++i]);
+                    break;
+                case "--rate":
+                    rate = Integer.parseInt(args[++i]);
+                    break;
+                case "--exit-on-close":
+                    exitOnClose = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if ("primary".equals(args[0])) {
+            runPrimary(port, dataDir, seconds, rate);
+        } else if ("follower".equals(args[0])) {
+            runFollower(port, exitOnClose);
+        } else {
+            throw new IllegalArgumentException("Run primary or follower, not: " + args[0]);
+        }
+        Log.getLogger().close();
+    }
+
+    private static void runPrimary(int port, String dataDir, int seconds, int rate) throws Exception {
+        FileRepository repository = new FileRepository(dataDir);
+        BookService.persistIdsTo(repository);
+        MemberService.persistIdsTo(repository);
+        BookService bookService = new BookService(repository);
+        MemberService memberService = new MemberService(repository);
+        LibraryService libraryService = new LibraryService(bookService, memberService);
+        bookService.loadFromFile();
+        memberService.loadFromFile();
+        if (bookService.getTotalBooksCount() == 0 || memberService.getTotalMembersCount() == 0) {
+            System.out.println("📝 No data in " + dataDir + " - adding sample books and members");
+            for (int i = 1; i <= 20; i++) {
+                bookService.addBook(new Book("Book " + i, "Author " + (i % 5), "Publisher " + (i % 3),
+                        "ISBN" + i, 3, true));
+            }
+            for (int i = 1; i <= 10; i++) {
+                memberService.registerMember(new Member("Member " + i, "0170000" + (1000 + i)));
+            }
+        }
+
+        ReplicationPrimary primary = new ReplicationPrimary(libraryService, port);
+        primary.start();
+
+        // Demo workload: random issue/return on this (owning) thread
+        List<Book> books = bookService.getAllBooks();
+        List<Member> members = memberService.getAllMembers();
+        Random random = new Random(42);
+        long intervalNanos = 1_000_000_000L / Math.max(1, rate);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long nextStatus = System.nanoTime() + 5_000_000_000L;
+        long next = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            Book book = books.get(random.nextInt(books.size()));
+            Member member = members.get(random.nextInt(members.size()));
+            if (member.hasBorrowedBook(book.getBookId())) {
+                libraryService.returnBook(book.getBookId(), member.getMemberId());
+            } else {
+                libraryService.issueBook(book.getBookId(), member.getMemberId());
+            }
+            if (System.nanoTime() >= nextStatus) {
+                primary.displayStatus();
+                nextStatus += 5_000_000_000L;
+            }
+            next += intervalNanos;
+            long sleepNanos = next - System.nanoTime();
+            if (sleepNanos > 0) {
+                Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+            }
+        }
+
+        primary.awaitFollowers(5_000);
+        primary.displayStatus();
+        primary.close();
+        System.out.println("DIGEST " + StateDigest.of(bookService, memberService));
+    }
+
+    private static void runFollower(int port, boolean exitOnClose) throws Exception {
+        BookService bookService = new BookService(new FileRepository(System.getProperty("java.io.tmpdir")));
+        MemberService memberService = new MemberService(new FileRepository(System.getProperty("java.io.tmpdir")));
+        ReplicationFollower follower = new ReplicationFollower(bookService, memberService, "localhost", port);
+        follower.setReconnect(!exitOnClose);
+        follower.start();
+
+        while (!follower.isClosed()) {
+            Thread.sleep(1_000);
+            if (follower.isBootstrapped()) {
+                int available = follower.read(bookService::getAvailableBooksCount);
+                System.out.printf("📡 seq %d, behind %d, lag last %.2f ms / max %.2f ms, %d books available%n",
+                        follower.getAppliedSeq(), follower.getRecordsBehind(),
+                        follower.getLastLagMicros() / 1e3, follower.getMaxLagMicros() / 1e3, available);
+            }
+        }
+        follower.join();
+        follower.displayStatus();
+        System.out.println("DIGEST " + StateDigest.of(bookService, memberService));
+    }
+}
@@ -0,0 +1,347 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.CatalogChangeListener;
+import LibrarayManagementSystem.services.LibraryService;
+import LibrarayManagementSystem.services.LoanListener;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplicationPrimary - Ships every catalog change to follower processes
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * One process holds all the state, so reads cannot scale past one JVM and
+ * a crash takes the whole catalog down. Followers keep a live copy and
+ * answer read-only queries.
+ *
+ * HOW IT WORKS (log shipping):
+ * ----------------------------
+ * 1. start() logs the current books/members, then listens for changes:
+ *    CatalogChangeListener (add/remove) + LoanListener (issue/return)
+ * 2. Each change becomes a Mutation (full upsert or remove) in the MutationLog
+ * 3. A follower connects → gets the compacted log (snapshot), SNAPSHOT_END,
+ *    then live changes from its own bounded queue (one sender thread each)
+ * 4. Every 100 ms without changes a HEARTBEAT carries the log head, so
+ *    followers can report lag even when nothing happens
+ * 5. Followers send back the newest seq they applied → getFollowers()
+ *
+ * RULES:
+ * ------
+ * - Listens on the loopback interface only (followers on the same host)
+ * - A follower that falls FOLLOWER_QUEUE_CAPACITY changes behind is
+ *   disconnected; it reconnects and starts again from a fresh snapshot
+ * - Changes made through Book/Member setters directly are not replicated
+ */
+public class ReplicationPrimary implements LoanListener, CatalogChangeListener, Closeable {
+
+    public static final int DEFAULT_PORT = 7070;
+    static final int HEARTBEAT_MILLIS = 100;
+    static final int FOLLOWER_QUEUE_CAPACITY = 65_536;
+    private static final int SOCKET_BUFFER_BYTES = 64 * 1024;
+
+    private final BookService bookService;
+    private final MemberService memberService;
+    private final LibraryService libraryService;
+    private final int requestedPort;
+    private final MutationLog log = new MutationLog();
+    private final List<FollowerLink> followers = new CopyOnWriteArrayList<>();
+
+    private ServerSocket serverSocket;
+    private volatile boolean closed;
+
+    public ReplicationPrimary(LibraryService libraryService, int port) {
+        this.libraryService = libraryService;
+        this.bookService = libraryService.getBookService();
+        this.memberService = libraryService.getMemberService();
+        this.requestedPort = port;
+    }
+
+    /**
+     * Log the current state and start accepting followers
+     *
+     * Call it from the thread that owns the services, after loadFromFile()
+     * and before serving requests (the services themselves are not thread-safe).
+     */
+    public void start() throws IOException {
+        for (Book book : bookService.getBooks().values()) {
+            log.appendBookPut(book);
+        }
+        for (Member member : memberService.getMembers().values()) {
+            log.appendMemberPut(member);
+        }
+        bookService.addChangeListener(this);
+        memberService.addChangeListener(this);
+        libraryService.addLoanListener(this);
+
+        serverSocket = new ServerSocket(requestedPort, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptLoop, "lms-repl-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        Log.info("📡 Replication primary on port {} ({} records in log)", getPort(), log.size());
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                FollowerLink link = new FollowerLink(socket);
+                followers.add(link);
+                link.start();
+            } catch (IOException e) {
+                if (!closed) {
+                    Log.error("❌ Replication accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    // ==================== CHANGE CAPTURE ====================
+
+    @Override
+    public void onBookSaved(Book book) {
+        log.appendBookPut(book);
+    }
+
+    @Override
+    public void onBookRemoved(long bookId) {
+        log.appendRemove(MutationType.BOOK_REMOVE, bookId);
+    }
+
+    @Override
+    public void onMemberSaved(Member member) {
+        log.appendMemberPut(member);
+    }
+
+    @Override
+    public void onMemberRemoved(long memberId) {
+        log.appendRemove(MutationType.MEMBER_REMOVE, memberId);
+    }
+
+    @Override
+    public void onBookIssued(Book book, Member member, long bookId) {
+        log.appendBookPut(book);
+        log.appendMemberPut(member);
+    }
+
+    @Override
+    public void onBookReturned(Book book, Member member, long bookId) {
+        log.appendBookPut(book);
+        log.appendMemberPut(member);
+    }
+
+    // ==================== STATUS ====================
+
+    /**
+     * Port actually bound (useful when constructed with port 0)
+     */
+    public int getPort() {
+        return serverSocket == null ? requestedPort : serverSocket.getLocalPort();
+    }
+
+    /**
+     * Sequence number of the newest change
+     */
+    public long getHeadSeq() {
+        return log.head();
+    }
+
+    public List<FollowerStatus> getFollowers() {
+        long head = log.head();
+        long now = System.currentTimeMillis();
+        List<FollowerStatus> statuses = new ArrayList<>();
+        for (FollowerLink link : followers) {
+            long acked = link.ackedSeq;
+            statuses.add(new FollowerStatus(link.address, acked, Math.max(0, head - acked), now - link.lastAckMillis));
+        }
+        return statuses;
+    }
+
+    /**
+     * Wait until every connected follower has acknowledged the current head
+     * (call before close() so queued changes are not cut off)
+     *
+     * @return true if all caught up, false on timeout
+     */
+    public boolean awaitFollowers(long timeoutMillis) throws InterruptedException {
+        long target = log.head();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            boolean caughtUp = true;
+            for (FollowerLink link : followers) {
+                caughtUp &= link.ackedSeq >= target;
+            }
+            if (caughtUp) {
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    public void displayStatus() {
+        System.out.println("\n📡 === Replication Primary ===");
+        System.out.println("   Port: " + getPort() + ", head seq: " + getHeadSeq());
+        List<FollowerStatus> statuses = getFollowers();
+        if (statuses.isEmpty()) {
+            System.out.println("   No followers connected");
+        }
+        for (FollowerStatus status : statuses) {
+            System.out.println("   " + status.getAddress() + ": acked " + status.getAckedSeq()
+                    + " (" + status.getRecordsBehind() + " behind, last ack " + status.getMillisSinceAck() + " ms ago)");
+        }
+        System.out.println("=".repeat(50));
+    }
+
+    /**
+     * Stop capturing changes and disconnect every follower
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        bookService.removeChangeListener(this);
+        memberService.removeChangeListener(this);
+        libraryService.removeLoanListener(this);
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (FollowerLink link : followers) {
+            link.close();
+        }
+    }
+
+    // ==================== ONE FOLLOWER ====================
+
+    /**
+     * Connection to one follower: a sender thread (snapshot, then queue)
+     * and an ack reader thread
+     */
+    private final class FollowerLink implements MutationLog.Subscriber {
+
+        final Socket socket;
+        final String address;
+        final BlockingQueue<Mutation> queue = new ArrayBlockingQueue<>(FOLLOWER_QUEUE_CAPACITY);
+        volatile long ackedSeq;
+        volatile long lastAckMillis = System.currentTimeMillis();
+        private volatile boolean linkClosed;
+
+        FollowerLink(Socket socket) {
+            this.socket = socket;
+            this.address = socket.getRemoteSocketAddress().toString();
+        }
+
+        void start() {
+            Thread sender = new Thread(this::sendLoop, "lms-repl-send-" + socket.getPort());
+            sender.setDaemon(true);
+            sender.start();
+            Thread acks = new Thread(this::ackLoop, "lms-repl-ack-" + socket.getPort());
+            acks.setDaemon(true);
+            acks.start();
+        }
+
+        @Override
+        public boolean offer(Mutation mutation) {
+            if (queue.offer(mutation)) {
+                return true;
+            }
+            Log.warn("⚠️ Follower {} is {} changes behind - disconnecting", address, FOLLOWER_QUEUE_CAPACITY);
+            // We are inside MutationLog.append (its lock held, subscribers being iterated):
+            // only mark the link dead here - append drops it from the log when we return
+            // false - and close the socket on another thread, off the write path
+            linkClosed = true;
+            Thread closer = new Thread(this::release, "lms-repl-close-" + socket.getPort());
+            closer.setDaemon(true);
+            closer.start();
+            return false;
+        }
+
+        private void sendLoop() {
+            try {
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(socket.getOutputStream(), SOCKET_BUFFER_BYTES));
+                MutationLog.Snapshot snapshot = log.subscribe(this);
+                for (Mutation mutation : snapshot.mutations) {
+                    mutation.writeTo(out);
+                }
+                Mutation.control(MutationType.SNAPSHOT_END, snapshot.seq, Mutation.nowMicros()).writeTo(out);
+                out.flush();
+                Log.info("📡 Follower {} connected ({} records sent)", address, snapshot.mutations.size());
+
+                while (!linkClosed) {
+                    Mutation next = queue.poll(HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        Mutation.control(MutationType.HEARTBEAT, log.head(), Mutation.nowMicros()).writeTo(out);
+                    } else {
+                        // Drain what is queued, then ONE flush for the whole batch
+                        do {
+                            next.writeTo(out);
+                        } while ((next = queue.poll()) != null);
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                if (!linkClosed && !closed) {
+                    Log.warn("⚠️ Follower {} disconnected: {}", address, e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void ackLoop() {
+            try {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                while (!linkClosed) {
+                    ackedSeq = in.readLong();
+                    lastAckMillis = System.currentTimeMillis();
+                }
+            } catch (IOException e) {
+                // Follower went away; sendLoop logs it
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (linkClosed) {
+                return;
+            }
+            linkClosed = true;
+            release();
+        }
+
+        // Never call from offer(): unsubscribe() would modify the subscriber list append is iterating
+        private void release() {
+            log.unsubscribe(this);
+            followers.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package LibrarayManagementSystem.replication;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.util.Objects;
+
+/**
+ * StateDigest - One number that says "these two catalogs are the same"
+ *
+ * Used to check a follower against its primary without shipping the data:
+ * both sides print the digest and the numbers must match.
+ *
+ * HOW: hash every book/member from ALL of its replicated fields, mix the
+ * hash, and ADD them up. Addition does not care about order, so two
+ * HashMaps with different iteration order still give the same digest.
+ */
+public final class StateDigest {
+
+    private StateDigest() {
+    }
+
+    public static long of(BookService bookService, MemberService memberService) {
+        long digest = 0;
+        for (Book book : bookService.getBooks().values()) {
+            long h = book.getBookId();
+            h = 31 * h + Objects.hashCode(book.getBookTitle());
+            h = 31 * h + Objects.hashCode(book.getBookAuthor());
+            h = 31 * h + Objects.hashCode(book.getBookPublisher());
+            h = 31 * h + Objects.hashCode(book.getBookISBN());
+            h = 31 * h + book.getBookCopiesTotal();
+            h = 31 * h + book.getBookCopiesAvailable();
+            h = 31 * h + (book.isBookAvailable() ? 1 : 0);
+            digest += mix(h);
+        }
+        for (Member member : memberService.getMembers().values()) {
+            long h = -member.getMemberId();  // Book 7 and member 7 must not cancel out
+            h = 31 * h + Objects.hashCode(member.getMemberName());
+            h = 31 * h + Objects.hashCode(member.getMemberPhone());
+            h = 31 * h + member.getBorrowedBookIds().hashCode();
+            digest += mix(h);
+        }
+        return digest;
+    }
+
+    /**
+     * Spread the bits (SplitMix64 finalizer) so nearby hashes do not add up alike
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,92 @@
+package LibrarayManagementSystem.report;
+
+import LibrarayManagementSystem.models.Book;
+
+/**
+ * Exportable / sortable Book columns
+ */
+public enum BookField implements ReportField<Book> {
+    ID("id", 10, true) {
+        @Override
+        public String extract(Book book) {
+            return Long.toString(book.getBookId());
+        }
+    },
+    TITLE("title", 40, false) {
+        @Override
+        public String extract(Book book) {
+            return text(book.getBookTitle());
+        }
+    },
+    AUTHOR("author", 24, false) {
+        @Override
+        public String extract(Book book) {
+            return text(book.getBookAuthor());
+        }
+    },
+    PUBLISHER("publisher", 20, false) {
+        @Override
+        public String extract(Book book) {
+            return text(book.getBookPublisher());
+        }
+    },
+    ISBN("isbn", 17, false) {
+        @Override
+        public String extract(Book book) {
+            return text(book.getBookISBN());
+        }
+    },
+    COPIES_TOTAL("copies", 6, true) {
+        @Override
+        public String extract(Book book) {
+            return Integer.toString(book.getBookCopiesTotal());
+        }
+    },
+    COPIES_AVAILABLE("available", 9, true) {
+        @Override
+        public String extract(Book book) {
+            return Integer.toString(book.getBookCopiesAvailable());
+        }
+    };
+
+    private final String header;
+    private final int width;
+    private final boolean numeric;
+
+    BookField(String header, int width, boolean numeric) {
+        this.header = header;
+        this.width = width;
+        this.numeric = numeric;
+    }
+
+    static String text(String value) {
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public String header() {
+        return header;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public boolean numeric() {
+        return numeric;
+    }
+
+    /**
+     * Look up a field by header name, e.g. "title" → TITLE
+     */
+    public static BookField fromName(String name) {
+        for (BookField field : values()) {
+            if (field.header.equalsIgnoreCase(name) || field.name().equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown book field: " + name);
+    }
+}
@@ -0,0 +1,79 @@
+package LibrarayManagementSystem.report;
+
+import java.nio.file.Path;
+
+/**
+ * ExportResult - What one report export did
+ */
+public class ExportResult {
+
+    private final Path output;
+    private final long rows;
+    private final long bytesWritten;
+    private final int spilledRuns;
+    private final int mergePasses;
+    private final long elapsedNanos;
+
+    ExportResult(Path output, long rows, long bytesWritten, int spilledRuns, int mergePasses, long elapsedNanos) {
+        this.output = output;
+        this.rows = rows;
+        this.bytesWritten = bytesWritten;
+        this.spilledRuns = spilledRuns;
+        this.mergePasses = mergePasses;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Sorted runs spilled to disk (0 = the whole report was sorted in memory)
+     */
+    public int getSpilledRuns() {
+        return spilledRuns;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public void display() {
+        System.out.println("\n📄 === Export Report ===");
+        System.out.println("   File:        " + output);
+        System.out.println("   Rows:        " + rows);
+        System.out.printf("   Size:        %,d KB%n", bytesWritten / 1024);
+        System.out.println("   Spilled:     " + (spilledRuns == 0 ? "no (sorted in memory)"
+                : spilledRuns + " run(s), " + mergePasses + " extra merge pass(es)"));
+        System.out.printf("   Time:        %.2f s (%,.0f rows/s)%n", elapsedNanos / 1e9, getRowsPerSecond());
+        System.out.println("=".repeat(50));
+    }
+
+    @Override
+    public String toString() {
+        return "ExportResult{"
+                + "output=" + output
+                + ", rows=" + rows
+                + ", bytesWritten=" + bytesWritten
+                + ", spilledRuns=" + spilledRuns
+                + ", mergePasses=" + mergePasses
+                + ", elapsedMillis=" + elapsedNanos / 1_000_000
+                + '}';
+    }
+}
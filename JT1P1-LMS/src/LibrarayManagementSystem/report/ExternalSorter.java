@@ -0,0 +1,290 @@
+package LibrarayManagementSystem.report;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * ExternalSorter - Sort more rows than fit in memory
+ *
+ * HOW IT WORKS (external merge sort):
+ * -----------------------------------
+ * 1. add() buffers rows until the estimated size passes the memory budget
+ * 2. Then the buffer is sorted and SPILLED to a temp file (a "run")
+ * 3. finish() merges all runs with a priority queue, one row per run in memory
+ *    (more than MAX_FAN_IN runs are first merged level by level: each pass
+ *    merges consecutive groups of MAX_FAN_IN runs, so every row is re-read
+ *    once per level - log_64(runs) passes - not once per extra group)
+ *
+ * If everything fits in the budget nothing is spilled - it is a plain in-memory sort.
+ *
+ * ORDER IS STABLE: equal rows come out in the order they were added
+ * (each run is sorted stably; ties between runs go to the earlier run).
+ *
+ * Run file: [long rowCount] then per value [int byteLength][UTF-8 bytes].
+ */
+public class ExternalSorter implements Closeable {
+
+    static final int MAX_FAN_IN = 64;
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+    private static final int ROW_OVERHEAD_BYTES = 32;     // String[] header + bookkeeping
+    private static final int VALUE_OVERHEAD_BYTES = 48;   // String + byte[] headers
+
+    /**
+     * Receives the sorted rows
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(String[] row) throws IOException;
+    }
+
+    private final int columns;
+    private final Comparator<String[]> order;
+    private final long memoryBudgetBytes;
+    private final Path tempDir;
+
+    private final List<String[]> buffer = new ArrayList<>();
+    private long bufferedBytes;
+    private final List<Path> runs = new ArrayList<>();
+    private int spilledRuns;
+    private int mergePasses;
+    private long rows;
+
+    public ExternalSorter(int columns, Comparator<String[]> order, long memoryBudgetBytes, Path tempDir) {
+        if (memoryBudgetBytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudgetBytes);
+        }
+        this.columns = columns;
+        this.order = order;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDir = tempDir;
+    }
+
+    public void add(String[] row) throws IOException {
+        if (row.length != columns) {
+            throw new IllegalArgumentException("Expected " + columns + " values, got " + row.length);
+        }
+        buffer.add(row);
+        bufferedBytes += estimateBytes(row);
+        rows++;
+        if (bufferedBytes >= memoryBudgetBytes) {
+            spill();
+        }
+    }
+
+    private static long estimateBytes(String[] row) {
+        long bytes = ROW_OVERHEAD_BYTES + 4L * row.length;
+        for (String value : row) {
+            bytes += VALUE_OVERHEAD_BYTES + value.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Sort the buffer and write it out as one run
+     */
+    private void spill() throws IOException {
+        buffer.sort(order);
+        Path run = Files.createTempFile(tempDir, "lms-sort-", ".run");
+        runs.add(run);
+        spilledRuns++;
+        try (DataOutputStream out = openRun(run)) {
+            out.writeLong(buffer.size());
+            for (String[] row : buffer) {
+                writeRow(out, row);
+            }
+        }
+        buffer.clear();
+        bufferedBytes = 0;
+    }
+
+    /**
+     * Emit every row in sorted order, then delete the temp files
+     */
+    public void finish(RowSink sink) throws IOException {
+        try {
+            if (runs.isEmpty()) {
+                // Fits in memory: no files at all
+                buffer.sort(order);
+                for (String[] row : buffer) {
+                    sink.accept(row);
+                }
+                buffer.clear();
+                return;
+            }
+            if (!buffer.isEmpty()) {
+                spill();
+            }
+            while (runs.size() > MAX_FAN_IN) {
+                mergeLevel();
+            }
+            merge(runs, sink);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * One extra pass: merge each consecutive group of MAX_FAN_IN runs into one run.
+     * The merged runs keep the order of their groups, so run order still follows
+     * input order and ties stay stable.
+     */
+    private void mergeLevel() throws IOException {
+        mergePasses++;
+        List<Path> nextLevel = new ArrayList<>((runs.size() + MAX_FAN_IN - 1) / MAX_FAN_IN);
+        try {
+            for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                List<Path> group = runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size()));
+                nextLevel.add(group.size() == 1 ? group.get(0) : mergeIntoNewRun(group));
+            }
+        } catch (IOException e) {
+            runs.addAll(nextLevel);  // So close() deletes the runs merged so far too
+            throw e;
+        }
+        runs.clear();
+        runs.addAll(nextLevel);
+    }
+
+    /**
+     * Merge a group of runs into one new run file (the group's files are deleted)
+     */
+    private Path mergeIntoNewRun(List<Path> group) throws IOException {
+        Path merged = Files.createTempFile(tempDir, "lms-sort-", ".run");
+        long count = 0;
+        for (Path run : group) {
+            try (DataInputStream in = openRunForRead(run)) {
+                count += in.readLong();
+            }
+        }
+        try (DataOutputStream out = openRun(merged)) {
+            out.writeLong(count);
+            merge(group, row -> writeRow(out, row));
+        }
+        for (Path run : group) {
+            Files.deleteIfExists(run);
+        }
+        return merged;
+    }
+
+    private void merge(List<Path> runFiles, RowSink sink) throws IOException {
+        List<RunCursor> cursors = new ArrayList<>(runFiles.size());
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(Math.max(1, runFiles.size()),
+                (a, b) -> {
+                    int c = order.compare(a.current, b.current);
+                    return c != 0 ? c : Integer.compare(a.runIndex, b.runIndex);
+                });
+        try {
+            for (int i = 0; i < runFiles.size(); i++) {
+                RunCursor cursor = new RunCursor(openRunForRead(runFiles.get(i)), i);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunCursor smallest = heap.poll();
+                sink.accept(smallest.current);
+                if (smallest.advance()) {
+                    heap.add(smallest);
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.in.close();
+            }
+        }
+    }
+
+    private final class RunCursor {
+        final DataInputStream in;
+        final int runIndex;
+        long remaining;
+        String[] current;
+
+        RunCursor(DataInputStream in, int runIndex) throws IOException {
+            this.in = in;
+            this.runIndex = runIndex;
+            this.remaining = in.readLong();
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                current = null;
+                return false;
+            }
+            remaining--;
+            current = readRow(in);
+            return true;
+        }
+    }
+
+    // ==================== RUN FILE I/O ====================
+
+    private static DataOutputStream openRun(Path run) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_BYTES));
+    }
+
+    private static DataInputStream openRunForRead(Path run) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_BYTES));
+    }
+
+    private static void writeRow(DataOutputStream out, String[] row) throws IOException {
+        for (String value : row) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private String[] readRow(DataInputStream in) throws IOException {
+        String[] row = new String[columns];
+        for (int i = 0; i < columns; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            row[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return row;
+    }
+
+    // ==================== STATS ====================
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Runs written to disk (0 = sorted fully in memory)
+     */
+    public int getSpilledRuns() {
+        return spilledRuns;
+    }
+
+    /**
+     * Extra merge passes needed because there were more than MAX_FAN_IN runs
+     */
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    /**
+     * Delete any temp files left behind (safe to call more than once)
+     */
+    @Override
+    public void close() throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        runs.clear();
+        buffer.clear();
+    }
+}
@@ -0,0 +1,70 @@
+package LibrarayManagementSystem.report;
+
+import LibrarayManagementSystem.models.Member;
+
+/**
+ * Exportable / sortable Member columns
+ */
+public enum MemberField implements ReportField<Member> {
+    ID("id", 10, true) {
+        @Override
+        public String extract(Member member) {
+            return Long.toString(member.getMemberId());
+        }
+    },
+    NAME("name", 30, false) {
+        @Override
+        public String extract(Member member) {
+            return BookField.text(member.getMemberName());
+        }
+    },
+    PHONE("phone", 14, false) {
+        @Override
+        public String extract(Member member) {
+            return BookField.text(member.getMemberPhone());
+        }
+    },
+    BORROWED("borrowed", 8, true) {
+        @Override
+        public String extract(Member member) {
+            return Integer.toString(member.getBorrowedBooksCount());
+        }
+    };
+
+    private final String header;
+    private final int width;
+    private final boolean numeric;
+
+    MemberField(String header, int width, boolean numeric) {
+        this.header = header;
+        this.width = width;
+        this.numeric = numeric;
+    }
+
+    @Override
+    public String header() {
+        return header;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public boolean numeric() {
+        return numeric;
+    }
+
+    /**
+     * Look up a field by header name, e.g. "name" → NAME
+     */
+    public static MemberField fromName(String name) {
+        for (MemberField field : values()) {
+            if (field.header.equalsIgnoreCase(name) || field.name().equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown member field: " + name);
+    }
+}
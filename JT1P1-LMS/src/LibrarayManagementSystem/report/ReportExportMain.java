@@ -0,0 +1,87 @@
+package LibrarayManagementSystem.report;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.services.BookService;
+import LibrarayManagementSystem.services.MemberService;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * ReportExportMain - Command line sorted export of books or members
+ *
+ * USAGE:
+ * ------
+ *     java -cp core/target/lms-core-1.0-SNAPSHOT.jar LibrarayManagementSystem.report.ReportExportMain books|members OUTPUT [options]
+ *
+ *     OUTPUT           .csv, .tsv, or .txt (fixed width) - or pick with --format
+ *     --data DIR       data directory to read            (default data)
+ *     --sort FIELD     books: id,title,author,publisher,isbn,copies,available
+ *                      members: id,name,phone,borrowed   (default title / name)
+ *     --desc           descending order
+ *     --format F       csv | tsv | fixed
+ *     --memory-mb N    sort budget before spilling to disk (default 64)
+ */
+public class ReportExportMain {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: ReportExportMain books|members OUTPUT [--data DIR] [--sort FIELD] [--desc]"
+                    + " [--format csv|tsv|fixed] [--memory-mb N]");
+            return;
+        }
+
+        String what = args[0];
+        Path output = Paths.get(args[1]);
+        String dataDir = "data";
+        String sort = null;
+        boolean descending = false;
+        ReportFormat format = ReportFormat.fromFileName(args[1]);
+        long memoryMb = ReportExporter.DEFAULT_MEMORY_BUDGET_BYTES >> 20;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--data":
+                    dataDir = args[++i];
+                    break;
+                case "--sort":
+                    sort = args[++i];
+                    break;
+                case "--desc":
+                    descending = true;
+                    break;
+                case "--format":
+                    String name = args[++i].toUpperCase();
+                    format = ReportFormat.valueOf("FIXED".equals(name) ? "FIXED_WIDTH" : name);
+                    break;
+                case "--memory-mb":
+                    memoryMb = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        FileRepository repository = new FileRepository(dataDir);
+        ReportExporter exporter = new ReportExporter();
+        exporter.setMemoryBudgetBytes(memoryMb << 20);
+
+        ExportResult result;
+        if ("books".equals(what)) {
+            BookService bookService = new BookService(repository);
+            bookService.loadFromFile();
+            result = exporter.exportBooks(bookService, output,
+                    sort == null ? BookField.TITLE : BookField.fromName(sort), descending, format);
+        } else if ("members".equals(what)) {
+            MemberService memberService = new MemberService(repository);
+            memberService.loadFromFile();
+            result = exporter.exportMembers(memberService, output,
+                    sort == null ? MemberField.NAME : MemberField.fromName(sort), descending, format);
+        } else {
+            throw new IllegalArgumentException("Export books or members, not: " + what);
+        }
+        result.display();
+
+        Log.getLogger().close();
+    }
+}
@@ -0,0 +1,28 @@
+package LibrarayManagementSystem.report;
+
+/**
+ * ReportField - One exportable column of a record type
+ *
+ * Implemented by BookField / MemberField. Each field knows its header,
+ * its width in fixed-width output, how to read it from a record and
+ * whether it sorts as a number or as text.
+ */
+public interface ReportField<T> {
+
+    String header();
+
+    /**
+     * Column width for FIXED_WIDTH output (longer values are cut)
+     */
+    int width();
+
+    /**
+     * true = sort by numeric value ("10" after "9"), false = case-insensitive text
+     */
+    boolean numeric();
+
+    /**
+     * @return the value as text, never null ("" for a missing value)
+     */
+    String extract(T record);
+}
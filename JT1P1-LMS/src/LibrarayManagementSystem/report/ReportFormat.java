@@ -0,0 +1,101 @@
+package LibrarayManagementSystem.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Output formats for exported reports
+ *
+ * CSV         : RFC 4180 style - values with , " or newlines are quoted, "" escapes a quote
+ * TSV         : tab separated - tabs / newlines inside values become spaces
+ * FIXED_WIDTH : every column padded (or cut) to ReportField.width(), one space between
+ */
+public enum ReportFormat {
+    CSV {
+        @Override
+        void writeValue(Writer out, String value, int width) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        char separator() {
+            return ',';
+        }
+    },
+    TSV {
+        @Override
+        void writeValue(Writer out, String value, int width) throws IOException {
+            out.write(value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+        }
+
+        @Override
+        char separator() {
+            return '\t';
+        }
+    },
+    FIXED_WIDTH {
+        @Override
+        void writeValue(Writer out, String value, int width) throws IOException {
+            String flat = value.replace('\n', ' ').replace('\r', ' ');
+            if (flat.length() >= width) {
+                out.write(flat, 0, width);
+                return;
+            }
+            out.write(flat);
+            for (int i = flat.length(); i < width; i++) {
+                out.write(' ');
+            }
+        }
+
+        @Override
+        char separator() {
+            return ' ';
+        }
+    };
+
+    abstract void writeValue(Writer out, String value, int width) throws IOException;
+
+    abstract char separator();
+
+    void writeHeader(Writer out, List<? extends ReportField<?>> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(separator());
+            }
+            writeValue(out, fields.get(i).header(), fields.get(i).width());
+        }
+        out.write('\n');
+    }
+
+    void writeRow(Writer out, List<? extends ReportField<?>> fields, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(separator());
+            }
+            writeValue(out, values[i], fields.get(i).width());
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Guess the format from a file name (.tsv = TSV, .txt / .prn = FIXED_WIDTH, anything else = CSV)
+     */
+    public static ReportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".tsv")) {
+            return TSV;
+        }
+        if (lower.endsWith(".txt") || lower.endsWith(".prn")) {
+            return FIXED_WIDTH;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,198 @@
+package LibrarayManagementSystem.repository;
+
+import LibrarayManagementSystem.logging.Log;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConnectionPool - A small fixed-size JDBC connection pool
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * Opening a JDBC connection costs a handshake (and for a file database,
+ * opening the file). Doing that on every save would cost more than the save.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - Up to maxSize connections, opened lazily on first need
+ * - lease() takes an idle connection (or opens a new one, or waits)
+ * - Lease.close() puts it back - use try-with-resources:
+ *
+ *       try (ConnectionPool.Lease lease = pool.lease()) {
+ *           Connection connection = lease.connection();
+ *           ...
+ *       }
+ *
+ * - A connection that fails isValid() is replaced instead of handed out
+ * - A lease closed after a failure is rolled back before it goes back
+ */
+public class ConnectionPool implements Closeable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    static final long DEFAULT_WAIT_MILLIS = 10_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final BlockingQueue<Connection> idle;
+    private final List<Connection> all = new ArrayList<>();  // Guarded by this
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Borrow a connection, waiting up to DEFAULT_WAIT_MILLIS if all are in use
+     */
+    public Lease lease() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        Connection connection = idle.poll();
+        if (connection == null) {
+            connection = openIfRoom();
+        }
+        if (connection == null) {
+            try {
+                connection = idle.poll(DEFAULT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a connection", e);
+            }
+            if (connection == null) {
+                throw new SQLTimeoutException("No free connection after " + DEFAULT_WAIT_MILLIS + " ms (pool size " + maxSize + ")");
+            }
+        }
+        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            Log.warn("⚠️ Replacing broken database connection");
+            discard(connection);
+            return lease();
+        }
+        return new Lease(connection);
+    }
+
+    private Connection openIfRoom() throws SQLException {
+        synchronized (this) {
+            if (all.size() >= maxSize) {
+                return null;
+            }
+            Connection connection = DriverManager.getConnection(url, user, password);
+            all.add(connection);
+            return connection;
+        }
+    }
+
+    private void discard(Connection connection) {
+        synchronized (this) {
+            all.remove(connection);
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Already broken
+        }
+    }
+
+    private void giveBack(Connection connection, boolean failed) {
+        if (closed) {
+            discard(connection);
+            return;
+        }
+        try {
+            if (failed && !connection.isValid(1)) {
+                discard(connection);  // Broken by whatever made the work fail
+                return;
+            }
+            // setAutoCommit(true) would COMMIT an open transaction: anything the
+            // lease did not commit itself is rolled back, failed or not
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            connection.setAutoCommit(true);
+            idle.offer(connection);
+        } catch (SQLException e) {
+            discard(connection);
+        }
+    }
+
+    /**
+     * Connections currently open (idle + leased)
+     */
+    public synchronized int getOpenConnections() {
+        return all.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        List<Connection> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<>(all);
+            all.clear();
+        }
+        idle.clear();
+        for (Connection connection : toClose) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Closing anyway
+            }
+        }
+    }
+
+    /**
+     * One borrowed connection; close() returns it to the pool
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Connection connection;
+        private boolean failed;
+        private boolean returned;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        public Connection connection() {
+            return connection;
+        }
+
+        /**
+         * Mark the work as failed: close() rolls back, and drops the
+         * connection instead of pooling it if the failure broke it
+         */
+        public void fail() {
+            failed = true;
+        }
+
+        @Override
+        public void close() {
+            if (!returned) {
+                returned = true;
+                giveBack(connection, failed);
+            }
+        }
+    }
+}
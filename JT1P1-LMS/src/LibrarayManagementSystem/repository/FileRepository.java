@@ -1,10 +1,14 @@
 package LibrarayManagementSystem.repository;
 
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
 import LibrarayManagementSystem.models.Book;
 import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.utils.StringDictionary;
 
 import java.io.*;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * FileRepository - Handles file persistence for Library Management System
@@ -17,12 +21,22 @@ import java.util.HashMap;
  * -------------
  * 1. Books data → books.dat
  * 2. Members data → members.dat
- * 
+ * 3. ID high-water marks → book.hwm, member.hwm
+ *
  * HOW IT WORKS:
  * -------------
  * - Uses Java Serialization (ObjectOutputStream/ObjectInputStream)
  * - Saves HashMap directly to file
  * - Loads HashMap back from file
+ *
+ * books.dat LAYOUT:
+ * -----------------
+ *     String[] authors      (StringDictionary.AUTHORS table, index = ID)
+ *     String[] publishers   (StringDictionary.PUBLISHERS table)
+ *     HashMap<Long, Book>   (each Book stores author/publisher IDs)
+ *
+ * Each name is written once instead of once per book. Old files (just the
+ * HashMap, with Strings inside each Book) still load.
  * 
  * WHEN TO USE:
  * ------------
@@ -31,17 +45,33 @@ import java.util.HashMap;
  * - loadBooks() → On program start
  * - loadMembers() → On program start
  */
-public class FileRepository {
+public class FileRepository implements LibraryRepository {
 
     // File paths
-    private static final String BOOKS_FILE = "data/books.dat";
-    private static final String MEMBERS_FILE = "data/members.dat";
-    private static final String DATA_DIR = "data";
+    private static final String DEFAULT_DATA_DIR = "data";
+    private final String dataDir;
+    private final String booksFile;
+    private final String membersFile;
+
+    // Decoded books.dat for findBooks(), with the file stamp it was read at
+    private HashMap<Long, Book> bookCache;
+    private long bookCacheModified;
+    private long bookCacheLength;
 
     /**
      * Constructor - Creates data directory if it doesn't exist
      */
     public FileRepository() {
+        this(DEFAULT_DATA_DIR);
+    }
+
+    /**
+     * Constructor with custom data directory (e.g. a temp dir for benchmarks)
+     */
+    public FileRepository(String dataDir) {
+        this.dataDir = dataDir;
+        this.booksFile = dataDir + "/books.dat";
+        this.membersFile = dataDir + "/members.dat";
         createDataDirectory();
     }
 
@@ -49,10 +79,10 @@ public class FileRepository {
      * Create data directory
      */
     private void createDataDirectory() {
-        File dir = new File(DATA_DIR);
+        File dir = new File(dataDir);
         if (!dir.exists()) {
             dir.mkdirs();
-            System.out.println("📁 Created data directory");
+            Log.info("📁 Created data directory");
         }
     }
 
@@ -61,17 +91,25 @@ public class FileRepository {
     /**
      * Save books to file
      * 
-     * @param books HashMap of books to save
+     * @param books map of books to save (always written as a HashMap, whatever the store)
      */
-    public void saveBooks(HashMap<Long, Book> books) {
+    @Override
+    public void saveBooks(Map<Long, Book> books) {
+        long start = Metrics.start();
         try (ObjectOutputStream oos = new ObjectOutputStream(
-                new FileOutputStream(BOOKS_FILE))) {
+                new FileOutputStream(booksFile))) {
 
-            oos.writeObject(books);
-            System.out.println("💾 Books saved successfully (" + books.size() + " books)");
+            // Tables first: loadBooks() needs them before it can decode any Book
+            oos.writeObject(StringDictionary.AUTHORS.snapshot());
+            oos.writeObject(StringDictionary.PUBLISHERS.snapshot());
+            oos.writeObject(books instanceof HashMap ? books : new HashMap<>(books));
+            Log.info("💾 Books saved successfully ({} books)", books.size());
 
         } catch (IOException e) {
-            System.err.println("❌ Error saving books: " + e.getMessage());
+            Log.error("❌ Error saving books: {}", e.getMessage());
+        } finally {
+            dropBookCache();  // A rewrite within the clock's resolution may keep the same stamp
+            Metrics.SAVE_BOOKS.record(start);
         }
     }
 
@@ -81,44 +119,101 @@ public class FileRepository {
      * @return HashMap of books, or empty HashMap if file doesn't exist
      */
     @SuppressWarnings("unchecked")
+    @Override
     public HashMap<Long, Book> loadBooks() {
-        File file = new File(BOOKS_FILE);
+        long start = Metrics.start();
+        File file = new File(booksFile);
 
         // If file doesn't exist, return empty HashMap
         if (!file.exists()) {
-            System.out.println("📂 No saved books found. Starting fresh.");
+            Log.info("📂 No saved books found. Starting fresh.");
             return new HashMap<>();
         }
 
         try (ObjectInputStream ois = new ObjectInputStream(
-                new FileInputStream(BOOKS_FILE))) {
+                new FileInputStream(booksFile))) {
 
-            HashMap<Long, Book> books = (HashMap<Long, Book>) ois.readObject();
-            System.out.println("📖 Loaded " + books.size() + " books from file");
+            HashMap<Long, Book> books = readBooks(ois);
+            Log.info("📖 Loaded {} books from file", books.size());
             return books;
 
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("❌ Error loading books: " + e.getMessage());
+            Log.error("❌ Error loading books: {}", e.getMessage());
             return new HashMap<>();
+        } finally {
+            Metrics.LOAD_BOOKS.record(start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HashMap<Long, Book> readBooks(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        Object first = ois.readObject();
+        if (!(first instanceof String[])) {
+            return (HashMap<Long, Book>) first;  // Old format: Strings inside each Book
+        }
+
+        // Saved IDs may differ from this JVM's IDs - Book.readObject translates them
+        int[] authorIds = StringDictionary.AUTHORS.restore((String[]) first);
+        int[] publisherIds = StringDictionary.PUBLISHERS.restore((String[]) ois.readObject());
+        StringDictionary.AUTHORS.beginLoad(authorIds);
+        StringDictionary.PUBLISHERS.beginLoad(publisherIds);
+        try {
+            return (HashMap<Long, Book>) ois.readObject();
+        } finally {
+            StringDictionary.AUTHORS.endLoad();
+            StringDictionary.PUBLISHERS.endLoad();
         }
     }
 
+    /**
+     * Multi-get from books.dat
+     *
+     * A file has no index, so the whole snapshot is decoded ONCE and kept
+     * until books.dat changes (new modification time or size). The books
+     * returned are shared between calls: read them, don't change them.
+     */
+    @Override
+    public synchronized Book[] findBooks(long[] bookIds) {
+        Book[] result = new Book[bookIds.length];
+        if (bookIds.length == 0) {
+            return result;
+        }
+        File file = new File(booksFile);
+        if (bookCache == null || file.lastModified() != bookCacheModified || file.length() != bookCacheLength) {
+            bookCacheModified = file.lastModified();
+            bookCacheLength = file.length();
+            bookCache = loadBooks();
+        }
+        for (int i = 0; i < bookIds.length; i++) {
+            result[i] = bookCache.get(bookIds[i]);
+        }
+        return result;
+    }
+
+    private synchronized void dropBookCache() {
+        bookCache = null;
+    }
+
     // ==================== MEMBER OPERATIONS ====================
 
     /**
      * Save members to file
      * 
-     * @param members HashMap of members to save
+     * @param members map of members to save (always written as a HashMap)
      */
-    public void saveMembers(HashMap<Long, Member> members) {
+    @Override
+    public void saveMembers(Map<Long, Member> members) {
+        long start = Metrics.start();
         try (ObjectOutputStream oos = new ObjectOutputStream(
-                new FileOutputStream(MEMBERS_FILE))) {
+                new FileOutputStream(membersFile))) {
 
-            oos.writeObject(members);
-            System.out.println("💾 Members saved successfully (" + members.size() + " members)");
+            oos.writeObject(members instanceof HashMap ? members : new HashMap<>(members));
+            Log.info("💾 Members saved successfully ({} members)", members.size());
 
         } catch (IOException e) {
-            System.err.println("❌ Error saving members: " + e.getMessage());
+            Log.error("❌ Error saving members: {}", e.getMessage());
+        } finally {
+            Metrics.SAVE_MEMBERS.record(start);
         }
     }
 
@@ -128,54 +223,105 @@ public class FileRepository {
      * @return HashMap of members, or empty HashMap if file doesn't exist
      */
     @SuppressWarnings("unchecked")
+    @Override
     public HashMap<Long, Member> loadMembers() {
-        File file = new File(MEMBERS_FILE);
+        long start = Metrics.start();
+        File file = new File(membersFile);
 
         // If file doesn't exist, return empty HashMap
         if (!file.exists()) {
-            System.out.println("📂 No saved members found. Starting fresh.");
+            Log.info("📂 No saved members found. Starting fresh.");
             return new HashMap<>();
         }
 
         try (ObjectInputStream ois = new ObjectInputStream(
-                new FileInputStream(MEMBERS_FILE))) {
+                new FileInputStream(membersFile))) {
 
             HashMap<Long, Member> members = (HashMap<Long, Member>) ois.readObject();
-            System.out.println("👥 Loaded " + members.size() + " members from file");
+            Log.info("👥 Loaded {} members from file", members.size());
             return members;
 
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("❌ Error loading members: " + e.getMessage());
+            Log.error("❌ Error loading members: {}", e.getMessage());
             return new HashMap<>();
+        } finally {
+            Metrics.LOAD_MEMBERS.record(start);
         }
     }
 
+    // ==================== ID HIGH-WATER MARKS ====================
+
+    /**
+     * Save the highest reserved ID for an allocator (e.g. "book" → data/book.hwm)
+     *
+     * Written once per ID block, so the cost is tiny compared to saveBooks()
+     */
+    @Override
+    public void saveIdHighWaterMark(String name, long mark) {
+        try (DataOutputStream dos = new DataOutputStream(
+                new FileOutputStream(highWaterMarkFile(name)))) {
+
+            dos.writeLong(mark);
+
+        } catch (IOException e) {
+            Log.error("❌ Error saving {} ID mark: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Load the highest reserved ID for an allocator
+     *
+     * @return saved mark, or 0 if nothing was saved yet
+     */
+    @Override
+    public long loadIdHighWaterMark(String name) {
+        File file = new File(highWaterMarkFile(name));
+        if (!file.exists()) {
+            return 0L;
+        }
+
+        try (DataInputStream dis = new DataInputStream(
+                new FileInputStream(file))) {
+
+            return dis.readLong();
+
+        } catch (IOException e) {
+            Log.error("❌ Error loading {} ID mark: {}", name, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private String highWaterMarkFile(String name) {
+        return dataDir + "/" + name + ".hwm";
+    }
+
     // ==================== UTILITY OPERATIONS ====================
 
     /**
      * Clear all saved data (delete files)
      */
+    @Override
     public void clearAllData() {
-        File booksFile = new File(BOOKS_FILE);
-        File membersFile = new File(MEMBERS_FILE);
+        File books = new File(booksFile);
+        File members = new File(membersFile);
 
-        if (booksFile.exists()) {
-            booksFile.delete();
-            System.out.println("🗑️ Deleted books data");
+        if (books.exists()) {
+            books.delete();
+            Log.info("🗑️ Deleted books data");
         }
+        dropBookCache();
 
-        if (membersFile.exists()) {
-            membersFile.delete();
-            System.out.println("🗑️ Deleted members data");
+        if (members.exists()) {
+            members.delete();
+            Log.info("🗑️ Deleted members data");
         }
     }
 
     /**
      * Check if saved data exists
      */
+    @Override
     public boolean hasSavedData() {
-        File booksFile = new File(BOOKS_FILE);
-        File membersFile = new File(MEMBERS_FILE);
-        return booksFile.exists() || membersFile.exists();
+        return new File(booksFile).exists() || new File(membersFile).exists();
     }
 }
@@ -0,0 +1,551 @@
+package LibrarayManagementSystem.repository;
+
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JdbcRepository - Books and members in SQL tables instead of .dat files
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * FileRepository rewrites the WHOLE catalog on every save: adding one book
+ * to 100k books writes 100k books. Here a save writes only what changed.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * 1. DIRTY ROWS ONLY: after every load/save we keep a copy of the column
+ *    values of every book/member row. save*() still gets the full map (same
+ *    contract as FileRepository), but only rows whose values differ from
+ *    that copy are upserted, and rows that disappeared are deleted. The
+ *    compare is exact: no hash, so no edit can be missed by a collision.
+ * 2. BATCHING: all upserts of one save go through ONE PreparedStatement
+ *    with addBatch(), sent every BATCH_SIZE rows, in ONE transaction.
+ * 3. POOLING: connections come from a ConnectionPool, not one per save.
+ * 4. If the transaction fails it is rolled back and the saved copies are
+ *    kept, so the next save retries the same rows.
+ *
+ * TABLES (created if missing):
+ * ----------------------------
+ *     lms_books         id PK, title, author, publisher, isbn, copies_total, copies_available, available
+ *     lms_members       id PK, name, phone
+ *     lms_member_loans  member_id, slot, book_id       (borrowed IDs in order)
+ *     lms_id_marks      name PK, mark                  (IdAllocator high-water marks)
+ *
+ * The JDBC driver is NOT a dependency of this module: put it on the
+ * classpath (H2, PostgreSQL, SQLite...) and pass its URL.
+ */
+public class JdbcRepository implements LibraryRepository, Closeable {
+
+    public static final int DEFAULT_POOL_SIZE = 4;
+    static final int BATCH_SIZE = 1_000;
+
+    private static final String[] BOOK_COLUMNS = {
+            "id", "title", "author", "publisher", "isbn", "copies_total", "copies_available", "available"};
+    private static final String[] MEMBER_COLUMNS = {"id", "name", "phone"};
+
+    private final ConnectionPool pool;
+    private final boolean ownsPool;
+    private final String upsertBook;
+    private final String upsertMember;
+    private final String upsertMark;
+
+    // ID → the row as it is in the database right now
+    private final HashMap<Long, BookRow> bookRows = new HashMap<>();
+    private final HashMap<Long, MemberRow> memberRows = new HashMap<>();
+
+    /**
+     * Repository with its own pool of DEFAULT_POOL_SIZE connections
+     */
+    public JdbcRepository(String url, String user, String password) {
+        this(new ConnectionPool(url, user, password, DEFAULT_POOL_SIZE), true);
+    }
+
+    /**
+     * Repository on a shared pool (the caller closes the pool)
+     */
+    public JdbcRepository(ConnectionPool pool) {
+        this(pool, false);
+    }
+
+    private JdbcRepository(ConnectionPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        SqlDialect dialect = SqlDialect.forUrl(pool.getUrl());
+        this.upsertBook = dialect.upsert("lms_books", "id", BOOK_COLUMNS);
+        this.upsertMember = dialect.upsert("lms_members", "id", MEMBER_COLUMNS);
+        this.upsertMark = dialect.upsert("lms_id_marks", "name", "name", "mark");
+        createTables();
+    }
+
+    private void createTables() {
+        try (ConnectionPool.Lease lease = pool.lease();
+             Statement statement = lease.connection().createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS lms_books (id BIGINT PRIMARY KEY,"
+                    + " title VARCHAR(4000), author VARCHAR(4000), publisher VARCHAR(4000), isbn VARCHAR(100),"
+                    + " copies_total INT, copies_available INT, available BOOLEAN)");
+            statement.execute("CREATE TABLE IF NOT EXISTS lms_members (id BIGINT PRIMARY KEY,"
+                    + " name VARCHAR(4000), phone VARCHAR(100))");
+            statement.execute("CREATE TABLE IF NOT EXISTS lms_member_loans (member_id BIGINT NOT NULL,"
+                    + " slot INT NOT NULL, book_id BIGINT NOT NULL, PRIMARY KEY (member_id, slot))");
+            statement.execute("CREATE TABLE IF NOT EXISTS lms_id_marks (name VARCHAR(50) PRIMARY KEY, mark BIGINT)");
+        } catch (SQLException e) {
+            Log.error("❌ Error creating tables: {}", e.getMessage());
+        }
+    }
+
+    // ==================== BOOK OPERATIONS ====================
+
+    /**
+     * Upsert changed books, delete removed ones - one transaction
+     */
+    @Override
+    public synchronized void saveBooks(Map<Long, Book> books) {
+        long start = Metrics.start();
+        try {
+            List<BookRow> dirty = new ArrayList<>();
+            for (Book book : books.values()) {
+                BookRow saved = bookRows.get(book.getBookId());
+                if (saved == null || !saved.matches(book)) {
+                    dirty.add(new BookRow(book));
+                }
+            }
+            List<Long> removed = removedIds(bookRows, books);
+            if (dirty.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+
+            try (ConnectionPool.Lease lease = pool.lease()) {
+                Connection connection = lease.connection();
+                connection.setAutoCommit(false);
+                try (PreparedStatement upsert = connection.prepareStatement(upsertBook);
+                     PreparedStatement delete = connection.prepareStatement("DELETE FROM lms_books WHERE id = ?")) {
+                    int pending = 0;
+                    for (BookRow row : dirty) {
+                        upsert.setLong(1, row.id);
+                        upsert.setString(2, row.title);
+                        upsert.setString(3, row.author);
+                        upsert.setString(4, row.publisher);
+                        upsert.setString(5, row.isbn);
+                        upsert.setInt(6, row.copiesTotal);
+                        upsert.setInt(7, row.copiesAvailable);
+                        upsert.setBoolean(8, row.available);
+                        upsert.addBatch();
+                        if (++pending == BATCH_SIZE) {
+                            upsert.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        upsert.executeBatch();
+                    }
+                    deleteIds(delete, removed);
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    lease.fail();  // Any failure mid-batch: roll back, never commit half of it
+                    throw e;
+                }
+            }
+
+            // Committed: the database now holds exactly these rows
+            for (BookRow row : dirty) {
+                bookRows.put(row.id, row);
+            }
+            removed.forEach(bookRows::remove);
+            Log.info("💾 Books saved ({} changed, {} removed, {} total)", dirty.size(), removed.size(), books.size());
+
+        } catch (SQLException e) {
+            Log.error("❌ Error saving books: {}", e.getMessage());
+        } finally {
+            Metrics.SAVE_BOOKS.record(start);
+        }
+    }
+
+    @Override
+    public synchronized HashMap<Long, Book> loadBooks() {
+        long start = Metrics.start();
+        HashMap<Long, Book> books = new HashMap<>();
+        try (ConnectionPool.Lease lease = pool.lease();
+             Statement statement = lease.connection().createStatement();
+             ResultSet rows = statement.executeQuery("SELECT " + String.join(", ", BOOK_COLUMNS) + " FROM lms_books")) {
+            while (rows.next()) {
+                Book book = readBook(rows);
+                books.put(book.getBookId(), book);
+            }
+            bookRows.clear();
+            for (Book book : books.values()) {
+                bookRows.put(book.getBookId(), new BookRow(book));
+            }
+            Log.info("📖 Loaded {} books from database", books.size());
+        } catch (SQLException e) {
+            Log.error("❌ Error loading books: {}", e.getMessage());
+            books.clear();
+        } finally {
+            Metrics.LOAD_BOOKS.record(start);
+        }
+        return books;
+    }
+
+    /**
+     * Read ONE book by primary key, without loading the catalog
+     *
+     * @return the book, or null if there is no such row
+     */
+    public Book findBook(long bookId) {
+        try (ConnectionPool.Lease lease = pool.lease();
+             PreparedStatement select = lease.connection().prepareStatement(
+                     "SELECT " + String.join(", ", BOOK_COLUMNS) + " FROM lms_books WHERE id = ?")) {
+            select.setLong(1, bookId);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? readBook(rows) : null;
+            }
+        } catch (SQLException e) {
+            Log.error("❌ Error reading book {}: {}", bookId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Read many books by primary key: one SELECT ... WHERE id IN (...) per
+     * BATCH_SIZE distinct IDs (a member's loans always fit in one)
+     */
+    @Override
+    public Book[] findBooks(long[] bookIds) {
+        Book[] result = new Book[bookIds.length];
+        long[] distinct = Arrays.stream(bookIds).distinct().toArray();
+        if (distinct.length == 0) {
+            return result;
+        }
+        HashMap<Long, Book> found = new HashMap<>();
+        try (ConnectionPool.Lease lease = pool.lease()) {
+            for (int from = 0; from < distinct.length; from += BATCH_SIZE) {
+                int count = Math.min(BATCH_SIZE, distinct.length - from);
+                try (PreparedStatement select = lease.connection().prepareStatement(
+                        "SELECT " + String.join(", ", BOOK_COLUMNS) + " FROM lms_books WHERE id IN ("
+                                + SqlDialect.placeholders(count) + ")")) {
+                    for (int i = 0; i < count; i++) {
+                        select.setLong(i + 1, distinct[from + i]);
+                    }
+                    try (ResultSet rows = select.executeQuery()) {
+                        while (rows.next()) {
+                            Book book = readBook(rows);
+                            found.put(book.getBookId(), book);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            Log.error("❌ Error reading {} books: {}", bookIds.length, e.getMessage());
+            return result;
+        }
+        for (int i = 0; i < bookIds.length; i++) {
+            result[i] = found.get(bookIds[i]);
+        }
+        return result;
+    }
+
+    private static Book readBook(ResultSet rows) throws SQLException {
+        Book book = new Book(rows.getLong(1), rows.getString(2), rows.getString(3), rows.getString(4),
+                rows.getString(5), rows.getInt(6), false);
+        book.setBookCopiesAvailable(rows.getInt(7));
+        book.setBookAvailable(rows.getBoolean(8));
+        return book;
+    }
+
+    // ==================== MEMBER OPERATIONS ====================
+
+    /**
+     * Upsert changed members (and rewrite their loan rows), delete removed ones
+     */
+    @Override
+    public synchronized void saveMembers(Map<Long, Member> members) {
+        long start = Metrics.start();
+        try {
+            List<MemberRow> dirty = new ArrayList<>();
+            for (Member member : members.values()) {
+                MemberRow saved = memberRows.get(member.getMemberId());
+                if (saved == null || !saved.matches(member)) {
+                    dirty.add(new MemberRow(member));
+                }
+            }
+            List<Long> removed = removedIds(memberRows, members);
+            if (dirty.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+
+            try (ConnectionPool.Lease lease = pool.lease()) {
+                Connection connection = lease.connection();
+                connection.setAutoCommit(false);
+                try (PreparedStatement upsert = connection.prepareStatement(upsertMember);
+                     PreparedStatement clearLoans = connection.prepareStatement(
+                             "DELETE FROM lms_member_loans WHERE member_id = ?");
+                     PreparedStatement insertLoan = connection.prepareStatement(
+                             "INSERT INTO lms_member_loans (member_id, slot, book_id) VALUES (?, ?, ?)");
+                     PreparedStatement delete = connection.prepareStatement("DELETE FROM lms_members WHERE id = ?")) {
+                    List<Long> changedIds = new ArrayList<>(dirty.size() + removed.size());
+                    for (MemberRow row : dirty) {
+                        changedIds.add(row.id);
+                    }
+                    changedIds.addAll(removed);
+                    deleteIds(clearLoans, changedIds);  // Loans of changed members are rewritten below
+
+                    int pending = 0;
+                    for (MemberRow row : dirty) {
+                        upsert.setLong(1, row.id);
+                        upsert.setString(2, row.name);
+                        upsert.setString(3, row.phone);
+                        upsert.addBatch();
+                        for (int slot = 0; slot < row.borrowed.length; slot++) {
+                            insertLoan.setLong(1, row.id);
+                            insertLoan.setInt(2, slot);
+                            insertLoan.setLong(3, row.borrowed[slot]);
+                            insertLoan.addBatch();
+                        }
+                        if (++pending == BATCH_SIZE) {
+                            upsert.executeBatch();
+                            insertLoan.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        upsert.executeBatch();
+                        insertLoan.executeBatch();
+                    }
+                    deleteIds(delete, removed);
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    lease.fail();  // Any failure mid-batch: roll back, never commit half of it
+                    throw e;
+                }
+            }
+
+            for (MemberRow row : dirty) {
+                memberRows.put(row.id, row);
+            }
+            removed.forEach(memberRows::remove);
+            Log.info("💾 Members saved ({} changed, {} removed, {} total)", dirty.size(), removed.size(), members.size());
+
+        } catch (SQLException e) {
+            Log.error("❌ Error saving members: {}", e.getMessage());
+        } finally {
+            Metrics.SAVE_MEMBERS.record(start);
+        }
+    }
+
+    @Override
+    public synchronized HashMap<Long, Member> loadMembers() {
+        long start = Metrics.start();
+        HashMap<Long, Member> members = new HashMap<>();
+        try (ConnectionPool.Lease lease = pool.lease();
+             Statement statement = lease.connection().createStatement()) {
+            HashMap<Long, List<Long>> loans = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT member_id, book_id FROM lms_member_loans ORDER BY member_id, slot")) {
+                while (rows.next()) {
+                    loans.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>()).add(rows.getLong(2));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT id, name, phone FROM lms_members")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    members.put(id, new Member(id, rows.getString(2), rows.getString(3),
+                            loans.getOrDefault(id, List.of())));
+                }
+            }
+            memberRows.clear();
+            for (Member member : members.values()) {
+                memberRows.put(member.getMemberId(), new MemberRow(member));
+            }
+            Log.info("👥 Loaded {} members from database", members.size());
+        } catch (SQLException e) {
+            Log.error("❌ Error loading members: {}", e.getMessage());
+            members.clear();
+        } finally {
+            Metrics.LOAD_MEMBERS.record(start);
+        }
+        return members;
+    }
+
+    // ==================== ID HIGH-WATER MARKS ====================
+
+    @Override
+    public void saveIdHighWaterMark(String name, long mark) {
+        try (ConnectionPool.Lease lease = pool.lease();
+             PreparedStatement upsert = lease.connection().prepareStatement(upsertMark)) {
+            upsert.setString(1, name);
+            upsert.setLong(2, mark);
+            upsert.executeUpdate();
+        } catch (SQLException e) {
+            Log.error("❌ Error saving {} ID mark: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public long loadIdHighWaterMark(String name) {
+        try (ConnectionPool.Lease lease = pool.lease();
+             PreparedStatement select = lease.connection().prepareStatement(
+                     "SELECT mark FROM lms_id_marks WHERE name = ?")) {
+            select.setString(1, name);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? rows.getLong(1) : 0L;
+            }
+        } catch (SQLException e) {
+            Log.error("❌ Error loading {} ID mark: {}", name, e.getMessage());
+            return 0L;
+        }
+    }
+
+    // ==================== UTILITY OPERATIONS ====================
+
+    /**
+     * Delete all books and members (ID marks stay, like FileRepository's .hwm files)
+     */
+    @Override
+    public synchronized void clearAllData() {
+        try (ConnectionPool.Lease lease = pool.lease();
+             Statement statement = lease.connection().createStatement()) {
+            statement.executeUpdate("DELETE FROM lms_member_loans");
+            statement.executeUpdate("DELETE FROM lms_members");
+            statement.executeUpdate("DELETE FROM lms_books");
+            bookRows.clear();
+            memberRows.clear();
+            Log.info("🗑️ Deleted books and members data");
+        } catch (SQLException e) {
+            Log.error("❌ Error clearing data: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasSavedData() {
+        try (ConnectionPool.Lease lease = pool.lease();
+             Statement statement = lease.connection().createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT (SELECT COUNT(*) FROM lms_books) + (SELECT COUNT(*) FROM lms_members)")) {
+            return rows.next() && rows.getLong(1) > 0;
+        } catch (SQLException e) {
+            Log.error("❌ Error checking saved data: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+
+    // ==================== DIRTY TRACKING ====================
+
+    private static List<Long> removedIds(HashMap<Long, ?> saved, Map<Long, ?> current) {
+        List<Long> removed = new ArrayList<>();
+        for (Long id : saved.keySet()) {
+            if (!current.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        return removed;
+    }
+
+    private static void deleteIds(PreparedStatement delete, List<Long> ids) throws SQLException {
+        int pending = 0;
+        for (long id : ids) {
+            delete.setLong(1, id);
+            delete.addBatch();
+            if (++pending == BATCH_SIZE) {
+                delete.executeBatch();
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            delete.executeBatch();
+        }
+    }
+
+    /**
+     * Column values of one lms_books row, copied when it was read or written
+     */
+    private static final class BookRow {
+        final long id;
+        final String title;
+        final String author;
+        final String publisher;
+        final String isbn;
+        final int copiesTotal;
+        final int copiesAvailable;
+        final boolean available;
+
+        BookRow(Book book) {
+            this.id = book.getBookId();
+            this.title = book.getBookTitle();
+            this.author = book.getBookAuthor();
+            this.publisher = book.getBookPublisher();
+            this.isbn = book.getBookISBN();
+            this.copiesTotal = book.getBookCopiesTotal();
+            this.copiesAvailable = book.getBookCopiesAvailable();
+            this.available = book.isBookAvailable();
+        }
+
+        boolean matches(Book book) {
+            return copiesAvailable == book.getBookCopiesAvailable()
+                    && available == book.isBookAvailable()
+                    && copiesTotal == book.getBookCopiesTotal()
+                    && Objects.equals(title, book.getBookTitle())
+                    && Objects.equals(author, book.getBookAuthor())
+                    && Objects.equals(publisher, book.getBookPublisher())
+                    && Objects.equals(isbn, book.getBookISBN());
+        }
+    }
+
+    /**
+     * Column values of one lms_members row plus its lms_member_loans rows
+     */
+    private static final class MemberRow {
+        final long id;
+        final String name;
+        final String phone;
+        final long[] borrowed;
+
+        MemberRow(Member member) {
+            this.id = member.getMemberId();
+            this.name = member.getMemberName();
+            this.phone = member.getMemberPhone();
+            List<Long> bookIds = member.getBorrowedBookIds();
+            this.borrowed = new long[bookIds.size()];
+            for (int i = 0; i < borrowed.length; i++) {
+                borrowed[i] = bookIds.get(i);
+            }
+        }
+
+        boolean matches(Member member) {
+            if (!Objects.equals(name, member.getMemberName())
+                    || !Objects.equals(phone, member.getMemberPhone())) {
+                return false;
+            }
+            List<Long> bookIds = member.getBorrowedBookIds();
+            if (bookIds.size() != borrowed.length) {
+                return false;
+            }
+            for (int i = 0; i < borrowed.length; i++) {
+                if (bookIds.get(i) != borrowed[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
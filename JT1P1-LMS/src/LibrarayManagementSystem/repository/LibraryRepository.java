@@ -0,0 +1,63 @@
+package LibrarayManagementSystem.repository;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LibraryRepository - Where BookService and MemberService persist their data
+ *
+ * WHY AN INTERFACE? (Dependency Inversion)
+ * ----------------------------------------
+ * The services only need "save these books" / "give me the saved books".
+ * They should not care whether that is a file or a database.
+ *
+ *     FileRepository  → books.dat / members.dat (whole snapshot per save)
+ *     JdbcRepository  → SQL tables (only changed rows per save)
+ *
+ * CONTRACT:
+ * ---------
+ * - save*() gets the FULL current map; the implementation decides how
+ *   much of it really has to be written
+ * - load*() returns an empty map when nothing was saved yet
+ * - Errors are logged, not thrown (same as the original FileRepository)
+ */
+public interface LibraryRepository {
+
+    void saveBooks(Map<Long, Book> books);
+
+    HashMap<Long, Book> loadBooks();
+
+    /**
+     * Read some books without loading the catalog (multi-get)
+     *
+     * For a BookService that has not loaded the catalog: the member view
+     * reads all borrowed books in one round trip instead of one per ID.
+     *
+     * @return array aligned with bookIds: result[i] is the book, or null if missing
+     */
+    Book[] findBooks(long[] bookIds);
+
+    void saveMembers(Map<Long, Member> members);
+
+    HashMap<Long, Member> loadMembers();
+
+    /**
+     * Save the highest reserved ID for an allocator (e.g. "book")
+     */
+    void saveIdHighWaterMark(String name, long mark);
+
+    /**
+     * @return saved mark, or 0 if nothing was saved yet
+     */
+    long loadIdHighWaterMark(String name);
+
+    /**
+     * Delete all saved books and members
+     */
+    void clearAllData();
+
+    boolean hasSavedData();
+}
@@ -0,0 +1,55 @@
+package LibrarayManagementSystem.repository;
+
+import java.util.Collections;
+
+/**
+ * SqlDialect - The one statement that differs between databases: UPSERT
+ *
+ *     H2        MERGE INTO t (a, b) KEY (a) VALUES (?, ?)
+ *     STANDARD  INSERT INTO t (a, b) VALUES (?, ?)
+ *               ON CONFLICT (a) DO UPDATE SET b = excluded.b   (PostgreSQL, SQLite)
+ *
+ * Everything else JdbcRepository sends is plain SQL.
+ */
+enum SqlDialect {
+
+    H2 {
+        @Override
+        String upsert(String table, String key, String... columns) {
+            return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (" + key + ") VALUES ("
+                    + placeholders(columns.length) + ")";
+        }
+    },
+
+    STANDARD {
+        @Override
+        String upsert(String table, String key, String... columns) {
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+                    .append(placeholders(columns.length)).append(") ON CONFLICT (").append(key)
+                    .append(") DO UPDATE SET ");
+            boolean first = true;
+            for (String column : columns) {
+                if (column.equals(key)) {
+                    continue;
+                }
+                sql.append(first ? "" : ", ").append(column).append(" = excluded.").append(column);
+                first = false;
+            }
+            return sql.toString();
+        }
+    };
+
+    /**
+     * Upsert statement; parameters are bound in the order of columns
+     */
+    abstract String upsert(String table, String key, String... columns);
+
+    static SqlDialect forUrl(String url) {
+        return url.startsWith("jdbc:h2:") ? H2 : STANDARD;
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
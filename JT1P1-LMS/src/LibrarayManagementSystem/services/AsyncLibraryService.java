@@ -0,0 +1,136 @@
+package LibrarayManagementSystem.services;
+
+import LibrarayManagementSystem.analytics.CatalogReport;
+import LibrarayManagementSystem.models.Book;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * AsyncLibraryService - Non-blocking facade over LibraryService
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * "Check availability → issue → show stats" used to be three blocking
+ * calls that print their results. A client serving many users wants to
+ * START the work, get a value back later, and chain the next step on it.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - Every method returns a CompletableFuture with a typed result
+ *   (LoanStatus, Book, CatalogReport...) instead of console output
+ * - The work runs on the Executor you pass in: a fixed pool, a
+ *   ForkJoinPool, or Runnable::run to stay on the caller's thread
+ * - PIPELINING: dependent calls chain with thenCompose() without
+ *   blocking a thread in between, e.g.
+ *
+ *       async.checkIssue(bookId, memberId)
+ *            .thenCompose(status -> status.isSuccess()
+ *                    ? async.issueBook(bookId, memberId)
+ *                    : CompletableFuture.completedFuture(status))
+ *            .thenCompose(issued -> async.stats());
+ *
+ *   issueIfAvailable() is exactly that first step.
+ *
+ * THREAD SAFETY:
+ * --------------
+ * The services underneath are NOT thread-safe, so this facade puts a
+ * read/write lock in front of them: lookups, checks and stats share the
+ * READ lock and run in parallel; issue/return take the WRITE lock.
+ * Once a LibraryService is wrapped, all callers must go through the facade.
+ *
+ * বাংলায়: future return করে, কাজ executor এ হয়, result টা value হিসেবে আসে।
+ */
+public class AsyncLibraryService {
+
+    private final LibraryService libraryService;
+    private final BookService bookService;
+    private final Executor executor;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    public AsyncLibraryService(LibraryService libraryService, Executor executor) {
+        this.libraryService = libraryService;
+        this.bookService = libraryService.getBookService();
+        this.executor = executor;
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    // ==================== LOANS ====================
+
+    public CompletableFuture<LoanStatus> checkIssue(long bookId, long memberId) {
+        return read(() -> libraryService.checkIssue(bookId, memberId));
+    }
+
+    public CompletableFuture<LoanStatus> issueBook(long bookId, long memberId) {
+        return write(() -> libraryService.issueBook(bookId, memberId));
+    }
+
+    public CompletableFuture<LoanStatus> returnBook(long bookId, long memberId) {
+        return write(() -> libraryService.returnBook(bookId, memberId));
+    }
+
+    /**
+     * Pipelined check → issue: the issue is only sent if the check passes
+     *
+     * The check runs under the shared read lock, so a doomed request never
+     * waits for the write lock. issueBook() checks again, so a race between
+     * the two steps can only turn ISSUED into NOT_AVAILABLE, never into a
+     * double issue.
+     */
+    public CompletableFuture<LoanStatus> issueIfAvailable(long bookId, long memberId) {
+        return checkIssue(bookId, memberId).thenCompose(status -> status.isSuccess()
+                ? issueBook(bookId, memberId)
+                : CompletableFuture.completedFuture(status));
+    }
+
+    // ==================== LOOKUPS ====================
+
+    public CompletableFuture<Optional<Book>> findBook(long bookId) {
+        return read(() -> Optional.ofNullable(bookService.tryFindBookById(bookId)));
+    }
+
+    /**
+     * Multi-get: result[i] is the book for bookIds[i], or null
+     */
+    public CompletableFuture<Book[]> findBooks(long[] bookIds) {
+        return read(() -> bookService.findBooksByIds(bookIds));
+    }
+
+    public CompletableFuture<List<Book>> findBooksByTitle(String title) {
+        return read(() -> bookService.findBooksByTitle(title));
+    }
+
+    /**
+     * Library statistics as a value (what displayLibraryStats() prints)
+     */
+    public CompletableFuture<CatalogReport> stats() {
+        return read(libraryService::getLibraryReport);
+    }
+
+    // ==================== PLUMBING ====================
+
+    private <T> CompletableFuture<T> read(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> locked(readLock, work), executor);
+    }
+
+    private <T> CompletableFuture<T> write(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> locked(writeLock, work), executor);
+    }
+
+    private static <T> T locked(Lock lock, Supplier<T> work) {
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
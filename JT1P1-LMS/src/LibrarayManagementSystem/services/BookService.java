@@ -1,12 +1,23 @@
 package LibrarayManagementSystem.services;
 
 import LibrarayManagementSystem.exception.BookNotFoundException;
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
 import LibrarayManagementSystem.models.Book;
 import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.repository.LibraryRepository;
+import LibrarayManagementSystem.utils.IdAllocator;
+import LibrarayManagementSystem.utils.StringDictionary;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -19,50 +30,150 @@ import java.util.stream.Collectors;
  * NEW: File Persistence
  * - Auto-saves after add/remove operations
  * - Can load data from file on startup
+ *
+ * NEW: Pluggable catalog store
+ * - Default: HashMap on the heap
+ * - OffHeapBookStore keeps records + strings in native memory
+ *   (same Map interface, so nothing else changes)
+ *
+ * NEW: Dictionary-encoded author / publisher
+ * - Books carry int IDs (StringDictionary), so author search and
+ *   group-by compare ints instead of Strings
  */
 public class BookService {
 
-    private HashMap<Long, Book> books; // Using HashMap for O(1) lookup by ID
-    private FileRepository fileRepository;
+    private final Map<Long, Book> books; // HashMap (default) or OffHeapBookStore - O(1) lookup by ID
+    private LibraryRepository repository; // FileRepository (default) or JdbcRepository
+    private final List<CatalogChangeListener> changeListeners = new CopyOnWriteArrayList<>(); // add/remove এর পরে notify
+
+    // True once the catalog was loaded or written through this service
+    private boolean resident;
 
     public BookService() {
         this.books = new HashMap<>();
-        this.fileRepository = new FileRepository();
+        this.repository = new FileRepository();
     }
 
     /**
-     * Constructor with FileRepository injection
+     * Constructor with repository injection (FileRepository, JdbcRepository, ...)
      */
-    public BookService(FileRepository fileRepository) {
-        this.books = new HashMap<>();
-        this.fileRepository = fileRepository;
+    public BookService(LibraryRepository repository) {
+        this(repository, new HashMap<>());
+    }
+
+    /**
+     * Constructor with a custom catalog store (e.g. new OffHeapBookStore())
+     */
+    public BookService(LibraryRepository repository, Map<Long, Book> store) {
+        this.books = store;
+        this.repository = repository;
+    }
+
+    /**
+     * Save the book ID high-water mark to this repository
+     *
+     * Book IDs come from one process-wide IdAllocator, so this is set ONCE at
+     * startup (Main), not per service - a second BookService (a replica, a
+     * scratch copy) must not redirect where the real catalog's IDs are saved.
+     */
+    public static void persistIdsTo(LibraryRepository repository) {
+        IdAllocator.BOOKS.setPersister(mark -> repository.saveIdHighWaterMark(IdAllocator.BOOKS.getName(), mark));
+    }
+
+    /**
+     * Register a listener for add/remove events (e.g. replication)
+     */
+    public void addChangeListener(CatalogChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(CatalogChangeListener listener) {
+        changeListeners.remove(listener);
     }
 
     /**
      * Load books from file
+     * Also restores the ID allocator so new books never reuse a saved ID
      */
     public void loadFromFile() {
-        this.books = fileRepository.loadBooks();
+        // Copy into the configured store (the loaded HashMap is only temporary)
+        books.clear();
+        books.putAll(repository.loadBooks());
+        resident = true;
+
+        // New IDs must start after both the saved mark and every loaded ID
+        long maxLoadedId = books.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+        long savedMark = repository.loadIdHighWaterMark(IdAllocator.BOOKS.getName());
+        IdAllocator.BOOKS.recover(Math.max(maxLoadedId, savedMark));
     }
 
     /**
      * Save books to file
      */
     public void saveToFile() {
-        fileRepository.saveBooks(books);
+        repository.saveBooks(books);
     }
 
     /**
      * Add a book to the collection
      */
     public void addBook(Book book) {
+        long start = Metrics.start();
         try {
+            if (book.getBookId() <= 0) {
+                Log.warn("❌ Error adding book: Book ID is not set or invalid.");
+                return;
+            }
             books.put(book.getBookId(), book);
-            System.out.println("✅ Book added: " + book.getBookTitle());
+            resident = true;
+            for (CatalogChangeListener listener : changeListeners) {
+                listener.onBookSaved(book);
+            }
+            Log.info("✅ Book added: {}", book.getBookTitle());
             saveToFile(); // Auto-save
-        } catch (BookNotFoundException e) {
-            System.out.println("❌ Error adding book: " + e.getMessage());
+        } finally {
+            Metrics.ADD_BOOK.record(start);
+        }
+    }
+
+    /**
+     * Add many books at once (bulk import)
+     *
+     * WHY NOT addBook() in a loop? addBook() logs a line and rewrites the
+     * whole books.dat per book. Here: no per-book log, no auto-save -
+     * the caller saves ONE snapshot when the import is finished.
+     *
+     * @return number of books added (books without a valid ID are skipped)
+     */
+    public int addBooks(Collection<Book> batch) {
+        int added = 0;
+        for (Book book : batch) {
+            if (book.getBookId() > 0) {
+                books.put(book.getBookId(), book);
+                resident = true;
+                for (CatalogChangeListener listener : changeListeners) {
+                    listener.onBookSaved(book);
+                }
+                added++;
+            }
         }
+        return added;
+    }
+
+    /**
+     * Apply a book received from a replication primary
+     *
+     * No log line, no auto-save, no change listeners - the follower only
+     * mirrors the primary, it does not produce changes of its own.
+     */
+    public void putReplicated(Book book) {
+        books.put(book.getBookId(), book);
+        resident = true;
+    }
+
+    public void removeReplicated(long bookId) {
+        books.remove(bookId);
+        resident = true;
     }
 
     /**
@@ -71,29 +182,200 @@ public class BookService {
      * @throws BookNotFoundException if book doesn't exist
      */
     public Book findBookById(long bookId) throws BookNotFoundException {
-        Book book = books.get(bookId);
+        Book book = tryFindBookById(bookId);
         if (book == null) {
-            throw new BookNotFoundException("Book with ID " + bookId + " not found");
+            throw new BookNotFoundException(bookId);
         }
         return book;
     }
 
+    /**
+     * Find book by ID without throwing
+     *
+     * WHY? A miss is a normal answer ("no such book"), not an error.
+     * Returning null costs nothing; an exception allocates an object + message.
+     * Services use this internally; findBookById() is kept for callers
+     * that prefer the exception.
+     *
+     * @return the book, or null if there is no book with this ID
+     */
+    public Book tryFindBookById(long bookId) {
+        long start = Metrics.start();
+        try {
+            return holdsCatalog() ? books.get(bookId) : repository.findBooks(new long[]{bookId})[0];
+        } finally {
+            Metrics.FIND_BOOK_BY_ID.record(start);
+        }
+    }
+
+    /**
+     * Find a book that is about to be changed (issue / return)
+     *
+     * The next save writes the whole map, so a change must be made on the
+     * in-memory catalog: it is loaded first if this service does not hold it.
+     *
+     * @return the book, or null if there is no book with this ID
+     */
+    public Book tryFindBookForUpdate(long bookId) {
+        if (!holdsCatalog()) {
+            loadFromFile();
+        }
+        return tryFindBookById(bookId);
+    }
+
+    /**
+     * The in-memory map is the catalog once it was loaded or written, or
+     * holds anything at all (e.g. filled through getBooks()). Until then the
+     * repository has the only copy, and lookups read from it.
+     */
+    private boolean holdsCatalog() {
+        return resident || !books.isEmpty();
+    }
+
+    /**
+     * Look up many books in ONE call (multi-get)
+     *
+     * WHY? A member view used to call tryFindBookById() once per borrowed ID.
+     * One call per batch means one metrics sample instead of N. Same source
+     * as tryFindBookById(): the in-memory catalog, or - if this service does
+     * not hold it - ONE LibraryRepository.findBooks() call for the batch.
+     *
+     * @return array aligned with bookIds: result[i] is the book, or null if missing
+     */
+    public Book[] findBooksByIds(long[] bookIds) {
+        Book[] result = new Book[bookIds.length];
+        findBooksByIds(bookIds, result);
+        return result;
+    }
+
+    /**
+     * Multi-get into a caller-owned buffer (reuse it across calls, no allocation here)
+     *
+     * result[i] = book for bookIds[i], or null if there is none. Slots after
+     * bookIds.length are left untouched.
+     *
+     * @return number of IDs that were found
+     * @throws IllegalArgumentException if result is shorter than bookIds
+     */
+    public int findBooksByIds(long[] bookIds, Book[] result) {
+        if (result.length < bookIds.length) {
+            throw new IllegalArgumentException("Result buffer holds " + result.length
+                    + " books, " + bookIds.length + " requested");
+        }
+        long start = Metrics.start();
+        try {
+            boolean inMemory = holdsCatalog();
+            Book[] stored = inMemory ? null : repository.findBooks(bookIds);
+            int found = 0;
+            for (int i = 0; i < bookIds.length; i++) {
+                Book book = inMemory ? books.get(bookIds[i]) : stored[i];
+                result[i] = book;
+                if (book != null) {
+                    found++;
+                }
+            }
+            return found;
+        } finally {
+            Metrics.FIND_BOOKS_BY_IDS.record(start);
+        }
+    }
+
     /**
      * Search books by title (partial match)
      */
     public List<Book> findBooksByTitle(String title) {
-        return books.values().stream()
-                .filter(book -> book.getBookTitle().toLowerCase().contains(title.toLowerCase()))
-                .collect(Collectors.toList());
+        long start = Metrics.start();
+        try {
+            return books.values().stream()
+                    .filter(book -> book.getBookTitle().toLowerCase().contains(title.toLowerCase()))
+                    .collect(Collectors.toList());
+        } finally {
+            Metrics.FIND_BOOKS_BY_TITLE.record(start);
+        }
     }
 
     /**
      * Search books by author (partial match)
+     *
+     * The partial match runs once per DISTINCT author in the dictionary;
+     * the scan over the books then only checks an int against a BitSet.
      */
     public List<Book> findBooksByAuthor(String author) {
-        return books.values().stream()
-                .filter(book -> book.getBookAuthor().toLowerCase().contains(author.toLowerCase()))
-                .collect(Collectors.toList());
+        long start = Metrics.start();
+        try {
+            String needle = author.toLowerCase();
+            BitSet authorIds = StringDictionary.AUTHORS.matchingIds(name -> name.toLowerCase().contains(needle));
+            List<Book> result = new ArrayList<>();
+            if (authorIds.isEmpty()) {
+                return result;
+            }
+            for (Book book : books.values()) {
+                int authorId = book.getBookAuthorId();
+                if (authorId != StringDictionary.NULL_ID && authorIds.get(authorId)) {
+                    result.add(book);
+                }
+            }
+            return result;
+        } finally {
+            Metrics.FIND_BOOKS_BY_AUTHOR.record(start);
+        }
+    }
+
+    /**
+     * Number of books per author, most books first
+     *
+     * Counts into an int[] indexed by author ID - no String hashing per book.
+     */
+    public Map<String, Integer> countBooksByAuthor() {
+        long start = Metrics.start();
+        try {
+            int[] counts = new int[StringDictionary.AUTHORS.size()];
+            for (Book book : books.values()) {
+                int authorId = book.getBookAuthorId();
+                if (authorId != StringDictionary.NULL_ID) {
+                    counts[authorId]++;
+                }
+            }
+            return toCountMap(counts, StringDictionary.AUTHORS);
+        } finally {
+            Metrics.COUNT_BOOKS_BY_AUTHOR.record(start);
+        }
+    }
+
+    /**
+     * Number of books per publisher, most books first
+     */
+    public Map<String, Integer> countBooksByPublisher() {
+        long start = Metrics.start();
+        try {
+            int[] counts = new int[StringDictionary.PUBLISHERS.size()];
+            for (Book book : books.values()) {
+                int publisherId = book.getBookPublisherId();
+                if (publisherId != StringDictionary.NULL_ID) {
+                    counts[publisherId]++;
+                }
+            }
+            return toCountMap(counts, StringDictionary.PUBLISHERS);
+        } finally {
+            Metrics.COUNT_BOOKS_BY_PUBLISHER.record(start);
+        }
+    }
+
+    // Decode only the non-zero counters (one String per group, not per book)
+    private static Map<String, Integer> toCountMap(int[] counts, StringDictionary dictionary) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.comparingInt((Integer id) -> counts[id]).reversed());
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int id : ids) {
+            result.put(dictionary.decode(id), counts[id]);
+        }
+        return result;
     }
 
     /**
@@ -116,10 +398,20 @@ public class BookService {
      * Remove a book
      */
     public void removeBook(long bookId) throws BookNotFoundException {
-        Book book = findBookById(bookId);
-        books.remove(bookId);
-        System.out.println("✅ Book removed: " + book.getBookTitle());
-        saveToFile(); // Auto-save
+        long start = Metrics.start();
+        try {
+            Book book = books.remove(bookId);
+            if (book == null) {
+                throw new BookNotFoundException(bookId);
+            }
+            for (CatalogChangeListener listener : changeListeners) {
+                listener.onBookRemoved(bookId);
+            }
+            Log.info("✅ Book removed: {}", book.getBookTitle());
+            saveToFile(); // Auto-save
+        } finally {
+            Metrics.REMOVE_BOOK.record(start);
+        }
     }
 
     /**
@@ -173,9 +465,9 @@ public class BookService {
     }
 
     /**
-     * Get books HashMap (for direct access if needed)
+     * Get books map (for direct access if needed)
      */
-    public HashMap<Long, Book> getBooks() {
+    public Map<Long, Book> getBooks() {
         return books;
     }
 }
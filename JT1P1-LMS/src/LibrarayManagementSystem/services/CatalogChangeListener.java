@@ -0,0 +1,34 @@
+package LibrarayManagementSystem.services;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+
+/**
+ * CatalogChangeListener - Gets notified after a book or member is added / removed
+ *
+ * Same idea as LoanListener, one level down: BookService and MemberService
+ * call it after their maps changed (used by replication to log mutations).
+ *
+ * Changes made through a Book/Member setter directly are NOT reported -
+ * only changes that go through the services.
+ */
+public interface CatalogChangeListener {
+
+    /**
+     * Book was added or replaced (addBook / addBooks)
+     */
+    default void onBookSaved(Book book) {
+    }
+
+    default void onBookRemoved(long bookId) {
+    }
+
+    /**
+     * Member was registered or registered again
+     */
+    default void onMemberSaved(Member member) {
+    }
+
+    default void onMemberRemoved(long memberId) {
+    }
+}
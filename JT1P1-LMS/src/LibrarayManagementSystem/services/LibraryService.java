@@ -1,11 +1,15 @@
 package LibrarayManagementSystem.services;
 
-import LibrarayManagementSystem.exception.BookNotAvailableException;
-import LibrarayManagementSystem.exception.BookNotFoundException;
-import LibrarayManagementSystem.exception.MemberNotFoundException;
+import LibrarayManagementSystem.analytics.CatalogAnalytics;
+import LibrarayManagementSystem.analytics.CatalogReport;
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
 import LibrarayManagementSystem.models.Book;
 import LibrarayManagementSystem.models.Member;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * LibraryService - The ORCHESTRATOR
  * 
@@ -39,6 +43,8 @@ public class LibraryService {
 
     private BookService bookService; // Book operations এর জন্য
     private MemberService memberService; // Member operations এর জন্য
+    private final List<LoanListener> loanListeners = new CopyOnWriteArrayList<>(); // Issue/return এর পরে notify
+    private final CatalogAnalytics analytics; // সব statistics এক pass এ
 
     /**
      * Constructor - Both services inject করা হয়
@@ -49,6 +55,21 @@ public class LibraryService {
     public LibraryService(BookService bookService, MemberService memberService) {
         this.bookService = bookService;
         this.memberService = memberService;
+        this.analytics = new CatalogAnalytics(bookService, memberService);
+    }
+
+    /**
+     * Register a listener for issue/return events
+     *
+     * WHY? Recommendations, statistics etc. can react to loans
+     * without LibraryService knowing about them
+     */
+    public void addLoanListener(LoanListener listener) {
+        loanListeners.add(listener);
+    }
+
+    public void removeLoanListener(LoanListener listener) {
+        loanListeners.remove(listener);
     }
 
     // ==================== MAIN LIBRARY OPERATIONS ====================
@@ -66,30 +87,33 @@ public class LibraryService {
      * 6. Update member: add book ID to borrowed list
      * 
      * এইটাই হলো COORDINATION! 🎯
+     *
+     * @return ISSUED, or why it was not issued
      */
-    public void issueBook(long bookId, long memberId) {
+    public LoanStatus issueBook(long bookId, long memberId) {
+        long start = Metrics.start();
         try {
-
-            if (!canIssueBook(bookId, memberId)) {
-                return;
-            }
-
-            // Step 1: Find book using BookService
-            Book book = bookService.findBookById(bookId);
+            // Step 1: Find book using BookService (null = not found, no exception)
+            Book book = bookService.tryFindBookForUpdate(bookId);
 
             // Step 2: Find member using MemberService
-            Member member = memberService.findMemberById(memberId);
+            Member member = memberService.tryFindMemberById(memberId);
+
+            if (book == null || member == null) {
+                logNotFound(book, bookId, member, memberId);
+                return book == null ? LoanStatus.BOOK_NOT_FOUND : LoanStatus.MEMBER_NOT_FOUND;
+            }
 
             // Step 3: Check if book is available
             if (!book.isBookAvailable() || book.getBookCopiesAvailable() <= 0) {
-                throw new BookNotAvailableException(
-                        "❌ Book '" + book.getBookTitle() + "' is not available!");
+                Log.warn("❌ Book '{}' is not available!", book.getBookTitle());
+                return LoanStatus.NOT_AVAILABLE;
             }
 
             // Step 4: Check if member already borrowed this book
             if (member.hasBorrowedBook(bookId)) {
-                System.out.println("❌ Member has already borrowed this book!");
-                return;
+                Log.warn("❌ Member has already borrowed this book!");
+                return LoanStatus.ALREADY_BORROWED;
             }
 
             // Step 5: Update book - decrease available copies
@@ -98,18 +122,17 @@ public class LibraryService {
             // Step 6: Update member - add book to borrowed list
             member.addBorrowedBook(bookId);
 
+            for (LoanListener listener : loanListeners) {
+                listener.onBookIssued(book, member, bookId);
+            }
+
             // Success!
-            System.out.println("\n✅ Book issued successfully!");
-            System.out.println("   Member: " + member.getMemberName());
-            System.out.println("   Book: " + book.getBookTitle());
-            System.out.println("   Copies remaining: " + book.getBookCopiesAvailable());
-
-        } catch (BookNotFoundException e) {
-            System.out.println("❌ Error: " + e.getMessage());
-        } catch (MemberNotFoundException e) {
-            System.out.println("❌ Error: " + e.getMessage());
-        } catch (BookNotAvailableException e) {
-            System.out.println("❌ " + e.getMessage());
+            Log.info("\n✅ Book issued successfully!\n   Member: {}\n   Book: {}\n   Copies remaining: {}",
+                    member.getMemberName(), book.getBookTitle(), book.getBookCopiesAvailable());
+            return LoanStatus.ISSUED;
+
+        } finally {
+            Metrics.ISSUE_BOOK.record(start);
         }
     }
 
@@ -123,19 +146,27 @@ public class LibraryService {
      * 3. Check: member actually borrowed this book?
      * 4. Update book: increase copy
      * 5. Update member: remove book ID from list
+     *
+     * @return RETURNED, or why it was not returned
      */
-    public void returnBook(long bookId, long memberId) {
+    public LoanStatus returnBook(long bookId, long memberId) {
+        long start = Metrics.start();
         try {
             // Step 1: Find book
-            Book book = bookService.findBookById(bookId);
+            Book book = bookService.tryFindBookForUpdate(bookId);
 
             // Step 2: Find member
-            Member member = memberService.findMemberById(memberId);
+            Member member = memberService.tryFindMemberById(memberId);
+
+            if (book == null || member == null) {
+                logNotFound(book, bookId, member, memberId);
+                return book == null ? LoanStatus.BOOK_NOT_FOUND : LoanStatus.MEMBER_NOT_FOUND;
+            }
 
             // Step 3: Check if member actually borrowed this book
             if (!member.hasBorrowedBook(bookId)) {
-                System.out.println("❌ Member did not borrow this book!");
-                return;
+                Log.warn("❌ Member did not borrow this book!");
+                return LoanStatus.NOT_BORROWED;
             }
 
             // Step 4: Update book - increase available copies
@@ -144,16 +175,29 @@ public class LibraryService {
             // Step 5: Update member - remove book from borrowed list
             member.removeBorrowedBook(bookId);
 
+            for (LoanListener listener : loanListeners) {
+                listener.onBookReturned(book, member, bookId);
+            }
+
             // Success!
-            System.out.println("\n✅ Book returned successfully!");
-            System.out.println("   Member: " + member.getMemberName());
-            System.out.println("   Book: " + book.getBookTitle());
-            System.out.println("   Copies available now: " + book.getBookCopiesAvailable());
-
-        } catch (BookNotFoundException e) {
-            System.out.println("❌ Error: " + e.getMessage());
-        } catch (MemberNotFoundException e) {
-            System.out.println("❌ Error: " + e.getMessage());
+            Log.info("\n✅ Book returned successfully!\n   Member: {}\n   Book: {}\n   Copies available now: {}",
+                    member.getMemberName(), book.getBookTitle(), book.getBookCopiesAvailable());
+            return LoanStatus.RETURNED;
+
+        } finally {
+            Metrics.RETURN_BOOK.record(start);
+        }
+    }
+
+    /**
+     * Misses are normal (typo in an ID), so no exception - just a lazily formatted warning
+     */
+    private static void logNotFound(Book book, long bookId, Member member, long memberId) {
+        if (book == null) {
+            Log.warn("❌ Error: Book not found: Book with ID {} not found", bookId);
+        }
+        if (member == null) {
+            Log.warn("❌ Error: Member not found: Member with ID {} not found", memberId);
         }
     }
 
@@ -172,33 +216,52 @@ public class LibraryService {
      * Display library statistics
      * 
      * USES BOTH SERVICES to gather complete info
+     * (one analytics pass instead of a separate scan per number)
      */
     public void displayLibraryStats() {
+        CatalogReport report = getLibraryReport();
         System.out.println("\n📊 === Library Statistics ===");
-        System.out.println("   Total Books: " + bookService.getTotalBooksCount());
-        System.out.println("   Available Books: " + bookService.getAvailableBooksCount());
-        System.out.println("   Total Members: " + memberService.getTotalMembersCount());
+        System.out.println("   Total Books: " + report.getTotalBooks());
+        System.out.println("   Available Books: " + report.getAvailableBooks());
+        System.out.println("   Total Members: " + report.getTotalMembers());
+        System.out.println("   Books on Loan: " + report.getTotalLoans());
         System.out.println("=".repeat(50));
     }
 
+    /**
+     * Full management report: per publisher, per author, per loan bucket
+     */
+    public CatalogReport getLibraryReport() {
+        return analytics.run();
+    }
+
     /**
      * Check if a book can be issued
      * 
      * VALIDATION logic - checks before actually issuing
      */
     public boolean canIssueBook(long bookId, long memberId) {
-        try {
-            Book book = bookService.findBookById(bookId);
-            Member member = memberService.findMemberById(memberId);
-
-            // All conditions for successful issue
-            return book.isBookAvailable()
-                    && book.getBookCopiesAvailable() > 0
-                    && !member.hasBorrowedBook(bookId);
+        return checkIssue(bookId, memberId) == LoanStatus.AVAILABLE;
+    }
 
-        } catch (BookNotFoundException | MemberNotFoundException e) {
-            return false;
+    /**
+     * Same checks as issueBook(), without changing anything or logging
+     *
+     * @return AVAILABLE if issueBook() would succeed now, otherwise the reason it would not
+     */
+    public LoanStatus checkIssue(long bookId, long memberId) {
+        Book book = bookService.tryFindBookById(bookId);
+        if (book == null) {
+            return LoanStatus.BOOK_NOT_FOUND;
+        }
+        Member member = memberService.tryFindMemberById(memberId);
+        if (member == null) {
+            return LoanStatus.MEMBER_NOT_FOUND;
+        }
+        if (!book.isBookAvailable() || book.getBookCopiesAvailable() <= 0) {
+            return LoanStatus.NOT_AVAILABLE;
         }
+        return member.hasBorrowedBook(bookId) ? LoanStatus.ALREADY_BORROWED : LoanStatus.AVAILABLE;
     }
 
     /**
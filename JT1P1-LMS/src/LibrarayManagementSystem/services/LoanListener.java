@@ -0,0 +1,27 @@
+package LibrarayManagementSystem.services;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+
+/**
+ * LoanListener - Gets notified after LibraryService issues or returns a book
+ *
+ * WHY? Features like recommendations or statistics need to react to loans,
+ * but LibraryService should not know about each of them.
+ * They register a listener instead (Observer pattern).
+ *
+ * Called only after the operation succeeded and both objects are updated.
+ */
+public interface LoanListener {
+
+    /**
+     * Book was issued; member.getBorrowedBookIds() already contains bookId
+     */
+    void onBookIssued(Book book, Member member, long bookId);
+
+    /**
+     * Book was returned; member.getBorrowedBookIds() no longer contains bookId
+     */
+    default void onBookReturned(Book book, Member member, long bookId) {
+    }
+}
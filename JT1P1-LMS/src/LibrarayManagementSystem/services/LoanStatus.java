@@ -0,0 +1,24 @@
+package LibrarayManagementSystem.services;
+
+/**
+ * LoanStatus - What happened to an issue/return request (or what would happen)
+ *
+ * WHY? issueBook() used to only print its result. Callers that want to
+ * react (async clients, pipelines, UIs) need the answer as a value.
+ */
+public enum LoanStatus {
+
+    ISSUED,
+    RETURNED,
+    AVAILABLE,          // checkIssue(): the issue would succeed right now
+
+    BOOK_NOT_FOUND,
+    MEMBER_NOT_FOUND,
+    NOT_AVAILABLE,      // No copies left
+    ALREADY_BORROWED,   // Member already holds this book
+    NOT_BORROWED;       // Return of a book the member does not hold
+
+    public boolean isSuccess() {
+        return this == ISSUED || this == RETURNED || this == AVAILABLE;
+    }
+}
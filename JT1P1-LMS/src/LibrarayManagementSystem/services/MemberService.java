@@ -1,13 +1,20 @@
 package LibrarayManagementSystem.services;
 
 import LibrarayManagementSystem.exception.MemberNotFoundException;
+import LibrarayManagementSystem.logging.Log;
+import LibrarayManagementSystem.metrics.Metrics;
 import LibrarayManagementSystem.models.Member;
 import LibrarayManagementSystem.models.Book;
 import LibrarayManagementSystem.repository.FileRepository;
+import LibrarayManagementSystem.repository.LibraryRepository;
+import LibrarayManagementSystem.utils.IdAllocator;
+import LibrarayManagementSystem.utils.NameTokenIndex;
+import LibrarayManagementSystem.utils.PhonePrefixTrie;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * MemberService - Manages all member-related operations
@@ -19,49 +26,109 @@ import java.util.List;
  * NEW: File Persistence
  * - Auto-saves after add/remove operations
  * - Can load data from file on startup
+ *
+ * NEW: Search indexes (front desk lookups)
+ * - Phone prefix trie + name token index, kept in sync by
+ *   registerMember()/removeMember() and rebuilt after loadFromFile()
+ * - Changing a member's name/phone through the setters does NOT update
+ *   the indexes - register the member again to re-index it
+ * - indexedKeys remembers the phone/name each member was indexed under, so
+ *   re-registering the same (edited) Member object removes the old entries;
+ *   searches also re-check the member's current phone/name
  */
 public class MemberService {
 
     private HashMap<Long, Member> members;
-    private FileRepository fileRepository;
+    private LibraryRepository repository; // FileRepository (default) or JdbcRepository
+    private final PhonePrefixTrie phoneIndex = new PhonePrefixTrie();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final HashMap<Long, String[]> indexedKeys = new HashMap<>(); // id → {phone, name} as indexed
+    private final List<CatalogChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     public MemberService() {
         this.members = new HashMap<>();
-        this.fileRepository = new FileRepository();
+        this.repository = new FileRepository();
     }
 
     /**
-     * Constructor with FileRepository injection
+     * Constructor with repository injection (FileRepository, JdbcRepository, ...)
      */
-    public MemberService(FileRepository fileRepository) {
+    public MemberService(LibraryRepository repository) {
         this.members = new HashMap<>();
-        this.fileRepository = fileRepository;
+        this.repository = repository;
+    }
+
+    /**
+     * Save the member ID high-water mark to this repository - once at startup,
+     * like BookService.persistIdsTo()
+     */
+    public static void persistIdsTo(LibraryRepository repository) {
+        IdAllocator.MEMBERS.setPersister(mark -> repository.saveIdHighWaterMark(IdAllocator.MEMBERS.getName(), mark));
+    }
+
+    /**
+     * Register a listener for register/remove events (e.g. replication)
+     */
+    public void addChangeListener(CatalogChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(CatalogChangeListener listener) {
+        changeListeners.remove(listener);
     }
 
     /**
      * Load members from file
+     * Also restores the ID allocator so new members never reuse a saved ID
      */
     public void loadFromFile() {
-        this.members = fileRepository.loadMembers();
+        this.members = repository.loadMembers();
+        rebuildIndexes();
+
+        // New IDs must start after both the saved mark and every loaded ID
+        long maxLoadedId = members.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+        long savedMark = repository.loadIdHighWaterMark(IdAllocator.MEMBERS.getName());
+        IdAllocator.MEMBERS.recover(Math.max(maxLoadedId, savedMark));
     }
 
     /**
      * Save members to file
      */
     public void saveToFile() {
-        fileRepository.saveMembers(members);
+        repository.saveMembers(members);
     }
 
     /**
      * Register a new member
      */
     public void registerMember(Member member) {
-        try {
-            members.put(member.getMemberId(), member);
-            System.out.println("✅ Member registered: " + member.getMemberName());
-            saveToFile(); // Auto-save
-        } catch (MemberNotFoundException e) {
-            System.err.println("❌ Error: " + e.getMessage());
+        if (member.getMemberId() <= 0) {
+            Log.warn("❌ Error: Member ID is not set or invalid.");
+            return;
+        }
+        members.put(member.getMemberId(), member);
+        unindex(member.getMemberId());  // Same ID registered again (e.g. after a rename)
+        index(member);
+        for (CatalogChangeListener listener : changeListeners) {
+            listener.onMemberSaved(member);
+        }
+        Log.info("✅ Member registered: {}", member.getMemberName());
+        saveToFile(); // Auto-save
+    }
+
+    /**
+     * Apply a member received from a replication primary
+     * (indexes updated; no log line, no auto-save, no change listeners)
+     */
+    public void putReplicated(Member member) {
+        members.put(member.getMemberId(), member);
+        unindex(member.getMemberId());
+        index(member);
+    }
+
+    public void removeReplicated(long memberId) {
+        if (members.remove(memberId) != null) {
+            unindex(memberId);
         }
     }
 
@@ -73,11 +140,140 @@ public class MemberService {
     public Member findMemberById(long memberId) throws MemberNotFoundException {
         Member member = members.get(memberId);
         if (member == null) {
-            throw new MemberNotFoundException("Member with ID " + memberId + " not found");
+            throw new MemberNotFoundException(memberId);
         }
         return member;
     }
 
+    /**
+     * Find member by ID without throwing
+     *
+     * @return the member, or null if there is no member with this ID
+     */
+    public Member tryFindMemberById(long memberId) {
+        return members.get(memberId);
+    }
+
+    /**
+     * Search members by the first digits of their phone number
+     *
+     * Non-digits are ignored, so "017-123" works the same as "017123"
+     *
+     * @param limit maximum number of members returned (a page of results)
+     */
+    public List<Member> findMembersByPhonePrefix(String phonePrefix, int limit) {
+        long start = Metrics.start();
+        try {
+            String digits = PhonePrefixTrie.digitsOf(phonePrefix);
+            if (limit <= 0 || digits.isEmpty()) {
+                return new ArrayList<>();
+            }
+            long[] ids = new long[limit];
+            // Phone changed through setMemberPhone() but not re-registered yet: not a match any more.
+            // Checked during the scan, so stale entries don't use up the limit
+            int found = phoneIndex.collect(phonePrefix, id -> phoneMatches(members.get(id), digits), ids, limit);
+            return membersOf(ids, found);
+        } finally {
+            Metrics.FIND_MEMBERS_BY_PHONE.record(start);
+        }
+    }
+
+    /**
+     * Search members by (partial) name
+     *
+     * Every word of the query must be the start of a word in the name:
+     * "ala hos" finds "Alamin Hossain", but not "Alamin Khan"
+     *
+     * @param limit maximum number of members returned (a page of results)
+     */
+    public List<Member> findMembersByName(String query, int limit) {
+        long start = Metrics.start();
+        try {
+            if (limit <= 0) {
+                return new ArrayList<>();
+            }
+            List<String> words = NameTokenIndex.tokensOf(query);
+            long[] ids = new long[limit];
+            int found = nameIndex.collect(query, id -> nameMatches(members.get(id), words), ids, limit);
+            return membersOf(ids, found);
+        } finally {
+            Metrics.FIND_MEMBERS_BY_NAME.record(start);
+        }
+    }
+
+    /**
+     * Is the member's current phone (not the indexed one) still under the prefix?
+     */
+    private static boolean phoneMatches(Member member, String digits) {
+        return member != null && PhonePrefixTrie.digitsOf(member.getMemberPhone()).startsWith(digits);
+    }
+
+    /**
+     * Does every query word start some word of the member's name?
+     * (runs once per candidate, so no allocation - regionMatches on the name itself)
+     */
+    private static boolean nameMatches(Member member, List<String> words) {
+        if (member == null || member.getMemberName() == null) {
+            return false;
+        }
+        String name = member.getMemberName();
+        for (String word : words) {
+            boolean matched = false;
+            for (int i = 0; i < name.length() && !matched; i++) {
+                boolean wordStart = Character.isLetterOrDigit(name.charAt(i))
+                        && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)));
+                matched = wordStart && name.regionMatches(true, i, word, 0, word.length());
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Member> membersOf(long[] ids, int count) {
+        List<Member> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Member member = members.get(ids[i]);
+            if (member != null) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rebuild both search indexes from the members map
+     *
+     * WHY PUBLIC? Code that fills getMembers() directly (bulk import,
+     * benchmarks) bypasses registerMember() and must call this afterwards
+     */
+    public void rebuildIndexes() {
+        phoneIndex.clear();
+        nameIndex.clear();
+        indexedKeys.clear();
+        for (Member member : members.values()) {
+            index(member);
+        }
+    }
+
+    private void index(Member member) {
+        String phone = member.getMemberPhone();
+        String name = member.getMemberName();
+        phoneIndex.put(phone, member.getMemberId());
+        nameIndex.put(name, member.getMemberId());
+        indexedKeys.put(member.getMemberId(), new String[]{phone, name});
+    }
+
+    // Remove the entries under the keys the member was indexed with (not its current ones)
+    private void unindex(long memberId) {
+        String[] keys = indexedKeys.remove(memberId);
+        if (keys != null) {
+            phoneIndex.remove(keys[0], memberId);
+            nameIndex.remove(keys[1], memberId);
+        }
+    }
+
     /**
      * Get all members
      */
@@ -89,9 +285,15 @@ public class MemberService {
      * Remove member
      */
     public void removeMember(long memberId) throws MemberNotFoundException {
-        Member member = findMemberById(memberId);
-        members.remove(memberId);
-        System.out.println("✅ Member removed: " + member.getMemberName());
+        Member member = members.remove(memberId);
+        if (member == null) {
+            throw new MemberNotFoundException(memberId);
+        }
+        unindex(memberId);
+        for (CatalogChangeListener listener : changeListeners) {
+            listener.onMemberRemoved(memberId);
+        }
+        Log.info("✅ Member removed: {}", member.getMemberName());
         saveToFile(); // Auto-save
     }
 
@@ -116,28 +318,28 @@ public class MemberService {
      * NOTE: Needs BookService to get book details
      */
     public void displayMemberBorrowedBooks(long memberId, BookService bookService) {
-        try {
-            Member member = findMemberById(memberId);
-            List<Long> borrowedBookIds = member.getBorrowedBookIds();
+        Member member = tryFindMemberById(memberId);
+        if (member == null) {
+            System.out.println("❌ " + new MemberNotFoundException(memberId).getMessage());
+            return;
+        }
+        long[] borrowedBookIds = member.getBorrowedBookIdArray();
 
-            System.out.println("\n📚 Books borrowed by: " + member.getMemberName());
+        System.out.println("\n📚 Books borrowed by: " + member.getMemberName());
 
-            if (borrowedBookIds.isEmpty()) {
-                System.out.println("   No books borrowed.");
-                return;
-            }
+        if (borrowedBookIds.length == 0) {
+            System.out.println("   No books borrowed.");
+            return;
+        }
 
-            for (Long bookId : borrowedBookIds) {
-                try {
-                    Book book = bookService.findBookById(bookId);
-                    System.out.println("   - " + book.getBookTitle() + " by " + book.getBookAuthor());
-                } catch (Exception e) {
-                    System.out.println("   - Book ID " + bookId + " (details not found)");
-                }
+        // One multi-get for all borrowed IDs instead of one lookup per ID
+        Book[] books = bookService.findBooksByIds(borrowedBookIds);
+        for (int i = 0; i < borrowedBookIds.length; i++) {
+            if (books[i] != null) {
+                System.out.println("   - " + books[i].getBookTitle() + " by " + books[i].getBookAuthor());
+            } else {
+                System.out.println("   - Book ID " + borrowedBookIds[i] + " (details not found)");
             }
-
-        } catch (MemberNotFoundException e) {
-            System.out.println("❌ " + e.getMessage());
         }
     }
 
@@ -0,0 +1,135 @@
+package LibrarayManagementSystem.services;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.utils.WindowedHeavyHitters;
+import LibrarayManagementSystem.utils.WindowedHeavyHitters.Ranked;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * PopularityService - "What's hot this week?" from a stream of issue events
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - Registered as a LoanListener on LibraryService
+ * - Every issued book is counted twice: by book ID and by author
+ * - Counts live in WindowedHeavyHitters (Count-Min sketch + top-K heap per
+ *   time bucket), so memory stays constant no matter how big the catalog is
+ * - Old buckets fall out of the window automatically
+ *
+ * Counts are estimates: they can be slightly HIGH (sketch collisions), never low.
+ */
+public class PopularityService implements LoanListener {
+
+    public static final long DEFAULT_BUCKET_MILLIS = TimeUnit.DAYS.toMillis(1);
+    public static final int DEFAULT_BUCKETS = 7;     // 7 × 1 day = "this week"
+    public static final int DEFAULT_TRACKED = 100;   // Top-K kept per bucket
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;   // 4 × 2048 longs = 64 KB per bucket
+
+    private final BookService bookService;
+    private final WindowedHeavyHitters<Long> bookCounts;
+    private final WindowedHeavyHitters<String> authorCounts;
+
+    public PopularityService(BookService bookService) {
+        this(bookService, System::currentTimeMillis, DEFAULT_BUCKET_MILLIS, DEFAULT_BUCKETS, DEFAULT_TRACKED);
+    }
+
+    /**
+     * Constructor with explicit clock and window (useful for demos and benchmarks)
+     */
+    public PopularityService(BookService bookService, LongSupplier clockMillis, long bucketMillis,
+            int buckets, int tracked) {
+        this.bookService = bookService;
+        this.bookCounts = new WindowedHeavyHitters<>(Long::longValue, clockMillis, bucketMillis,
+                buckets, tracked, SKETCH_DEPTH, SKETCH_WIDTH);
+        this.authorCounts = new WindowedHeavyHitters<>(PopularityService::hashAuthor, clockMillis, bucketMillis,
+                buckets, tracked, SKETCH_DEPTH, SKETCH_WIDTH);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters - String.hashCode() is only 32 bits
+     */
+    private static long hashAuthor(String author) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < author.length(); i++) {
+            hash ^= author.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Override
+    public void onBookIssued(Book book, Member member, long bookId) {
+        bookCounts.add(bookId);
+        if (book.getBookAuthor() != null) {
+            authorCounts.add(book.getBookAuthor());
+        }
+    }
+
+    /**
+     * Most-borrowed book IDs in the window, with estimated loan counts
+     */
+    public List<Ranked<Long>> topBookIds(int n) {
+        return bookCounts.topN(n);
+    }
+
+    /**
+     * Most-borrowed books in the window (books removed from the catalog are skipped)
+     */
+    public List<Book> topBooks(int n) {
+        List<Book> result = new ArrayList<>();
+        for (Ranked<Long> ranked : bookCounts.topN(n)) {
+            Book book = bookService.getBooks().get(ranked.getKey());
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Most-borrowed authors in the window, with estimated loan counts
+     */
+    public List<Ranked<String>> topAuthors(int n) {
+        return authorCounts.topN(n);
+    }
+
+    /**
+     * Estimated loans of one book in the window
+     */
+    public long estimatedLoans(long bookId) {
+        return bookCounts.estimate(bookId);
+    }
+
+    /**
+     * Display "what's hot" leaderboard
+     */
+    public void displayTrending(int n) {
+        System.out.println("\n🔥 === Most Borrowed (last "
+                + TimeUnit.MILLISECONDS.toDays(bookCounts.getWindowMillis()) + " days) ===");
+
+        List<Ranked<Long>> books = topBookIds(n);
+        if (books.isEmpty()) {
+            System.out.println("   No loans in this window.");
+        }
+        int rank = 1;
+        for (Ranked<Long> ranked : books) {
+            Book book = bookService.getBooks().get(ranked.getKey());
+            String title = book != null ? book.getBookTitle() : "Book ID " + ranked.getKey();
+            System.out.println("   " + rank++ + ". " + title + " (~" + ranked.getCount() + " loans)");
+        }
+
+        System.out.println("\n✍️ Top Authors:");
+        rank = 1;
+        for (Ranked<String> ranked : topAuthors(n)) {
+            System.out.println("   " + rank++ + ". " + ranked.getKey() + " (~" + ranked.getCount() + " loans)");
+        }
+        System.out.println("=".repeat(50));
+    }
+}
@@ -0,0 +1,117 @@
+package LibrarayManagementSystem.services;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.models.Member;
+import LibrarayManagementSystem.utils.CoOccurrenceIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RecommendationService - "Patrons who borrowed X also borrowed Y"
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - Registered as a LoanListener on LibraryService
+ * - On every issueBook(), the new book is paired with every other book the
+ *   member currently holds, and the CoOccurrenceIndex counts are incremented
+ * - recommend() just reads the ready-made top-N list for the book
+ *
+ * So the cost is paid once per issue (O(books the member holds)),
+ * instead of re-scanning every member's borrowedBookIds on each request.
+ */
+public class RecommendationService implements LoanListener {
+
+    public static final int DEFAULT_TOP_N = 10;
+    public static final long DEFAULT_MAX_PAIRS = 1_000_000L;  // ~12 MB of pair storage
+
+    private final BookService bookService;
+    private final CoOccurrenceIndex index;
+
+    public RecommendationService(BookService bookService) {
+        this(bookService, DEFAULT_TOP_N, DEFAULT_MAX_PAIRS);
+    }
+
+    public RecommendationService(BookService bookService, int topN, long maxPairs) {
+        this.bookService = bookService;
+        this.index = new CoOccurrenceIndex(topN, maxPairs);
+    }
+
+    @Override
+    public void onBookIssued(Book book, Member member, long bookId) {
+        List<Long> held = member.getBorrowedBookIds();
+        long[] others = new long[held.size()];
+        int count = 0;
+        for (Long otherId : held) {
+            if (otherId != bookId) {
+                others[count++] = otherId;
+            }
+        }
+        index.record(bookId, others, count);
+    }
+
+    /**
+     * Build the index from the members' current loans (e.g. after loadFromFile)
+     *
+     * One-time cost; afterwards the index is kept up to date by issue events
+     */
+    public void seedFrom(Collection<Member> members) {
+        index.clear();
+        for (Member member : members) {
+            List<Long> held = member.getBorrowedBookIds();
+            long[] ids = new long[held.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = held.get(i);
+                // Pair each book only with the ones before it - each pair counted once
+                index.record(ids[i], ids, i);
+            }
+        }
+    }
+
+    /**
+     * Get IDs of books most often borrowed together with bookId
+     */
+    public long[] recommendIds(long bookId, int limit) {
+        if (limit <= 0) {
+            return new long[0];
+        }
+        long[] out = new long[Math.min(limit, index.getTopN())];
+        int n = index.topFor(bookId, out, out.length);
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Get books most often borrowed together with bookId
+     * (books removed from the catalog are skipped)
+     */
+    public List<Book> recommend(long bookId, int limit) {
+        List<Book> result = new ArrayList<>();
+        for (long id : recommendIds(bookId, limit)) {
+            Book book = bookService.getBooks().get(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Display "also borrowed" list for the checkout screen
+     */
+    public void displayBorrowedTogether(long bookId, int limit) {
+        List<Book> books = recommend(bookId, limit);
+        if (books.isEmpty()) {
+            return;
+        }
+        System.out.println("   📖 Patrons who borrowed this also borrowed:");
+        for (Book book : books) {
+            System.out.println("      - " + book.getBookTitle() + " by " + book.getBookAuthor());
+        }
+    }
+
+    public CoOccurrenceIndex getIndex() {
+        return index;
+    }
+}
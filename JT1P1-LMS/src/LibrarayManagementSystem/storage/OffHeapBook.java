@@ -0,0 +1,156 @@
+package LibrarayManagementSystem.storage;
+
+import LibrarayManagementSystem.models.Book;
+
+/**
+ * OffHeapBook - Flyweight Book view over one OffHeapBookStore record
+ *
+ * Holds only (store, slot, bookId). Every getter reads native memory and
+ * every setter writes it, so the services can use it like any other Book.
+ *
+ * STALE VIEWS: if the book is removed and its slot reused, the stored ID
+ * no longer matches and any access throws IllegalStateException instead of
+ * silently showing another book.
+ *
+ * SERIALIZATION: writeReplace() turns the view into a plain heap Book,
+ * so books.dat keeps the same format whichever store is used.
+ */
+public class OffHeapBook extends Book {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient OffHeapBookStore store;
+    private final transient int slot;
+    private final long bookId;
+
+    OffHeapBook(OffHeapBookStore store, int slot, long bookId) {
+        this.store = store;
+        this.slot = slot;
+        this.bookId = bookId;
+    }
+
+    private int slot() {
+        if (store.idAt(slot) != bookId) {
+            throw new IllegalStateException("Book " + bookId + " was removed from the off-heap store");
+        }
+        return slot;
+    }
+
+    /**
+     * Copy the record into a normal heap Book (same ID, no new ID allocated)
+     */
+    public Book toHeapBook() {
+        int s = slot();
+        Book book = new Book(bookId, store.titleAt(s), getBookAuthor(), getBookPublisher(), store.isbnAt(s),
+                store.copiesTotalAt(s), store.availableAt(s));
+        book.setBookCopiesAvailable(store.copiesAvailableAt(s));
+        book.setBookAvailable(store.availableAt(s));  // setBookCopiesAvailable() derives it; keep the stored flag
+        return book;
+    }
+
+    private Object writeReplace() {
+        return toHeapBook();
+    }
+
+    @Override
+    public long getBookId() {
+        return bookId;
+    }
+
+    @Override
+    public boolean isBookAvailable() {
+        return store.availableAt(slot());
+    }
+
+    @Override
+    public void setBookAvailable(boolean bookAvailable) {
+        store.setAvailableAt(slot(), bookAvailable);
+    }
+
+    @Override
+    public String getBookTitle() {
+        return store.titleAt(slot());
+    }
+
+    @Override
+    public void setBookTitle(String bookTitle) {
+        store.setTitleAt(slot(), bookTitle);
+    }
+
+    @Override
+    public int getBookAuthorId() {
+        return store.authorIdAt(slot());
+    }
+
+    @Override
+    public void setBookAuthor(String bookAuthor) {
+        store.setAuthorAt(slot(), bookAuthor);
+    }
+
+    @Override
+    public int getBookPublisherId() {
+        return store.publisherIdAt(slot());
+    }
+
+    @Override
+    public void setBookPublisher(String bookPublisher) {
+        store.setPublisherAt(slot(), bookPublisher);
+    }
+
+    @Override
+    public String getBookISBN() {
+        return store.isbnAt(slot());
+    }
+
+    @Override
+    public void setBookISBN(String bookISBN) {
+        store.setIsbnAt(slot(), bookISBN);
+    }
+
+    @Override
+    public int getBookCopiesTotal() {
+        return store.copiesTotalAt(slot());
+    }
+
+    @Override
+    public void setBookCopiesTotal(int bookCopiesTotal) {
+        store.setCopiesTotalAt(slot(), bookCopiesTotal);
+    }
+
+    @Override
+    public int getBookCopiesAvailable() {
+        return store.copiesAvailableAt(slot());
+    }
+
+    @Override
+    public void setBookCopiesAvailable(int bookCopiesAvailable) {
+        int s = slot();
+        store.setCopiesAvailableAt(s, bookCopiesAvailable);
+        store.setAvailableAt(s, bookCopiesAvailable > 0);
+    }
+
+    @Override
+    public void decrementCopy() {
+        int s = slot();
+        int available = store.copiesAvailableAt(s);
+        if (available > 0) {
+            store.setCopiesAvailableAt(s, available - 1);
+            store.setAvailableAt(s, available - 1 > 0);
+        }
+    }
+
+    @Override
+    public void incrementCopy() {
+        int s = slot();
+        int available = store.copiesAvailableAt(s);
+        if (available < store.copiesTotalAt(s)) {
+            store.setCopiesAvailableAt(s, available + 1);
+            store.setAvailableAt(s, true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toHeapBook().toString();
+    }
+}
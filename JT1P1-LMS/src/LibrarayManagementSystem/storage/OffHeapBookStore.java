@@ -0,0 +1,364 @@
+package LibrarayManagementSystem.storage;
+
+import LibrarayManagementSystem.models.Book;
+import LibrarayManagementSystem.utils.LongIntHashMap;
+import LibrarayManagementSystem.utils.StringDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * OffHeapBookStore - The book catalog in native memory, behind the Map BookService uses
+ *
+ * WHY?
+ * ----
+ * On the heap every Book is an object + 4 Strings + 4 byte[] + a HashMap node
+ * + a boxed Long key: ~10 objects per book. At millions of books the old
+ * generation is huge and every full GC has to walk all of it.
+ * Here the GC sees a handful of ByteBuffers, whatever the catalog size.
+ *
+ * LAYOUT:
+ * -------
+ * - Records: fixed 48-byte slots in direct ByteBuffer chunks (65536 per chunk)
+ *
+ *       0 bookId | 8 titleRef | 16 authorId | 20 publisherId | 24 isbnRef
+ *       32 copiesTotal | 36 copiesAvailable | 40 flags (bit 0 = available)
+ *
+ * - Title / ISBN: a StringArena; the record holds refs into it
+ * - Author / publisher: StringDictionary IDs (same as heap Books), so the
+ *   repeated names are not copied into the arena once per book
+ * - Index: LongIntHashMap bookId → slot + 1 (primitive, no boxing)
+ * - Freed slots go on a free list and are reused by the next put()
+ *
+ * FLYWEIGHT VIEWS:
+ * ----------------
+ * get() returns an OffHeapBook: a tiny Book subclass holding only (store, slot, id).
+ * Its getters/setters read and write the record directly, so issueBook()'s
+ * decrementCopy() changes native memory, no write-back needed.
+ *
+ * RULES:
+ * ------
+ * - Keys must equal the book's ID and be > 0 (same as BookService)
+ * - Not thread-safe, same as BookService
+ * - put() COPIES the Book in; later changes to that heap object are not seen
+ */
+public class OffHeapBookStore extends AbstractMap<Long, Book> {
+
+    static final int RECORD_BYTES = 48;
+    private static final int ID = 0;
+    private static final int TITLE = 8;
+    private static final int AUTHOR = 16;
+    private static final int PUBLISHER = 20;
+    private static final int ISBN = 24;
+    private static final int COPIES_TOTAL = 32;
+    private static final int COPIES_AVAILABLE = 36;
+    private static final int FLAGS = 40;
+    private static final int FLAG_AVAILABLE = 1;
+
+    private static final int SLOTS_PER_CHUNK_SHIFT = 16;
+    private static final int SLOTS_PER_CHUNK = 1 << SLOTS_PER_CHUNK_SHIFT;
+
+    private final List<ByteBuffer> recordChunks = new ArrayList<>();
+    private final StringArena strings;
+    private final LongIntHashMap index = new LongIntHashMap(1024);
+
+    private int slotCount;          // Slots ever handed out (high-water mark)
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private EntrySet entrySet;
+
+    public OffHeapBookStore() {
+        this(new StringArena());
+    }
+
+    public OffHeapBookStore(StringArena strings) {
+        this.strings = strings;
+    }
+
+    // ==================== MAP OPERATIONS ====================
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long && index.containsKey((Long) key);
+    }
+
+    /**
+     * @return a live view of the record, or null
+     */
+    @Override
+    public Book get(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        long id = (Long) key;
+        int slot = index.get(id) - 1;
+        return slot < 0 ? null : new OffHeapBook(this, slot, id);
+    }
+
+    /**
+     * Copy book into native memory
+     *
+     * @return a heap copy of the record it replaced, or null
+     */
+    @Override
+    public Book put(Long key, Book book) {
+        long id = key;
+        if (id <= 0 || book.getBookId() != id) {
+            throw new IllegalArgumentException("Key must be the book's ID (> 0): " + key);
+        }
+
+        Book previous = null;
+        int slot = index.get(id) - 1;
+        if (slot >= 0) {
+            previous = toHeapBook(slot);
+            releaseStrings(slot);
+        } else {
+            slot = allocateSlot();
+            index.put(id, slot + 1);
+        }
+
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        chunk.putLong(offset + ID, id);
+        chunk.putLong(offset + TITLE, strings.append(book.getBookTitle()));
+        chunk.putInt(offset + AUTHOR, book.getBookAuthorId());
+        chunk.putInt(offset + PUBLISHER, book.getBookPublisherId());
+        chunk.putLong(offset + ISBN, strings.append(book.getBookISBN()));
+        chunk.putInt(offset + COPIES_TOTAL, book.getBookCopiesTotal());
+        chunk.putInt(offset + COPIES_AVAILABLE, book.getBookCopiesAvailable());
+        chunk.putInt(offset + FLAGS, book.isBookAvailable() ? FLAG_AVAILABLE : 0);
+        return previous;
+    }
+
+    /**
+     * @return a heap copy of the removed record, or null
+     */
+    @Override
+    public Book remove(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        long id = (Long) key;
+        int slot = index.remove(id) - 1;
+        if (slot < 0) {
+            return null;
+        }
+        Book removed = toHeapBook(slot);
+        freeSlot(slot);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        recordChunks.clear();
+        strings.clear();
+        index.clear();
+        slotCount = 0;
+        freeCount = 0;
+    }
+
+    @Override
+    public Set<Entry<Long, Book>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    // ==================== SLOTS ====================
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == recordChunks.size() * SLOTS_PER_CHUNK) {
+            recordChunks.add(ByteBuffer.allocateDirect(SLOTS_PER_CHUNK * RECORD_BYTES).order(ByteOrder.nativeOrder()));
+        }
+        return slotCount++;
+    }
+
+    private void freeSlot(int slot) {
+        releaseStrings(slot);
+        chunkOf(slot).putLong(offsetOf(slot) + ID, 0L);  // 0 = empty slot (iteration skips it)
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void releaseStrings(int slot) {
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        strings.release(chunk.getLong(offset + TITLE));
+        strings.release(chunk.getLong(offset + ISBN));
+    }
+
+    private ByteBuffer chunkOf(int slot) {
+        return recordChunks.get(slot >>> SLOTS_PER_CHUNK_SHIFT);
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot & (SLOTS_PER_CHUNK - 1)) * RECORD_BYTES;
+    }
+
+    private Book toHeapBook(int slot) {
+        return new OffHeapBook(this, slot, idAt(slot)).toHeapBook();
+    }
+
+    // ==================== FIELD ACCESS (used by OffHeapBook) ====================
+
+    long idAt(int slot) {
+        return chunkOf(slot).getLong(offsetOf(slot) + ID);
+    }
+
+    String titleAt(int slot) {
+        return strings.read(chunkOf(slot).getLong(offsetOf(slot) + TITLE));
+    }
+
+    int authorIdAt(int slot) {
+        return chunkOf(slot).getInt(offsetOf(slot) + AUTHOR);
+    }
+
+    int publisherIdAt(int slot) {
+        return chunkOf(slot).getInt(offsetOf(slot) + PUBLISHER);
+    }
+
+    String isbnAt(int slot) {
+        return strings.read(chunkOf(slot).getLong(offsetOf(slot) + ISBN));
+    }
+
+    void setTitleAt(int slot, String value) {
+        replaceString(slot, TITLE, value);
+    }
+
+    void setAuthorAt(int slot, String value) {
+        chunkOf(slot).putInt(offsetOf(slot) + AUTHOR, StringDictionary.AUTHORS.encode(value));
+    }
+
+    void setPublisherAt(int slot, String value) {
+        chunkOf(slot).putInt(offsetOf(slot) + PUBLISHER, StringDictionary.PUBLISHERS.encode(value));
+    }
+
+    void setIsbnAt(int slot, String value) {
+        replaceString(slot, ISBN, value);
+    }
+
+    private void replaceString(int slot, int field, String value) {
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot) + field;
+        strings.release(chunk.getLong(offset));
+        chunk.putLong(offset, strings.append(value));
+    }
+
+    int copiesTotalAt(int slot) {
+        return chunkOf(slot).getInt(offsetOf(slot) + COPIES_TOTAL);
+    }
+
+    int copiesAvailableAt(int slot) {
+        return chunkOf(slot).getInt(offsetOf(slot) + COPIES_AVAILABLE);
+    }
+
+    boolean availableAt(int slot) {
+        return (chunkOf(slot).getInt(offsetOf(slot) + FLAGS) & FLAG_AVAILABLE) != 0;
+    }
+
+    void setCopiesTotalAt(int slot, int value) {
+        chunkOf(slot).putInt(offsetOf(slot) + COPIES_TOTAL, value);
+    }
+
+    void setCopiesAvailableAt(int slot, int value) {
+        chunkOf(slot).putInt(offsetOf(slot) + COPIES_AVAILABLE, value);
+    }
+
+    void setAvailableAt(int slot, boolean value) {
+        chunkOf(slot).putInt(offsetOf(slot) + FLAGS, value ? FLAG_AVAILABLE : 0);
+    }
+
+    // ==================== FOOTPRINT ====================
+
+    /**
+     * Native memory reserved for records + strings
+     */
+    public long getOffHeapBytes() {
+        return (long) recordChunks.size() * SLOTS_PER_CHUNK * RECORD_BYTES + strings.getReservedBytes();
+    }
+
+    /**
+     * Bytes of replaced/removed strings that stay in the arena until the next reload
+     */
+    public long getWastedStringBytes() {
+        return strings.getWastedBytes();
+    }
+
+    /**
+     * Heap used by the index (keys + values arrays) - everything else is off-heap
+     */
+    public long getIndexHeapBytes() {
+        return (long) index.capacity() * (Long.BYTES + Integer.BYTES);
+    }
+
+    // ==================== ITERATION ====================
+
+    private final class EntrySet extends AbstractSet<Entry<Long, Book>> {
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public Iterator<Entry<Long, Book>> iterator() {
+            return new Iterator<Entry<Long, Book>>() {
+                private int nextSlot = advance(0);
+                private long lastId;
+
+                private int advance(int from) {
+                    int slot = from;
+                    while (slot < slotCount && idAt(slot) == 0) {
+                        slot++;
+                    }
+                    return slot;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextSlot < slotCount;
+                }
+
+                @Override
+                public Entry<Long, Book> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int slot = nextSlot;
+                    lastId = idAt(slot);
+                    nextSlot = advance(slot + 1);
+                    return new SimpleImmutableEntry<>(lastId, new OffHeapBook(OffHeapBookStore.this, slot, lastId));
+                }
+
+                @Override
+                public void remove() {
+                    if (lastId == 0) {
+                        throw new IllegalStateException();
+                    }
+                    OffHeapBookStore.this.remove(lastId);
+                    lastId = 0;
+                }
+            };
+        }
+    }
+}
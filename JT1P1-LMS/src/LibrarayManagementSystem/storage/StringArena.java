@@ -0,0 +1,120 @@
+package LibrarayManagementSystem.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StringArena - Append-only string storage in native (direct) memory
+ *
+ * LAYOUT:
+ * -------
+ * Chunks of direct ByteBuffers. Each string = [int length][UTF-8 bytes].
+ * A string is addressed by a long REF = (chunk index << 32) | offset in chunk.
+ *
+ *     chunk 0: [5]Clean[10]Robert Mar...[11]Prentice ...
+ *
+ * The GC only sees one small ByteBuffer object per chunk, not one String
+ * (+ byte[]) per field.
+ *
+ * APPEND-ONLY: replacing a string (setBookTitle) appends the new value; the
+ * old bytes stay as garbage, counted in getWastedBytes(). Compacting would
+ * mean rewriting every ref, so it is left to a full reload.
+ */
+public class StringArena {
+
+    public static final long NULL_REF = -1L;
+
+    private static final int DEFAULT_CHUNK_BYTES = 16 * 1024 * 1024;
+
+    private final int chunkBytes;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    private long usedBytes;
+    private long wastedBytes;
+
+    public StringArena() {
+        this(DEFAULT_CHUNK_BYTES);
+    }
+
+    public StringArena(int chunkBytes) {
+        if (chunkBytes < 64) {
+            throw new IllegalArgumentException("chunkBytes must be at least 64");
+        }
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Store a string and return its ref (NULL_REF for null)
+     */
+    public long append(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int needed = Integer.BYTES + bytes.length;
+        if (current == null || current.remaining() < needed) {
+            // Oversized strings get a chunk of their own
+            current = ByteBuffer.allocateDirect(Math.max(chunkBytes, needed)).order(ByteOrder.nativeOrder());
+            chunks.add(current);
+        }
+        long ref = ((long) (chunks.size() - 1) << 32) | current.position();
+        current.putInt(bytes.length);
+        current.put(bytes);
+        usedBytes += needed;
+        return ref;
+    }
+
+    public String read(long ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        ByteBuffer chunk = chunks.get((int) (ref >>> 32));
+        int offset = (int) ref;
+        int length = chunk.getInt(offset);
+        byte[] bytes = new byte[length];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Mark a stored string as no longer referenced (for the waste counter)
+     */
+    public void release(long ref) {
+        if (ref != NULL_REF) {
+            ByteBuffer chunk = chunks.get((int) (ref >>> 32));
+            wastedBytes += Integer.BYTES + chunk.getInt((int) ref);
+        }
+    }
+
+    /**
+     * Drop everything; chunks are freed when the GC collects their ByteBuffers
+     */
+    public void clear() {
+        chunks.clear();
+        current = null;
+        usedBytes = 0;
+        wastedBytes = 0;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getWastedBytes() {
+        return wastedBytes;
+    }
+
+    /**
+     * Native memory reserved by the chunks (used + free space at the end of each chunk)
+     */
+    public long getReservedBytes() {
+        long reserved = 0;
+        for (ByteBuffer chunk : chunks) {
+            reserved += chunk.capacity();
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,219 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CoOccurrenceIndex - Incrementally maintained "X together with Y" counts
+ *
+ * STRUCTURE:
+ * ----------
+ * For every item X we keep one Row:
+ * - counts : sparse primitive map Y → how many times X and Y were seen together
+ * - top-N  : small arrays (ids + counts) sorted by count, kept up to date on every increment
+ *
+ * Reading the top-N is a plain array copy, so recommendations cost microseconds
+ * no matter how many pairs are stored.
+ *
+ * WHY THE TOP-N STAYS CORRECT:
+ * ----------------------------
+ * Counts only go up. An item outside the top-N can only enter it when its count
+ * passes the current minimum, and we check exactly that on each increment.
+ *
+ * MEMORY BUDGET & PRUNING:
+ * ------------------------
+ * - maxPairs limits the total number of (X, Y) entries across all rows
+ * - When the budget is exceeded, entries with a count below the prune threshold
+ *   are dropped (entries in a row's top-N are always kept)
+ * - The threshold starts at 2 (drop pairs seen only once) and doubles until
+ *   the index is back under PRUNE_TARGET of the budget
+ * - Top-N entries can't be pruned, so they set a floor: when they alone fill
+ *   PRUNE_TARGET of the budget, the budget grows to floor / PRUNE_TARGET.
+ *   Every prune then frees a fixed share of the index instead of rescanning
+ *   all rows on each record()
+ * - Pruned pairs start counting again from 0 if they reappear, so rare pairs
+ *   are approximate while frequent pairs stay exact
+ */
+public class CoOccurrenceIndex {
+
+    private static final double PRUNE_TARGET = 0.75;  // Prune down to 75% of budget
+
+    private final int topN;
+    private final long maxPairs;
+
+    private final Map<Long, Row> rows = new HashMap<>();
+    private long totalPairs;
+    private long topEntries;   // Entries held in some row's top-N (never pruned)
+    private long prunedPairs;
+
+    private static final class Row {
+        final LongIntHashMap counts = new LongIntHashMap();
+        final long[] topIds;
+        final int[] topCounts;
+        int topSize;
+
+        Row(int topN) {
+            topIds = new long[topN];
+            topCounts = new int[topN];
+        }
+
+        boolean inTop(long id) {
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Update the top-N after the count of id became newCount
+         */
+        void offer(long id, int newCount) {
+            int pos = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == id) {
+                    pos = i;
+                    break;
+                }
+            }
+
+            if (pos < 0) {
+                if (topSize < topIds.length) {
+                    pos = topSize++;
+                } else if (newCount > topCounts[topSize - 1]) {
+                    pos = topSize - 1;  // Replace current minimum
+                } else {
+                    return;
+                }
+                topIds[pos] = id;
+            }
+            topCounts[pos] = newCount;
+
+            // Bubble up - arrays are sorted by count, descending
+            while (pos > 0 && topCounts[pos - 1] < topCounts[pos]) {
+                swap(pos, pos - 1);
+                pos--;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = topIds[a];
+            topIds[a] = topIds[b];
+            topIds[b] = id;
+            int count = topCounts[a];
+            topCounts[a] = topCounts[b];
+            topCounts[b] = count;
+        }
+    }
+
+    /**
+     * @param topN     how many "together" items to keep ready per item
+     * @param maxPairs memory budget: maximum stored (X, Y) entries
+     */
+    public CoOccurrenceIndex(int topN, long maxPairs) {
+        if (topN <= 0 || maxPairs <= 0) {
+            throw new IllegalArgumentException("topN and maxPairs must be positive");
+        }
+        this.topN = topN;
+        this.maxPairs = maxPairs;
+    }
+
+    /**
+     * Record that item was seen together with each of the others (both directions)
+     */
+    public synchronized void record(long item, long[] others, int othersCount) {
+        for (int i = 0; i < othersCount; i++) {
+            long other = others[i];
+            if (other != item) {
+                increment(item, other);
+                increment(other, item);
+            }
+        }
+        if (totalPairs > budget()) {
+            prune();
+        }
+    }
+
+    private void increment(long from, long to) {
+        Row row = rows.computeIfAbsent(from, id -> new Row(topN));
+        int before = row.counts.size();
+        int count = row.counts.addTo(to, 1);
+        totalPairs += row.counts.size() - before;
+        int topBefore = row.topSize;
+        row.offer(to, count);
+        topEntries += row.topSize - topBefore;
+    }
+
+    /**
+     * Copy up to limit "together" item IDs for item into out (most frequent first)
+     *
+     * @return number of IDs written
+     */
+    public synchronized int topFor(long item, long[] out, int limit) {
+        Row row = rows.get(item);
+        if (row == null) {
+            return 0;
+        }
+        int n = Math.min(Math.min(limit, row.topSize), out.length);
+        System.arraycopy(row.topIds, 0, out, 0, n);
+        return n;
+    }
+
+    /**
+     * How many times a and b were seen together (0 if never or pruned)
+     */
+    public synchronized int countOf(long a, long b) {
+        Row row = rows.get(a);
+        return row == null ? 0 : row.counts.get(b);
+    }
+
+    // maxPairs, or more when the unprunable top-N entries alone would fill it
+    private long budget() {
+        return Math.max(maxPairs, (long) (topEntries / PRUNE_TARGET));
+    }
+
+    private void prune() {
+        long target = Math.max((long) (budget() * PRUNE_TARGET), topEntries);
+        int threshold = 2;
+        while (totalPairs > target) {
+            for (Row row : rows.values()) {
+                int removed = row.counts.removeBelow(threshold, row::inTop);
+                totalPairs -= removed;
+                prunedPairs += removed;
+            }
+            rows.values().removeIf(row -> row.counts.isEmpty());
+
+            if (threshold > Integer.MAX_VALUE / 2) {
+                break;  // Only top-N entries left; nothing more can go
+            }
+            threshold <<= 1;
+        }
+    }
+
+    public synchronized void clear() {
+        rows.clear();
+        totalPairs = 0;
+        topEntries = 0;
+    }
+
+    public synchronized long getTotalPairs() {
+        return totalPairs;
+    }
+
+    public synchronized long getPrunedPairs() {
+        return prunedPairs;
+    }
+
+    public synchronized int getItemCount() {
+        return rows.size();
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public long getMaxPairs() {
+        return maxPairs;
+    }
+}
@@ -0,0 +1,98 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.Arrays;
+
+/**
+ * CountMinSketch - Approximate frequency counter in fixed memory
+ *
+ * IDEA:
+ * -----
+ * depth rows × width counters. Each key hashes to one counter per row;
+ * add() increments all of them, estimate() takes the MINIMUM.
+ * Collisions can only add, never subtract, so:
+ *
+ *     true count <= estimate <= true count + (e / width) × total   (with prob. 1 - e^-depth)
+ *
+ * Memory is depth × width longs no matter how many distinct keys we see.
+ * Sketches with the same dimensions can be summed (see estimateSum).
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[] counters;  // Row-major: row r starts at r * width
+    private long total;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth and width must be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new long[depth * width];
+    }
+
+    /**
+     * Index of key's counter in row r (double hashing: h1 + r × h2)
+     */
+    private int indexOf(long key, int row) {
+        long h1 = key * 0x9E3779B97F4A7C15L;
+        long h2 = Long.rotateLeft(key * 0xC2B2AE3D27D4EB4FL, 31) | 1L;
+        long h = h1 + row * h2;
+        h ^= (h >>> 29);
+        return row * width + (int) Long.remainderUnsigned(h, width);
+    }
+
+    public void add(long key, long count) {
+        for (int r = 0; r < depth; r++) {
+            counters[indexOf(key, r)] += count;
+        }
+        total += count;
+    }
+
+    public long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < depth; r++) {
+            min = Math.min(min, counters[indexOf(key, r)]);
+        }
+        return min;
+    }
+
+    /**
+     * Estimate for key in the SUM of several sketches, without merging them
+     * (all sketches must have the same depth and width)
+     */
+    public static long estimateSum(CountMinSketch[] sketches, int count, long key) {
+        if (count == 0) {
+            return 0L;
+        }
+        CountMinSketch first = sketches[0];
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < first.depth; r++) {
+            int index = first.indexOf(key, r);
+            long sum = 0;
+            for (int s = 0; s < count; s++) {
+                sum += sketches[s].counters[index];
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0L);
+        total = 0;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,128 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * IdAllocator - Central, thread-safe ID generator for Books and Members
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * The old static counters (bookIdCounter / memberIdCounter) restarted at 0 on
+ * every run, so a new Book created after loadFromFile() could get the same ID
+ * as a saved one. They were also plain longs, not safe across threads.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - A shared AtomicLong holds the highest ID ever RESERVED (the high-water mark)
+ * - Each thread reserves a whole BLOCK of IDs at once (one CAS per block)
+ * - nextId() then hands out IDs from the thread's own block - no contention
+ * - Every time a block is reserved, the new high-water mark is persisted
+ * - On startup, recover() moves the mark past every ID already in use
+ *
+ * IDs are unique and increasing per thread, but not globally gap-free:
+ * unused IDs in a thread's block are simply skipped after a restart.
+ */
+public final class IdAllocator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    // One allocator per entity type
+    public static final IdAllocator BOOKS = new IdAllocator("book", DEFAULT_BLOCK_SIZE);
+    public static final IdAllocator MEMBERS = new IdAllocator("member", DEFAULT_BLOCK_SIZE);
+
+    private final String name;
+    private final int blockSize;
+
+    private final AtomicLong reserved = new AtomicLong(0L);  // Highest ID handed to any block
+    private volatile int epoch;                               // Bumped by recover() to invalidate blocks
+    private volatile LongConsumer persister = mark -> { };    // Where the high-water mark is saved
+    private long persistedMark;                               // Guarded by "this"
+
+    private final ThreadLocal<Block> localBlock = ThreadLocal.withInitial(Block::new);
+
+    /**
+     * A thread's private range of IDs: [next, end]
+     */
+    private static final class Block {
+        long next = 1;
+        long end = 0;   // next > end means "empty"
+        int epoch = -1;
+    }
+
+    public IdAllocator(String name, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.name = name;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Get the next unique ID
+     *
+     * Fast path: just increments a thread-local counter.
+     * Slow path (once per block): one atomic add + persist the new mark.
+     */
+    public long nextId() {
+        Block block = localBlock.get();
+        if (block.next > block.end || block.epoch != epoch) {
+            refill(block);
+        }
+        return block.next++;
+    }
+
+    private void refill(Block block) {
+        block.epoch = epoch;
+        long end = reserved.addAndGet(blockSize);
+        block.next = end - blockSize + 1;
+        block.end = end;
+        persist(end);
+    }
+
+    /**
+     * Save the mark, never moving it backwards
+     * (two threads may reserve blocks concurrently and persist out of order)
+     */
+    private synchronized void persist(long mark) {
+        if (mark > persistedMark) {
+            persistedMark = mark;
+            persister.accept(mark);
+        }
+    }
+
+    /**
+     * Make sure every future ID is greater than floor
+     *
+     * WHEN TO CALL: on startup, with max(saved high-water mark, max ID in repository),
+     * before other threads start creating records.
+     * Blocks reserved by any thread before this call are discarded.
+     */
+    public synchronized void recover(long floor) {
+        reserved.accumulateAndGet(floor, Math::max);
+        persistedMark = Math.max(persistedMark, floor);
+        epoch++;
+    }
+
+    /**
+     * Set where the high-water mark is saved (e.g. FileRepository)
+     */
+    public void setPersister(LongConsumer persister) {
+        this.persister = persister;
+    }
+
+    /**
+     * Highest ID reserved so far (all issued IDs are <= this)
+     */
+    public long getHighWaterMark() {
+        return reserved.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
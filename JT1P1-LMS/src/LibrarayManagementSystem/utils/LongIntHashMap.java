@@ -0,0 +1,227 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * LongIntHashMap - A small primitive map from long keys to int values
+ *
+ * WHY NOT HashMap<Long, Integer>?
+ * --------------------------------
+ * Every HashMap entry costs a node + a boxed Long + a boxed Integer (~64 bytes).
+ * Here an entry is one slot in a long[] and one slot in an int[] (12 bytes),
+ * with linear probing and no allocation on update.
+ *
+ * RULE: key 0 is reserved to mark empty slots (Book/Member IDs start at 1).
+ */
+public class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(8);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @return value for key, or 0 if absent
+     */
+    public int get(long key) {
+        if (key == 0) {
+            return 0;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    public boolean containsKey(long key) {
+        return key != 0 && keys[slotOf(key)] == key;
+    }
+
+    /**
+     * Add delta to the value of key (absent counts as 0)
+     *
+     * @return the new value
+     */
+    public int addTo(long key, int delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            return values[slot] += delta;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * Set the value of key
+     *
+     * @return the previous value, or 0 if absent
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Remove key (backward-shift deletion, so no tombstones slow down later probes)
+     *
+     * @return the removed value, or 0 if absent
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            return 0;
+        }
+        int slot = slotOf(key);
+        if (keys[slot] != key) {
+            return 0;
+        }
+        int removed = values[slot];
+        int mask = keys.length - 1;
+
+        // Move later entries of the same probe chain back into the hole
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int home = mix(keys[next]) & mask;
+            // Entry may fill the hole only if its home is not between hole and next (cyclically)
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Drop every entry whose value is below threshold, unless keep says otherwise
+     *
+     * @return number of entries removed
+     */
+    public int removeBelow(int threshold, LongPredicate keep) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int before = size;
+
+        int survivors = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && (oldValues[i] >= threshold || keep.test(oldKeys[i]))) {
+                survivors++;
+            }
+        }
+
+        allocate(tableSizeFor(survivors));
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && (oldValues[i] >= threshold || keep.test(oldKeys[i]))) {
+                insertFresh(oldKeys[i], oldValues[i]);
+            }
+        }
+        return before - size;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                insertFresh(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void insertFresh(long key, int value) {
+        int slot = slotOf(key);
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    // ==================== RAW SLOT ACCESS (for iteration) ====================
+
+    /**
+     * Number of slots; iterate 0..capacity()-1 and skip slots where keyAt(i) == 0
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    public int valueAt(int slot) {
+        return values[slot];
+    }
+}
@@ -0,0 +1,171 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+/**
+ * NameTokenIndex - Find IDs by (partial) words of a name
+ *
+ * STRUCTURE:
+ * ----------
+ * "Md. Alamin Hossain" → tokens "md", "alamin", "hossain"
+ * A sorted map token → posting list (primitive long[] of IDs).
+ *
+ * Query "ala hos":
+ * - every query word is a token PREFIX ("ala" matches "alamin", "alauddin")
+ * - the sorted map turns a prefix into a contiguous range: subMap("ala", "ala" + Character.MAX_VALUE)
+ * - candidates come from the MOST SELECTIVE query word (fewest IDs in its range);
+ *   the caller's check() confirms the other words, so we stop at limit
+ *   without building any intermediate sets
+ *
+ * Not thread-safe, same as MemberService which owns it.
+ */
+public class NameTokenIndex {
+
+    private final TreeMap<String, Posting> postings = new TreeMap<>();
+
+    /**
+     * Growable long[] of IDs for one token
+     */
+    private static final class Posting {
+        long[] ids = new long[2];
+        int count;
+
+        void add(long id) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--count];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Split a name into lower-case tokens (letters and digits only)
+     */
+    public static List<String> tokensOf(String name) {
+        List<String> tokens = new ArrayList<>(4);
+        if (name == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            boolean wordChar = i < name.length() && Character.isLetterOrDigit(name.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(name.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public void put(String name, long id) {
+        for (String token : tokensOf(name)) {
+            postings.computeIfAbsent(token, t -> new Posting()).add(id);
+        }
+    }
+
+    public void remove(String name, long id) {
+        for (String token : tokensOf(name)) {
+            Posting posting = postings.get(token);
+            if (posting != null && posting.remove(id) && posting.count == 0) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Copy up to limit IDs that have a token starting with the most selective query word
+     * and pass check (the caller verifies the remaining words)
+     *
+     * @return number of IDs written
+     */
+    public int collect(String query, LongPredicate check, long[] out, int limit) {
+        List<String> words = tokensOf(query);
+        if (words.isEmpty()) {
+            return 0;
+        }
+        NavigableMap<String, Posting> range = null;
+        long rangeSize = Long.MAX_VALUE;
+        for (String word : words) {
+            NavigableMap<String, Posting> candidate = rangeOf(word);
+            long size = sizeOf(candidate, rangeSize);
+            if (size < rangeSize) {
+                range = candidate;
+                rangeSize = size;
+            }
+        }
+        if (rangeSize == 0) {
+            return 0;
+        }
+
+        int max = Math.min(limit, out.length);
+        int n = 0;
+        for (Map.Entry<String, Posting> entry : range.entrySet()) {
+            Posting posting = entry.getValue();
+            for (int i = 0; i < posting.count && n < max; i++) {
+                long id = posting.ids[i];
+                // A name like "Ali Ali" sits twice in one posting; multiple tokens share a prefix
+                if (check.test(id) && !contains(out, n, id)) {
+                    out[n++] = id;
+                }
+            }
+            if (n == max) {
+                break;
+            }
+        }
+        return n;
+    }
+
+    private NavigableMap<String, Posting> rangeOf(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Number of IDs in a range, counting stops once it reaches stopAt
+     */
+    private static long sizeOf(NavigableMap<String, Posting> range, long stopAt) {
+        long size = 0;
+        for (Posting posting : range.values()) {
+            size += posting.count;
+            if (size >= stopAt) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    private static boolean contains(long[] ids, int count, long id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    public int getTokenCount() {
+        return postings.size();
+    }
+}
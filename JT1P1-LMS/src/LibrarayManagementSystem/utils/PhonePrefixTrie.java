@@ -0,0 +1,225 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * PhonePrefixTrie - Find IDs by the first digits of a phone number
+ *
+ * STRUCTURE (burst trie):
+ * -----------------------
+ * One node per digit, 10 children each - but only where it pays off.
+ * A node starts as a small BUCKET of (phone, id) entries. When the bucket
+ * grows past BUCKET_CAPACITY it "bursts": entries move one level down,
+ * into children chosen by their next digit.
+ *
+ *     root ─ 0 ─ 1 ─ 7 ─ [bucket: 01712345678→1, 01798765432→2, ...]
+ *
+ * So a million numbers need ~n / 16 nodes instead of one node per digit,
+ * and a lookup is: walk prefix.length() nodes, then copy/scan small buckets.
+ *
+ * RULES:
+ * ------
+ * - Only digits are indexed: "+880 1712-345678" and "8801712345678" are the same
+ * - Entries whose number ends exactly at a node stay in that node's bucket
+ * - Removing entries does not merge nodes back (removals are rare at the desk)
+ * - Not thread-safe, same as MemberService which owns it
+ */
+public class PhonePrefixTrie {
+
+    private static final int BUCKET_CAPACITY = 32;
+
+    private final Node root = new Node();
+    private int size;
+
+    private static final class Node {
+        Node[] children;        // null while this node is only a bucket
+        String[] phones = new String[4];
+        long[] ids = new long[4];
+        int count;
+
+        void append(String phone, long id) {
+            if (count == phones.length) {
+                phones = Arrays.copyOf(phones, count * 2);
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            phones[count] = phone;
+            ids[count] = id;
+            count++;
+        }
+
+        boolean removeEntry(String phone, long id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id && phones[i].equals(phone)) {
+                    count--;
+                    phones[i] = phones[count];
+                    ids[i] = ids[count];
+                    phones[count] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Keep only the digits of a phone number (returns the same String if already clean)
+     */
+    public static String digitsOf(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        for (int i = 0; i < phone.length(); i++) {
+            if (!isDigit(phone.charAt(i))) {
+                StringBuilder sb = new StringBuilder(phone.length());
+                for (int j = 0; j < phone.length(); j++) {
+                    char c = phone.charAt(j);
+                    if (isDigit(c)) {
+                        sb.append(c);
+                    }
+                }
+                return sb.toString();
+            }
+        }
+        return phone;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public void put(String phone, long id) {
+        String digits = digitsOf(phone);
+        insert(root, 0, digits, id);
+        size++;
+    }
+
+    private void insert(Node node, int depth, String digits, long id) {
+        // Walk down while there are children and digits left
+        while (node.children != null && depth < digits.length()) {
+            int digit = digits.charAt(depth) - '0';
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+            }
+            node = node.children[digit];
+            depth++;
+        }
+        node.append(digits, id);
+        if (node.children == null && node.count > BUCKET_CAPACITY) {
+            burst(node, depth);
+        }
+    }
+
+    /**
+     * Push a full bucket's entries one level down (those with digits left)
+     */
+    private void burst(Node node, int depth) {
+        String[] phones = node.phones;
+        long[] ids = node.ids;
+        int count = node.count;
+
+        node.children = new Node[10];
+        node.phones = new String[4];
+        node.ids = new long[4];
+        node.count = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (phones[i].length() == depth) {
+                node.append(phones[i], ids[i]);   // Number ends here
+            } else {
+                insert(node, depth, phones[i], ids[i]);
+            }
+        }
+    }
+
+    /**
+     * @return true if the (phone, id) entry was found and removed
+     */
+    public boolean remove(String phone, long id) {
+        String digits = digitsOf(phone);
+        Node node = root;
+        int depth = 0;
+        while (node.children != null && depth < digits.length()) {
+            node = node.children[digits.charAt(depth) - '0'];
+            if (node == null) {
+                return false;
+            }
+            depth++;
+        }
+        if (node.removeEntry(digits, id)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Copy up to limit IDs whose phone starts with prefix into out
+     *
+     * @return number of IDs written
+     */
+    public int collect(String prefix, long[] out, int limit) {
+        return collect(prefix, id -> true, out, limit);
+    }
+
+    /**
+     * Copy up to limit IDs whose phone starts with prefix and that pass check
+     * (rejected IDs do not count towards limit)
+     *
+     * @return number of IDs written
+     */
+    public int collect(String prefix, LongPredicate check, long[] out, int limit) {
+        String digits = digitsOf(prefix);
+        int max = Math.min(limit, out.length);
+        Node node = root;
+        int depth = 0;
+
+        while (depth < digits.length()) {
+            if (node.children == null) {
+                // Reached a bucket before the prefix ended - filter its entries
+                int n = 0;
+                for (int i = 0; i < node.count && n < max; i++) {
+                    if (node.phones[i].startsWith(digits) && check.test(node.ids[i])) {
+                        out[n++] = node.ids[i];
+                    }
+                }
+                return n;
+            }
+            node = node.children[digits.charAt(depth) - '0'];
+            if (node == null) {
+                return 0;
+            }
+            depth++;
+        }
+        // Every entry under this node matches
+        return collectAll(node, check, out, 0, max);
+    }
+
+    private int collectAll(Node node, LongPredicate check, long[] out, int n, int max) {
+        for (int i = 0; i < node.count && n < max; i++) {
+            if (check.test(node.ids[i])) {
+                out[n++] = node.ids[i];
+            }
+        }
+        if (node.children != null) {
+            for (int d = 0; d < 10 && n < max; d++) {
+                if (node.children[d] != null) {
+                    n = collectAll(node.children[d], check, out, n, max);
+                }
+            }
+        }
+        return n;
+    }
+
+    public void clear() {
+        root.children = null;
+        root.phones = new String[4];
+        root.ids = new long[4];
+        root.count = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
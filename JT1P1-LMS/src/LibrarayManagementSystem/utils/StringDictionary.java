@@ -0,0 +1,179 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * StringDictionary - Dictionary encoding for low-cardinality Book fields
+ *
+ * PROBLEM IT SOLVES:
+ * ------------------
+ * Thousands of books say "McGraw-Hill", hundreds say the same author.
+ * Every Book used to hold its own String copy (and every load from
+ * books.dat made new copies). Grouping by author meant hashing and
+ * comparing those strings again and again.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * - Each distinct value gets a small dense int ID: "McGraw-Hill" → 0, "Prentice Hall" → 1
+ * - Book stores the int; getBookAuthor() decodes it to the ONE canonical String
+ * - Group-by / filter code compares ints and can count into an int[] indexed by ID
+ * - books.dat stores the IDs plus one copy of each table (see FileRepository)
+ *
+ * IDs are append-only: a value keeps its ID for the life of the JVM, even if
+ * no book uses it any more. The tables are tiny (one entry per distinct
+ * author/publisher), so this is cheaper than reference counting.
+ *
+ * THREAD SAFETY:
+ * --------------
+ * encode() may be called from many threads (bulk import parsers).
+ * Lookups are lock-free; only adding a NEW value takes the lock.
+ */
+public final class StringDictionary {
+
+    public static final int NULL_ID = -1;
+
+    // One dictionary per encoded Book field
+    public static final StringDictionary AUTHORS = new StringDictionary("author");
+    public static final StringDictionary PUBLISHERS = new StringDictionary("publisher");
+
+    private final String name;
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[64];   // ID → canonical String
+    private volatile int size;
+
+    // Saved ID → live ID while books.dat is being read (see beginLoad)
+    private final ThreadLocal<int[]> loading = new ThreadLocal<>();
+
+    public StringDictionary(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the ID of value, adding it if it is new
+     *
+     * @return ID, or NULL_ID for null
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : add(value);
+    }
+
+    private synchronized int add(String value) {
+        Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing;  // Another thread added it first
+        }
+        int id = size;
+        String[] table = values;
+        if (id == table.length) {
+            table = Arrays.copyOf(table, id * 2);
+        }
+        table[id] = value;
+        values = table;
+        size = id + 1;
+        ids.put(value, id);  // Publish last: whoever sees the ID also sees the table entry
+        return id;
+    }
+
+    /**
+     * @return ID of value, or NULL_ID if it was never encoded (does NOT add it)
+     */
+    public int idOf(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : NULL_ID;
+    }
+
+    /**
+     * @return the canonical String for id (null for NULL_ID)
+     */
+    public String decode(int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    /**
+     * Number of distinct values (IDs are 0..size()-1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * IDs of every value matching the predicate - one test per DISTINCT value,
+     * so a filter over a million books only touches the strings a few thousand times
+     */
+    public BitSet matchingIds(Predicate<String> predicate) {
+        String[] table = values;
+        int count = size;
+        BitSet matches = new BitSet(count);
+        for (int id = 0; id < count; id++) {
+            if (predicate.test(table[id])) {
+                matches.set(id);
+            }
+        }
+        return matches;
+    }
+
+    // ==================== PERSISTENCE ====================
+
+    /**
+     * Copy of the table (index = ID), written next to the books that use it
+     */
+    public String[] snapshot() {
+        int count = size;
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Re-encode a saved table into this dictionary
+     *
+     * The live IDs can differ from the saved ones (values may already have
+     * been added in a different order), so this returns the translation.
+     *
+     * @return remap where remap[savedId] = live ID
+     */
+    public int[] restore(String[] saved) {
+        int[] remap = new int[saved.length];
+        for (int i = 0; i < saved.length; i++) {
+            remap[i] = encode(saved[i]);
+        }
+        return remap;
+    }
+
+    /**
+     * Translate saved IDs with remap on this thread until endLoad()
+     */
+    public void beginLoad(int[] remap) {
+        loading.set(remap);
+    }
+
+    public void endLoad() {
+        loading.remove();
+    }
+
+    /**
+     * Live ID for an ID read from storage (used by Book.readObject)
+     *
+     * Outside beginLoad()/endLoad() the ID is taken as-is: the Book was
+     * serialized by this same JVM (e.g. a deep copy), so it is already live.
+     */
+    public int fromSaved(int savedId) {
+        int[] remap = loading.get();
+        if (savedId == NULL_ID || remap == null) {
+            return savedId;
+        }
+        return remap[savedId];
+    }
+}
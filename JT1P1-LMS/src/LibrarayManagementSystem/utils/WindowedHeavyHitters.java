@@ -0,0 +1,261 @@
+package LibrarayManagementSystem.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * WindowedHeavyHitters - "Most frequent keys in the last N time buckets"
+ *
+ * STRUCTURE:
+ * ----------
+ * A ring of time buckets (e.g. 7 buckets × 1 day = "this week").
+ * Each bucket holds:
+ * - a CountMinSketch   → frequency estimate for ANY key
+ * - a top-K min-heap   → the K keys with the highest estimates in that bucket
+ *
+ * add(key):   update the current bucket's sketch, then offer the key to its heap
+ * topN(n):    candidates = keys in any live bucket's heap,
+ *             score = estimate over the SUM of live sketches, sort, take n
+ *
+ * When time moves past the window, the oldest bucket is cleared and reused,
+ * so memory is buckets × (sketch + K entries) regardless of how many keys exist.
+ *
+ * @param <K> key type (e.g. Long book ID, String author)
+ */
+public class WindowedHeavyHitters<K> {
+
+    private final ToLongFunction<K> hasher;
+    private final LongSupplier clockMillis;
+    private final long bucketMillis;
+    private final Bucket<K>[] buckets;
+
+    // Reused by topN() to avoid allocating per query
+    private final CountMinSketch[] liveSketches;
+
+    /**
+     * One ranked result: key + estimated count in the window
+     */
+    public static final class Ranked<K> {
+        private final K key;
+        private final long count;
+
+        Ranked(K key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + count;
+        }
+    }
+
+    private static final class Bucket<K> {
+        long epoch = Long.MIN_VALUE;
+        final CountMinSketch sketch;
+        final TopKHeap<K> top;
+
+        Bucket(int depth, int width, int k) {
+            sketch = new CountMinSketch(depth, width);
+            top = new TopKHeap<>(k);
+        }
+    }
+
+    /**
+     * @param hasher       maps a key to the long used by the sketch
+     * @param clockMillis  time source (System::currentTimeMillis in production)
+     * @param bucketMillis length of one time bucket
+     * @param bucketCount  buckets in the window (window = bucketMillis × bucketCount)
+     * @param k            keys tracked per bucket (answers topN for n <= k)
+     * @param depth        sketch rows
+     * @param width        sketch counters per row
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})  // Generic array of Bucket<K>
+    public WindowedHeavyHitters(ToLongFunction<K> hasher, LongSupplier clockMillis, long bucketMillis,
+            int bucketCount, int k, int depth, int width) {
+        if (bucketMillis <= 0 || bucketCount <= 0 || k <= 0) {
+            throw new IllegalArgumentException("bucketMillis, bucketCount and k must be positive");
+        }
+        this.hasher = hasher;
+        this.clockMillis = clockMillis;
+        this.bucketMillis = bucketMillis;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket<>(depth, width, k);
+        }
+        this.liveSketches = new CountMinSketch[bucketCount];
+    }
+
+    public synchronized void add(K key) {
+        long epoch = Math.floorDiv(clockMillis.getAsLong(), bucketMillis);
+        Bucket<K> bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        if (bucket.epoch != epoch) {
+            // Bucket belongs to an expired time slot - reuse it
+            bucket.sketch.clear();
+            bucket.top.clear();
+            bucket.epoch = epoch;
+        }
+        long hash = hasher.applyAsLong(key);
+        bucket.sketch.add(hash, 1);
+        bucket.top.offer(key, bucket.sketch.estimate(hash));
+    }
+
+    /**
+     * Top n keys in the current window, most frequent first (n <= 0 = empty list)
+     */
+    public synchronized List<Ranked<K>> topN(int n) {
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+        int live = collectLiveSketches();
+
+        Map<K, Long> candidates = new HashMap<>();
+        long currentEpoch = Math.floorDiv(clockMillis.getAsLong(), bucketMillis);
+        for (Bucket<K> bucket : buckets) {
+            if (isLive(bucket, currentEpoch)) {
+                bucket.top.forEachKey(key -> candidates.computeIfAbsent(key,
+                        k -> CountMinSketch.estimateSum(liveSketches, live, hasher.applyAsLong(k))));
+            }
+        }
+
+        List<Ranked<K>> ranked = new ArrayList<>(candidates.size());
+        for (Map.Entry<K, Long> entry : candidates.entrySet()) {
+            ranked.add(new Ranked<>(entry.getKey(), entry.getValue()));
+        }
+        ranked.sort((a, b) -> Long.compare(b.count, a.count));
+        return ranked.size() > n ? new ArrayList<>(ranked.subList(0, n)) : ranked;
+    }
+
+    /**
+     * Estimated count of key in the current window (never under-counts)
+     */
+    public synchronized long estimate(K key) {
+        int live = collectLiveSketches();
+        return CountMinSketch.estimateSum(liveSketches, live, hasher.applyAsLong(key));
+    }
+
+    private int collectLiveSketches() {
+        long currentEpoch = Math.floorDiv(clockMillis.getAsLong(), bucketMillis);
+        int live = 0;
+        for (Bucket<K> bucket : buckets) {
+            if (isLive(bucket, currentEpoch)) {
+                liveSketches[live++] = bucket.sketch;
+            }
+        }
+        return live;
+    }
+
+    private boolean isLive(Bucket<K> bucket, long currentEpoch) {
+        return bucket.epoch <= currentEpoch && bucket.epoch > currentEpoch - buckets.length;
+    }
+
+    public long getWindowMillis() {
+        return bucketMillis * buckets.length;
+    }
+
+    // ==================== TOP-K MIN-HEAP ====================
+
+    /**
+     * Fixed-size min-heap of (key, count) with a key → position map,
+     * so a tracked key's count can be updated in O(log k)
+     */
+    private static final class TopKHeap<K> {
+        private final Object[] keys;
+        private final long[] counts;
+        private final Map<K, Integer> positions;
+        private int size;
+
+        TopKHeap(int k) {
+            keys = new Object[k];
+            counts = new long[k];
+            positions = new HashMap<>(k * 2);
+        }
+
+        void offer(K key, long count) {
+            Integer pos = positions.get(key);
+            if (pos != null) {
+                counts[pos] = count;
+                siftDown(pos);   // Count grew - may move away from the root
+            } else if (size < keys.length) {
+                keys[size] = key;
+                counts[size] = count;
+                positions.put(key, size);
+                siftUp(size++);
+            } else if (count > counts[0]) {
+                positions.remove(keyAt(0));  // Evict the current minimum
+                keys[0] = key;
+                counts[0] = count;
+                positions.put(key, 0);
+                siftDown(0);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private K keyAt(int i) {
+            return (K) keys[i];
+        }
+
+        void forEachKey(Consumer<K> action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(keyAt(i));
+            }
+        }
+
+        void clear() {
+            Arrays.fill(keys, null);
+            positions.clear();
+            size = 0;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (counts[parent] <= counts[i]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+                if (counts[i] <= counts[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Object key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            long count = counts[a];
+            counts[a] = counts[b];
+            counts[b] = count;
+            positions.put(keyAt(a), a);
+            positions.put(keyAt(b), b);
+        }
+    }
+}
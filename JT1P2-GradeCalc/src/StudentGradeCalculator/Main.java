@@ -1,9 +1,16 @@
 package StudentGradeCalculator;
 
 import StudentGradeCalculator.exception.InvalidGradeException;
+import StudentGradeCalculator.ingest.GradeCsvImporter;
+import StudentGradeCalculator.ingest.ImportReport;
 import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.repository.GradeRepository;
 import StudentGradeCalculator.services.GradeCalculation;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 /**
@@ -13,18 +20,25 @@ import java.util.Scanner;
  * - Collections: TreeMap for sorted grades (by student ID)
  * - Custom exceptions for invalid grades
  * - Complete grade management system
+ * - Saved to a CSV file (-Dgrades.file=..., default data/grades.csv) on exit
  */
 public class Main {
     private static GradeCalculation gradeCalculation = new GradeCalculation();
     private static Scanner scanner = new Scanner(System.in);
+    private static GradeRepository repository =
+            new GradeRepository(Paths.get(System.getProperty("grades.file", "data/grades.csv")));
 
     public static void main(String[] args) {
         System.out.println("╔════════════════════════════════════════════════════════════╗");
         System.out.println("║        🎓 STUDENT GRADE CALCULATOR SYSTEM 🎓              ║");
         System.out.println("╚════════════════════════════════════════════════════════════╝");
 
-        // Add sample data for demonstration
-        loadSampleData();
+        // Saved data from last time, or sample data for demonstration
+        if (repository.exists()) {
+            loadSavedData();
+        } else {
+            loadSampleData();
+        }
 
         boolean running = true;
 
@@ -56,7 +70,23 @@ public class Main {
                     case 7:
                         gradeCalculation.displayStatistics();
                         break;
+                    case 8:
+                        viewStudentRank();
+                        break;
+                    case 9:
+                        displayPercentileBand();
+                        break;
+                    case 10:
+                        importGradesFromCsv();
+                        break;
+                    case 11:
+                        saveData();
+                        break;
+                    case 12:
+                        displaySubjectReport();
+                        break;
                     case 0:
+                        saveData();
                         System.out.println("\n👋 Thank you for using Student Grade Calculator!");
                         System.out.println("   Goodbye! 🎓");
                         running = false;
@@ -92,6 +122,11 @@ public class Main {
         System.out.println("  5. ➖ Remove Student");
         System.out.println("  6. 🏆 Display Top Performers");
         System.out.println("  7. 📊 View Class Statistics");
+        System.out.println("  8. 🥇 View Student Rank");
+        System.out.println("  9. 🎯 Students Between Percentiles");
+        System.out.println(" 10. 📥 Import Grades from CSV");
+        System.out.println(" 11. 💾 Save Data");
+        System.out.println(" 12. 📚 Subject Report");
         System.out.println("  0. 🚪 Exit");
         System.out.println("═".repeat(60));
         System.out.print("Enter your choice: ");
@@ -254,6 +289,125 @@ public class Main {
         }
     }
 
+    private static void viewStudentRank() {
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("🥇 VIEW STUDENT RANK");
+        System.out.println("─".repeat(60));
+
+        try {
+            System.out.print("Enter Student ID: ");
+            int studentId = Integer.parseInt(scanner.nextLine());
+
+            int rank = gradeCalculation.getRank(studentId);
+            if (rank < 0) {
+                System.out.println("❌ Student with ID " + studentId + " not found!");
+                return;
+            }
+
+            Student student = gradeCalculation.getStudent(studentId);
+            System.out.println(student);
+            System.out.println("🥇 Rank: " + rank + " of " + gradeCalculation.getTotalStudents());
+            System.out.println("🎯 Percentile: " + String.format("%.1f", gradeCalculation.getPercentile(studentId)));
+        } catch (NumberFormatException e) {
+            System.out.println("❌ Invalid Student ID! Please enter a number.");
+        }
+    }
+
+    private static void displayPercentileBand() {
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("🎯 STUDENTS BETWEEN PERCENTILES");
+        System.out.println("─".repeat(60));
+
+        try {
+            System.out.print("From percentile (0-100): ");
+            double low = Double.parseDouble(scanner.nextLine());
+            System.out.print("To percentile (0-100): ");
+            double high = Double.parseDouble(scanner.nextLine());
+
+            if (low < 0 || high > 100 || low > high) {
+                System.out.println("❌ Please enter 0 <= from <= to <= 100!");
+                return;
+            }
+
+            var band = gradeCalculation.getStudentsBetweenPercentiles(low, high);
+            if (band.isEmpty()) {
+                System.out.println("⚠️ No students in that range!");
+                return;
+            }
+            for (Student student : band) {
+                System.out.println("#" + gradeCalculation.getRank(student.getStudentId()) + "  " + student);
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("❌ Invalid number! Please enter a valid number.");
+        }
+    }
+
+    private static void displaySubjectReport() {
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("📚 SUBJECT REPORT");
+        System.out.println("─".repeat(60));
+
+        if (gradeCalculation.getSubjects().isEmpty()) {
+            System.out.println("⚠️ No grades recorded yet!");
+            return;
+        }
+        System.out.println("Subjects: " + String.join(", ", gradeCalculation.getSubjects()));
+        System.out.print("Enter Subject Name: ");
+        String subject = scanner.nextLine().trim();
+
+        if (subject.isEmpty()) {
+            System.out.println("❌ Subject name cannot be empty!");
+            return;
+        }
+        gradeCalculation.displaySubjectReport(subject);
+    }
+
+    private static void importGradesFromCsv() {
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("📥 IMPORT GRADES FROM CSV");
+        System.out.println("─".repeat(60));
+        System.out.println("Format: studentId,name,subject,grade (one grade per line)");
+        System.out.print("Enter CSV file path: ");
+        Path file = Paths.get(scanner.nextLine().trim());
+
+        if (!Files.isRegularFile(file)) {
+            System.out.println("❌ File not found: " + file);
+            return;
+        }
+
+        try {
+            ImportReport report = new GradeCsvImporter(gradeCalculation).importFile(file);
+            report.display();
+            System.out.println("   Total students: " + gradeCalculation.getTotalStudents());
+        } catch (IOException e) {
+            System.out.println("❌ Import failed: " + e.getMessage());
+        }
+    }
+
+    private static void saveData() {
+        try {
+            repository.save(gradeCalculation);
+            System.out.println("💾 Saved " + gradeCalculation.getTotalStudents() + " students to " + repository.getFile());
+        } catch (IOException e) {
+            System.out.println("❌ Could not save data: " + e.getMessage());
+        }
+    }
+
+    private static void loadSavedData() {
+        System.out.println("\n📂 Loading saved data from " + repository.getFile() + "...\n");
+
+        try {
+            ImportReport report = repository.load(gradeCalculation);
+            if (report.getRejectedRows() > 0) {
+                report.display();
+            }
+            System.out.println("✅ Saved data loaded successfully!");
+            System.out.println("   Total students: " + gradeCalculation.getTotalStudents());
+        } catch (IOException e) {
+            System.out.println("⚠️ Error loading saved data: " + e.getMessage());
+        }
+    }
+
     private static void loadSampleData() {
         System.out.println("\n📦 Loading sample data...\n");
 
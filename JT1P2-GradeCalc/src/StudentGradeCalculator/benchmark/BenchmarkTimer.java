@@ -0,0 +1,42 @@
+package StudentGradeCalculator.benchmark;
+
+import java.util.function.Supplier;
+
+/**
+ * Tiny timing helper for the benchmark mains (no JMH in this project).
+ * Runs the task a few times to warm up the JIT, then reports the average
+ * time per run. The task returns a value so the JIT can't drop the work.
+ */
+public class BenchmarkTimer {
+    private static final int WARMUP_RUNS = 5;
+
+    // Keeps results "used" so the JIT can't treat the task as dead code
+    private static volatile Object sink;
+
+    private BenchmarkTimer() {
+    }
+
+    // Average milliseconds per run over `runs` measured runs
+    public static double measureMillis(int runs, Supplier<?> task) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sink = task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            sink = task.get();
+        }
+        return (System.nanoTime() - start) / 1e6 / runs;
+    }
+
+    // One printed line for a single result
+    public static void report(String label, String name, double millis) {
+        System.out.println(String.format("  %-28s %-10s %9.3f ms", label, name, millis));
+    }
+
+    // One printed line: label, then each result with its name
+    public static void report(String label, String firstName, double firstMillis,
+                              String secondName, double secondMillis) {
+        System.out.println(String.format("  %-28s %-10s %9.3f ms   %-10s %9.3f ms   (%.1fx)",
+                label, firstName, firstMillis, secondName, secondMillis, firstMillis / secondMillis));
+    }
+}
@@ -0,0 +1,80 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.exception.InvalidGradeException;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Builds large, repeatable classes for the benchmarks.
+ * Same seed → same names, subjects and grades on every run.
+ */
+public class ClassGenerator {
+    public static final long DEFAULT_SEED = 42L;
+
+    public static final String[] SUBJECTS = {
+            "Mathematics", "Physics", "Chemistry", "Biology",
+            "English", "History", "Geography", "Computer Science"
+    };
+
+    private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private ClassGenerator() {
+    }
+
+    // Grades roughly bell-shaped around 70, clamped to 0..100, one decimal
+    public static double randomGrade(Random random) {
+        double grade = 70 + random.nextGaussian() * 12;
+        return Math.round(Math.max(0, Math.min(100, grade)) * 10) / 10.0;
+    }
+
+    // Adds students with IDs 1..studentCount, each graded in `subjects` subjects
+    public static GradeCalculation populate(GradeCalculation gradeCalculation, int studentCount,
+                                            int subjects, long seed) {
+        Random random = new Random(seed);
+        PrintStream out = System.out;
+        System.setOut(NULL_OUT); // Every add prints a ✅ line
+        try {
+            for (int id = 1; id <= studentCount; id++) {
+                gradeCalculation.addStudent(new Student("Student " + id, id));
+                for (int s = 0; s < subjects; s++) {
+                    gradeCalculation.addGradeToStudent(id, SUBJECTS[s % SUBJECTS.length], randomGrade(random));
+                }
+            }
+        } catch (InvalidGradeException e) {
+            throw new IllegalStateException("Generator produced a bad grade", e);
+        } finally {
+            System.setOut(out);
+        }
+        return gradeCalculation;
+    }
+
+    // Grades CSV (studentId,name,subject,grade); badRatio of the rows are broken on purpose
+    public static long writeCsv(Path file, int studentCount, int subjects, double badRatio, long seed)
+            throws IOException {
+        Random random = new Random(seed);
+        long rows = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("studentId,name,subject,grade\n");
+            for (int id = 1; id <= studentCount; id++) {
+                for (int s = 0; s < subjects; s++) {
+                    String grade = String.valueOf(randomGrade(random));
+                    if (random.nextDouble() < badRatio) {
+                        grade = random.nextBoolean() ? "1" + grade : "n/a"; // Out of range / not a number
+                    }
+                    writer.write(id + ",\"Student, " + id + "\"," + SUBJECTS[s % SUBJECTS.length] + "," + grade + "\n");
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+}
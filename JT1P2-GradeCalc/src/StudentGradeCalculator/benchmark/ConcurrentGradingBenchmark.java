@@ -0,0 +1,133 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * How grade entry scales with threads on the thread-safe GradeCalculation.
+ *
+ * - ingest:  register students and give each all their grades (bulk path),
+ *            threads split the students between them
+ * - regrade: overwrite random grades of an existing class
+ *
+ * Baseline "plain" = single-threaded GradeCalculation on one thread.
+ * Only the Student part of an update runs in parallel; the rank index,
+ * statistics and subject columns are updated under one lock, so expect
+ * gains to flatten out with more threads (and none on a 1-CPU machine).
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.ConcurrentGradingBenchmark [students] [maxThreads]
+ */
+public class ConcurrentGradingBenchmark {
+    private static final int RUNS = 3;
+    private static final int REGRADES = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int subjects = ClassGenerator.SUBJECTS.length;
+
+        System.out.println("\n🧵 " + studentCount + " students × " + subjects + " subjects, "
+                + Runtime.getRuntime().availableProcessors() + " CPUs");
+
+        double plainIngest = BenchmarkTimer.measureMillis(RUNS,
+                () -> ingest(new GradeCalculation(), studentCount, 1, null));
+        GradeCalculation plainClass = ClassGenerator.populate(
+                new GradeCalculation(), studentCount, subjects, ClassGenerator.DEFAULT_SEED);
+        double plainRegrade = BenchmarkTimer.measureMillis(RUNS,
+                () -> regrade(plainClass, studentCount, 1, null));
+        GradeCalculation sharedClass = ClassGenerator.populate(
+                new GradeCalculation(true), studentCount, subjects, ClassGenerator.DEFAULT_SEED);
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            int threadCount = threads;
+            ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+            try {
+                BenchmarkTimer.report("ingest, " + threadCount + " thread(s)",
+                        "plain", plainIngest,
+                        "safe", BenchmarkTimer.measureMillis(RUNS,
+                                () -> ingest(new GradeCalculation(true), studentCount, threadCount, pool)));
+                BenchmarkTimer.report("regrade, " + threadCount + " thread(s)",
+                        "plain", plainRegrade,
+                        "safe", BenchmarkTimer.measureMillis(RUNS,
+                                () -> regrade(sharedClass, studentCount, threadCount, pool)));
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        if (sharedClass.getTotalStudents() != studentCount
+                || sharedClass.getTopPerformers(studentCount).size() != studentCount) {
+            throw new IllegalStateException("Thread-safe class lost students");
+        }
+    }
+
+    // Thread t registers and grades students t+1, t+1+threads, ...
+    private static GradeCalculation ingest(GradeCalculation gradeCalculation, int studentCount,
+                                           int threads, ExecutorService pool) {
+        run(threads, pool, thread -> {
+            Random random = new Random(ClassGenerator.DEFAULT_SEED + thread);
+            String[] subjects = ClassGenerator.SUBJECTS;
+            double[] grades = new double[subjects.length];
+            for (int id = thread + 1; id <= studentCount; id += threads) {
+                Student student = gradeCalculation.importStudent(id, "Student " + id);
+                for (int s = 0; s < grades.length; s++) {
+                    grades[s] = ClassGenerator.randomGrade(random);
+                }
+                gradeCalculation.importGrades(student, subjects, grades, 0, grades.length);
+            }
+        });
+        return gradeCalculation;
+    }
+
+    // REGRADES random (student, subject) overwrites, split between the threads
+    private static GradeCalculation regrade(GradeCalculation gradeCalculation, int studentCount,
+                                            int threads, ExecutorService pool) {
+        run(threads, pool, thread -> {
+            Random random = new Random(ClassGenerator.DEFAULT_SEED + thread);
+            String[] subject = new String[1];
+            double[] grade = new double[1];
+            for (int i = 0; i < REGRADES / threads; i++) {
+                Student student = gradeCalculation.getStudent(random.nextInt(studentCount) + 1);
+                subject[0] = ClassGenerator.SUBJECTS[random.nextInt(ClassGenerator.SUBJECTS.length)];
+                grade[0] = ClassGenerator.randomGrade(random);
+                gradeCalculation.importGrades(student, subject, grade, 0, 1);
+            }
+        });
+        return gradeCalculation;
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+
+    // Thread 0's share runs on the caller when there is no pool
+    private static void run(int threads, ExecutorService pool, ThreadTask task) {
+        if (pool == null) {
+            task.run(0);
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> task.run(thread)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Grading thread failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.exception.InvalidGradeException;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+import StudentGradeCalculator.statistics.ClassStatistics;
+import StudentGradeCalculator.statistics.GradeStats;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Stress check for the thread-safe GradeCalculation (new GradeCalculation(true)).
+ *
+ * At the same time:
+ * - grader threads register the same students and grade them (each grader
+ *   owns one subject), several rounds, through both addGradeToStudent()
+ *   and the bulk importGrades()
+ * - graders also grade "churn" students that a remover thread keeps
+ *   adding and removing
+ * - a reader thread walks getAllStudents() (must stay sorted by ID) and
+ *   runs rank / statistics / subject queries
+ *
+ * Afterwards every grade must be the last one written, and the rank
+ * index, live statistics and subject columns must match the students.
+ * Exits with status 1 on any mismatch or exception.
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.ConcurrentIngestStress [students] [graders] [rounds]
+ */
+public class ConcurrentIngestStress {
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int graders = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int churnCount = Math.max(1, studentCount / 10);
+
+        GradeCalculation gradeCalculation = new GradeCalculation(true);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong readerPasses = new AtomicLong();
+        AtomicLong churnMisses = new AtomicLong();
+
+        System.out.println("\n🧵 " + graders + " graders × " + studentCount + " students × " + rounds
+                + " rounds, 1 remover (" + churnCount + " churn students), 1 reader");
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // add/remove print ✅ lines
+        ExecutorService pool = Executors.newFixedThreadPool(graders + 2);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < graders; t++) {
+                int grader = t;
+                writers.add(pool.submit(() -> grade(gradeCalculation, grader, graders, studentCount,
+                        churnCount, rounds, churnMisses)));
+            }
+            writers.add(pool.submit(() -> churn(gradeCalculation, studentCount, churnCount, rounds)));
+            Future<?> reader = pool.submit(() -> read(gradeCalculation, studentCount + churnCount, running,
+                    readerPasses, errors));
+
+            for (Future<?> writer : writers) {
+                await(writer, errors);
+            }
+            running.set(false);
+            await(reader, errors);
+        } finally {
+            pool.shutdownNow();
+            System.setOut(out);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(String.format("  %.2f s, %d reader passes, %d grades for removed students rejected",
+                seconds, readerPasses.get(), churnMisses.get()));
+        errors.forEach(error -> System.out.println("❌ " + error));
+        if (errors.isEmpty()) {
+            verify(gradeCalculation, graders, studentCount, rounds, errors);
+        }
+        if (!errors.isEmpty()) {
+            System.exit(1);
+        }
+        System.out.println("✅ All grades, ranks, statistics and subject columns consistent");
+    }
+
+    // Grader `grader` owns one subject and writes it for every student, `rounds` times
+    private static void grade(GradeCalculation gradeCalculation, int grader, int graders, int studentCount,
+                              int churnCount, int rounds, AtomicLong churnMisses) {
+        String subject = subjectOf(grader);
+        String[] subjects = {subject};
+        double[] grades = new double[1];
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < studentCount; i++) {
+                // Each grader starts at a different place, so they overlap on students
+                int id = (i + grader * studentCount / graders) % studentCount + 1;
+                Student student = gradeCalculation.importStudent(id, "Student " + id);
+                double grade = gradeFor(grader, id, round);
+                if ((id + round) % 2 == 0) {
+                    grades[0] = grade;
+                    if (!gradeCalculation.importGrades(student, subjects, grades, 0, 1)) {
+                        throw new IllegalStateException("Student " + id + " vanished");
+                    }
+                } else {
+                    addGrade(gradeCalculation, id, subject, grade);
+                }
+
+                if (i % 10 == 0) {
+                    // Students the remover is adding / removing: may or may not be there
+                    try {
+                        gradeCalculation.addGradeToStudent(studentCount + 1 + i / 10 % churnCount, subject, grade);
+                    } catch (InvalidGradeException e) {
+                        churnMisses.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    // Keeps adding and removing the churn students (IDs after the real ones)
+    private static void churn(GradeCalculation gradeCalculation, int studentCount, int churnCount, int rounds) {
+        for (int round = 0; round < rounds * 4; round++) {
+            for (int c = 1; c <= churnCount; c++) {
+                gradeCalculation.addStudent(new Student("Churn " + c, studentCount + c));
+            }
+            for (int c = 1; c <= churnCount; c++) {
+                gradeCalculation.removeStudent(studentCount + c);
+            }
+        }
+    }
+
+    // Queries while everyone writes: must never throw, and iteration must stay sorted by ID.
+    // The subject ranking covers the whole column, so it includes churn students being removed.
+    private static void read(GradeCalculation gradeCalculation, int maxStudents, AtomicBoolean running,
+                             AtomicLong passes, Queue<Throwable> errors) {
+        while (running.get()) {
+            int previousId = Integer.MIN_VALUE;
+            for (Student student : gradeCalculation.getAllStudents()) {
+                if (student.getStudentId() <= previousId) {
+                    errors.add(new IllegalStateException("getAllStudents() out of order at ID "
+                            + student.getStudentId()));
+                    return;
+                }
+                previousId = student.getStudentId();
+                student.calculateAverage();
+            }
+            gradeCalculation.getTopPerformers(10);
+            gradeCalculation.getRank(1);
+            gradeCalculation.getStatistics();
+            gradeCalculation.getSubjectHistogram(subjectOf(0), 10);
+            for (Student student : gradeCalculation.getTopInSubject(subjectOf(0), maxStudents)) {
+                if (student == null) {
+                    errors.add(new IllegalStateException("getTopInSubject() returned null"));
+                    return;
+                }
+            }
+            passes.incrementAndGet();
+        }
+    }
+
+    private static void verify(GradeCalculation gradeCalculation, int graders, int studentCount, int rounds,
+                               Queue<Throwable> errors) {
+        List<Student> students = new ArrayList<>(gradeCalculation.getAllStudents());
+        check(errors, students.size() == studentCount && gradeCalculation.getTotalStudents() == studentCount,
+                "expected " + studentCount + " students, found " + students.size()
+                        + " (getTotalStudents: " + gradeCalculation.getTotalStudents() + ")");
+
+        // Every grade is the last round's (churn students are all gone)
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            check(errors, student.getStudentId() == i + 1, "ID " + (i + 1) + " missing or out of order");
+            check(errors, student.getSubjectCount() == graders, "student " + student.getStudentId() + " has "
+                    + student.getSubjectCount() + " subjects");
+            for (int grader = 0; grader < graders; grader++) {
+                Double grade = student.getSubjectGrades().get(subjectOf(grader));
+                check(errors, grade != null && grade == gradeFor(grader, student.getStudentId(), rounds - 1),
+                        "student " + student.getStudentId() + " " + subjectOf(grader) + " = " + grade);
+            }
+            if (errors.size() > 10) {
+                break;
+            }
+        }
+
+        // Rank index = students sorted by (average desc, ID asc)
+        List<Student> expectedRanking = students.stream()
+                .sorted(Comparator.comparingDouble(Student::calculateAverage).reversed()
+                        .thenComparingInt(Student::getStudentId))
+                .collect(Collectors.toList());
+        check(errors, expectedRanking.equals(gradeCalculation.getTopPerformers(studentCount)),
+                "rank index order differs from the averages");
+
+        // Live statistics = one fresh pass
+        ClassStatistics live = gradeCalculation.getStatistics();
+        ClassStatistics computed = gradeCalculation.computeStatistics();
+        compare(errors, "overall", live.getOverall(), computed.getOverall());
+        check(errors, live.getBySubject().keySet().equals(computed.getBySubject().keySet()),
+                "subjects differ: " + live.getBySubject().keySet() + " vs " + computed.getBySubject().keySet());
+        for (Map.Entry<String, GradeStats> entry : computed.getBySubject().entrySet()) {
+            compare(errors, entry.getKey(), live.getBySubject().get(entry.getKey()), entry.getValue());
+        }
+
+        // Subject columns = the students' maps
+        check(errors, gradeCalculation.getSubjects().size() == graders,
+                "subject columns: " + gradeCalculation.getSubjects());
+        for (int grader = 0; grader < graders; grader++) {
+            String subject = subjectOf(grader);
+            double sum = 0;
+            for (Student student : students) {
+                sum += student.getSubjectGrades().get(subject);
+            }
+            check(errors, gradeCalculation.getSubjectGradeCount(subject) == studentCount
+                            && Math.abs(gradeCalculation.getSubjectAverage(subject) - sum / studentCount) < 1e-9,
+                    "column for " + subject + " differs from the students");
+        }
+        errors.forEach(error -> System.out.println("❌ " + error.getMessage()));
+    }
+
+    private static void compare(Queue<Throwable> errors, String label, GradeStats live, GradeStats computed) {
+        check(errors, live != null && live.getCount() == computed.getCount()
+                        && Math.abs(live.getMean() - computed.getMean()) < 1e-6
+                        && Math.abs(live.getStandardDeviation() - computed.getStandardDeviation()) < 1e-6,
+                "live statistics for " + label + " differ from a fresh pass");
+    }
+
+    private static void check(Queue<Throwable> errors, boolean ok, String message) {
+        if (!ok) {
+            errors.add(new IllegalStateException(message));
+        }
+    }
+
+    private static void addGrade(GradeCalculation gradeCalculation, int id, String subject, double grade) {
+        try {
+            gradeCalculation.addGradeToStudent(id, subject, grade);
+        } catch (InvalidGradeException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static void await(Future<?> future, Queue<Throwable> errors) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            errors.add(e.getCause());
+        }
+    }
+
+    private static String subjectOf(int grader) {
+        int count = ClassGenerator.SUBJECTS.length;
+        return grader < count ? ClassGenerator.SUBJECTS[grader] : "Elective " + (grader - count + 1);
+    }
+
+    // Same (grader, student, round) → same grade, 0.0..100.0
+    private static double gradeFor(int grader, int studentId, int round) {
+        return (studentId * 31L + grader * 17L + round * 7L) % 1001 / 10.0;
+    }
+}
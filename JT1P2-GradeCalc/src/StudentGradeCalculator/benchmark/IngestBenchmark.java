@@ -0,0 +1,119 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.exception.InvalidGradeException;
+import StudentGradeCalculator.ingest.GradeCsvImporter;
+import StudentGradeCalculator.ingest.ImportReport;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.repository.GradeRepository;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Bulk CSV import vs one row at a time through the menu path.
+ *
+ * - "row by row": BufferedReader + split + Double.parseDouble + addStudent /
+ *   addGradeToStudent, catching InvalidGradeException / NumberFormatException per bad row
+ * - "bulk Nt":    GradeCsvImporter with N parser threads
+ * Then a save + load round trip through GradeRepository, checked against the original.
+ *
+ * Run: java -Xmx2g -cp bin StudentGradeCalculator.benchmark.IngestBenchmark [students] [threads]
+ */
+public class IngestBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 250_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int subjects = ClassGenerator.SUBJECTS.length;
+
+        Path dir = Files.createTempDirectory("grades-ingest");
+        Path csv = dir.resolve("grades.csv");
+        try {
+            long rows = ClassGenerator.writeCsv(csv, students, subjects, 0.01, ClassGenerator.DEFAULT_SEED);
+            System.out.println(String.format("📥 %,d rows (%,d students × %d subjects, 1%% bad), %.1f MB",
+                    rows, students, subjects, Files.size(csv) / 1e6));
+
+            double rowByRow = timeRowByRow(csv);
+            System.out.println(String.format("  %-12s %8.2f s  %,10.0f rows/s", "row by row", rowByRow, rows / rowByRow));
+
+            GradeCalculation loaded = null;
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                loaded = new GradeCalculation();
+                System.gc();
+                long heapBefore = usedHeap();
+                ImportReport report = new GradeCsvImporter(loaded).setThreads(threads).importFile(csv);
+                System.out.println(String.format("  %-12s %8.2f s  %,10.0f rows/s  (%,d loaded, %,d rejected, +%d MB heap)",
+                        "bulk " + threads + "t", report.getElapsedSeconds(), rows / report.getElapsedSeconds(),
+                        report.getGradesLoaded(), report.getRejectedRows(), (usedHeap() - heapBefore) >> 20));
+            }
+
+            // Save + load must give back the same students and grades
+            GradeRepository repository = new GradeRepository(dir.resolve("saved.csv"));
+            long start = System.nanoTime();
+            repository.save(loaded);
+            double saveSeconds = (System.nanoTime() - start) / 1e9;
+            GradeCalculation reloaded = new GradeCalculation();
+            ImportReport report = repository.load(reloaded);
+            verifySame(loaded, reloaded);
+            System.out.println(String.format("  save %.2f s, load %.2f s, round trip verified (%,d students)",
+                    saveSeconds, report.getElapsedSeconds(), reloaded.getTotalStudents()));
+        } finally {
+            Files.deleteIfExists(dir.resolve("saved.csv"));
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    // What the menu would do, one line at a time
+    private static double timeRowByRow(Path csv) throws IOException {
+        GradeCalculation gradeCalculation = new GradeCalculation();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            reader.readLine(); // Header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Generated names are "Student, N": split on the quotes first
+                String[] quoted = line.split("\"");
+                String[] rest = quoted[2].split(",");
+                try {
+                    int id = Integer.parseInt(quoted[0].substring(0, quoted[0].length() - 1));
+                    if (gradeCalculation.getStudent(id) == null) {
+                        gradeCalculation.addStudent(new Student(quoted[1], id));
+                    }
+                    gradeCalculation.addGradeToStudent(id, rest[1], Double.parseDouble(rest[2]));
+                } catch (NumberFormatException | InvalidGradeException e) {
+                    // Bad row: skipped
+                }
+            }
+        } finally {
+            System.setOut(out);
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private static void verifySame(GradeCalculation expected, GradeCalculation actual) {
+        if (expected.getTotalStudents() != actual.getTotalStudents()) {
+            throw new IllegalStateException("Student count differs after reload");
+        }
+        for (Student student : expected.getAllStudents()) {
+            Student other = actual.getStudent(student.getStudentId());
+            if (other == null || !other.getName().equals(student.getName())
+                    || !other.getSubjectGrades().equals(student.getSubjectGrades())) {
+                throw new IllegalStateException("Student " + student.getStudentId() + " differs after reload");
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
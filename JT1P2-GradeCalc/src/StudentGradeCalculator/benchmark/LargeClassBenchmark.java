@@ -0,0 +1,106 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Running aggregates vs re-summing subjectGrades on every call.
+ *
+ * "recompute" is the old Student.calculateAverage() (loop over the HashMap),
+ * "running" is the current O(1) version backed by sums kept in addGrade().
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.LargeClassBenchmark [students...]
+ */
+public class LargeClassBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{10_000, 200_000} : parseSizes(args);
+        int subjects = ClassGenerator.SUBJECTS.length;
+
+        for (int size : sizes) {
+            GradeCalculation gradeCalculation = ClassGenerator.populate(
+                    new GradeCalculation(), size, subjects, ClassGenerator.DEFAULT_SEED);
+            Collection<Student> students = gradeCalculation.getAllStudents();
+            int runs = size >= 100_000 ? 5 : 50;
+
+            System.out.println("\n📊 " + size + " students × " + subjects + " subjects");
+            BenchmarkTimer.report("top 10 performers",
+                    "recompute", BenchmarkTimer.measureMillis(runs, () -> topByRecompute(students, 10)),
+                    "running", BenchmarkTimer.measureMillis(runs, () -> gradeCalculation.getTopPerformers(10)));
+            BenchmarkTimer.report("class avg + max + min",
+                    "recompute", BenchmarkTimer.measureMillis(runs, () -> statsByRecompute(students)),
+                    "running", BenchmarkTimer.measureMillis(runs, () -> statsByRunning(students)));
+            BenchmarkTimer.report("count of A/A+ (avg >= 85)",
+                    "recompute", BenchmarkTimer.measureMillis(runs, () -> lettersByRecompute(students)),
+                    "running", BenchmarkTimer.measureMillis(runs, () -> lettersByRunning(students)));
+        }
+    }
+
+    // The old calculateAverage(): sum the map every time
+    static double recomputeAverage(Student student) {
+        Collection<Double> grades = student.getSubjectGrades().values();
+        if (grades.isEmpty()) {
+            return 0.0;
+        }
+        double sum = 0;
+        for (double grade : grades) {
+            sum += grade;
+        }
+        return sum / grades.size();
+    }
+
+    private static List<Student> topByRecompute(Collection<Student> students, int count) {
+        return students.stream()
+                .sorted((s1, s2) -> Double.compare(recomputeAverage(s2), recomputeAverage(s1)))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    // Same three passes as displayStatistics()
+    private static double statsByRecompute(Collection<Student> students) {
+        double average = students.stream().mapToDouble(LargeClassBenchmark::recomputeAverage).sum() / students.size();
+        Student highest = students.stream().max(Comparator.comparingDouble(LargeClassBenchmark::recomputeAverage)).get();
+        Student lowest = students.stream().min(Comparator.comparingDouble(LargeClassBenchmark::recomputeAverage)).get();
+        return average + recomputeAverage(highest) + recomputeAverage(lowest);
+    }
+
+    private static double statsByRunning(Collection<Student> students) {
+        double average = students.stream().mapToDouble(Student::calculateAverage).sum() / students.size();
+        Student highest = students.stream().max(Comparator.comparingDouble(Student::calculateAverage)).get();
+        Student lowest = students.stream().min(Comparator.comparingDouble(Student::calculateAverage)).get();
+        return average + highest.calculateAverage() + lowest.calculateAverage();
+    }
+
+    private static int lettersByRecompute(Collection<Student> students) {
+        int aGrades = 0;
+        for (Student student : students) {
+            if (recomputeAverage(student) >= 85) {
+                aGrades++;
+            }
+        }
+        return aGrades;
+    }
+
+    private static int lettersByRunning(Collection<Student> students) {
+        int aGrades = 0;
+        for (Student student : students) {
+            if (student.calculateAverage() >= 85) {
+                aGrades++;
+            }
+        }
+        return aGrades;
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
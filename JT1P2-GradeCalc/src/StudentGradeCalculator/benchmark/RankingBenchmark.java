@@ -0,0 +1,144 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.exception.InvalidGradeException;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Rank index vs sorting every student per query.
+ *
+ * "sort" sorts all students by average on each call (the old
+ * displayTopPerformers), "index" uses GradeCalculation's rank index.
+ * Also times addGradeToStudent, which now has to move the student in the index.
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.RankingBenchmark [students...]
+ */
+public class RankingBenchmark {
+    private static final int LOOKUPS = 100;
+
+    public static void main(String[] args) throws InvalidGradeException {
+        int[] sizes = args.length == 0 ? new int[]{10_000, 200_000} : parseSizes(args);
+
+        for (int size : sizes) {
+            GradeCalculation gradeCalculation = ClassGenerator.populate(
+                    new GradeCalculation(), size, ClassGenerator.SUBJECTS.length, ClassGenerator.DEFAULT_SEED);
+            verify(gradeCalculation);
+            int runs = size >= 100_000 ? 5 : 50;
+
+            Random random = new Random(ClassGenerator.DEFAULT_SEED);
+            int[] ids = new int[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                ids[i] = 1 + random.nextInt(size);
+            }
+
+            System.out.println("\n🏆 " + size + " students");
+            BenchmarkTimer.report("top 10 performers",
+                    "sort", BenchmarkTimer.measureMillis(runs, () -> sorted(gradeCalculation).subList(0, 10)),
+                    "index", BenchmarkTimer.measureMillis(runs, () -> gradeCalculation.getTopPerformers(10)));
+            BenchmarkTimer.report("rank of " + LOOKUPS + " students",
+                    "sort", BenchmarkTimer.measureMillis(runs, () -> ranksBySort(gradeCalculation, ids)),
+                    "index", BenchmarkTimer.measureMillis(runs, () -> ranksByIndex(gradeCalculation, ids)));
+            BenchmarkTimer.report("40th-60th percentile band",
+                    "sort", BenchmarkTimer.measureMillis(runs, () -> bandBySort(gradeCalculation)),
+                    "index", BenchmarkTimer.measureMillis(runs,
+                            () -> gradeCalculation.getStudentsBetweenPercentiles(40, 60)));
+
+            // Index maintenance: each grade change re-files the student
+            PrintStream out = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            double updateMillis;
+            try {
+                updateMillis = BenchmarkTimer.measureMillis(runs, () -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        try {
+                            gradeCalculation.addGradeToStudent(1 + random.nextInt(size),
+                                    ClassGenerator.SUBJECTS[random.nextInt(ClassGenerator.SUBJECTS.length)],
+                                    ClassGenerator.randomGrade(random));
+                        } catch (InvalidGradeException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    return gradeCalculation;
+                });
+            } finally {
+                System.setOut(out);
+            }
+            BenchmarkTimer.report("10k grade updates", "index", updateMillis);
+            verify(gradeCalculation);
+        }
+    }
+
+    // The index must agree with a full sort, before and after updates
+    private static void verify(GradeCalculation gradeCalculation) {
+        List<Student> expected = sorted(gradeCalculation);
+        List<Student> actual = gradeCalculation.getTopPerformers(expected.size());
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Rank index out of order");
+        }
+        for (int i = 0; i < expected.size(); i += Math.max(1, expected.size() / 1000)) {
+            if (gradeCalculation.getRank(expected.get(i).getStudentId()) != i + 1) {
+                throw new IllegalStateException("Wrong rank for " + expected.get(i).getStudentId());
+            }
+        }
+    }
+
+    // Same order as the index: average descending, then ID ascending
+    private static List<Student> sorted(GradeCalculation gradeCalculation) {
+        return gradeCalculation.getAllStudents().stream()
+                .sorted(Comparator.comparingDouble(Student::calculateAverage).reversed()
+                        .thenComparingInt(Student::getStudentId))
+                .collect(Collectors.toList());
+    }
+
+    private static int ranksBySort(GradeCalculation gradeCalculation, int[] ids) {
+        // One sort, then a scan per student
+        List<Student> order = sorted(gradeCalculation);
+        int sum = 0;
+        for (int id : ids) {
+            for (int i = 0; i < order.size(); i++) {
+                if (order.get(i).getStudentId() == id) {
+                    sum += i + 1;
+                    break;
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static int ranksByIndex(GradeCalculation gradeCalculation, int[] ids) {
+        int sum = 0;
+        for (int id : ids) {
+            sum += gradeCalculation.getRank(id);
+        }
+        return sum;
+    }
+
+    private static List<Student> bandBySort(GradeCalculation gradeCalculation) {
+        List<Student> order = sorted(gradeCalculation);
+        int total = order.size();
+        List<Student> band = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            double percentile = 100.0 * (total - 1 - i) / (total - 1);
+            if (percentile >= 40 && percentile <= 60) {
+                band.add(order.get(i));
+            }
+        }
+        return band;
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,107 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+import StudentGradeCalculator.statistics.ClassStatistics;
+import StudentGradeCalculator.statistics.GradeStats;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Class statistics three ways:
+ * - "3 passes":  the old displayStatistics (average, then max, then min; no spread or percentiles)
+ * - "N passes":  the same output as ClassStatistics the straightforward way: the 3 passes, a
+ *                variance pass, a sort for percentiles, and a grouping pass per subject
+ * - "1 pass":    ClassStatistics.compute(), one parallel pass with mergeable accumulators
+ *                (also per-subject breakdown, std deviation and percentiles)
+ * - "live":      GradeCalculation.getStatistics(), accumulators kept up to date on every change
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.StatisticsBenchmark [students...]
+ */
+public class StatisticsBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{10_000, 200_000} : parseSizes(args);
+        System.out.println("Parallelism: " + Runtime.getRuntime().availableProcessors() + " CPU(s)");
+
+        for (int size : sizes) {
+            GradeCalculation gradeCalculation = ClassGenerator.populate(
+                    new GradeCalculation(), size, ClassGenerator.SUBJECTS.length, ClassGenerator.DEFAULT_SEED);
+            verify(gradeCalculation);
+            Collection<Student> students = gradeCalculation.getAllStudents();
+            int runs = size >= 100_000 ? 5 : 50;
+
+            System.out.println("\n📈 " + size + " students × " + ClassGenerator.SUBJECTS.length + " subjects");
+            double threePasses = BenchmarkTimer.measureMillis(runs, () -> threePasses(students));
+            BenchmarkTimer.report("full stats + subjects", "N passes",
+                    BenchmarkTimer.measureMillis(runs, () -> manyPasses(students)),
+                    "1 pass", BenchmarkTimer.measureMillis(runs, gradeCalculation::computeStatistics));
+            BenchmarkTimer.report("class stats", "3 passes", threePasses,
+                    "live", BenchmarkTimer.measureMillis(runs, gradeCalculation::getStatistics));
+        }
+    }
+
+    // The old displayStatistics(): three streams over every student
+    private static double threePasses(Collection<Student> students) {
+        double average = students.stream().mapToDouble(Student::calculateAverage).sum() / students.size();
+        Student highest = students.stream().max(Comparator.comparingDouble(Student::calculateAverage)).get();
+        Student lowest = students.stream().min(Comparator.comparingDouble(Student::calculateAverage)).get();
+        return average + highest.calculateAverage() + lowest.calculateAverage();
+    }
+
+    // Mean, spread, percentiles and per-subject breakdown without accumulators
+    private static double manyPasses(Collection<Student> students) {
+        double result = threePasses(students);
+        double mean = students.stream().mapToDouble(Student::calculateAverage).average().orElse(0);
+        result += students.stream().mapToDouble(s -> Math.pow(s.calculateAverage() - mean, 2)).sum() / students.size();
+        double[] sorted = students.stream().mapToDouble(Student::calculateAverage).sorted().toArray();
+        result += sorted[sorted.length / 2] + sorted[sorted.length / 4] + sorted[sorted.length * 3 / 4];
+        for (String subject : ClassGenerator.SUBJECTS) {
+            double[] grades = students.stream()
+                    .map(s -> s.getSubjectGrades().get(subject))
+                    .filter(g -> g != null)
+                    .mapToDouble(Double::doubleValue)
+                    .sorted()
+                    .toArray();
+            double subjectMean = Arrays.stream(grades).average().orElse(0);
+            result += subjectMean + Arrays.stream(grades).map(g -> (g - subjectMean) * (g - subjectMean)).sum()
+                    + grades[0] + grades[grades.length / 2] + grades[grades.length - 1];
+        }
+        return result;
+    }
+
+    // Live accumulators must match a fresh pass
+    private static void verify(GradeCalculation gradeCalculation) {
+        ClassStatistics live = gradeCalculation.getStatistics();
+        ClassStatistics computed = gradeCalculation.computeStatistics();
+        check("overall", live.getOverall(), computed.getOverall());
+        for (Map.Entry<String, GradeStats> entry : computed.getBySubject().entrySet()) {
+            check(entry.getKey(), live.getSubject(entry.getKey()), entry.getValue());
+        }
+        if (live.getHighest().calculateAverage() != computed.getHighest().calculateAverage()) {
+            throw new IllegalStateException("Highest scorer differs");
+        }
+    }
+
+    private static void check(String name, GradeStats live, GradeStats computed) {
+        if (live == null || live.getCount() != computed.getCount()
+                || Math.abs(live.getMean() - computed.getMean()) > 1e-6
+                || Math.abs(live.getVariance() - computed.getVariance()) > 1e-6
+                || live.getMedian() != computed.getMedian()
+                || Math.abs(live.getMin() - computed.getMin()) > 0.01   // After removals: within one bin
+                || Math.abs(live.getMax() - computed.getMax()) > 0.01) {
+            throw new IllegalStateException("Live statistics differ for " + name + ": " + live + " vs " + computed);
+        }
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,110 @@
+package StudentGradeCalculator.benchmark;
+
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Subject queries: walking every Student's HashMap ("maps") vs the
+ * per-subject columns in GradeCalculation ("columns").
+ *
+ * Run: java -cp bin StudentGradeCalculator.benchmark.SubjectBenchmark [students...]
+ */
+public class SubjectBenchmark {
+    private static final String SUBJECT = "Mathematics";
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{10_000, 200_000} : parseSizes(args);
+
+        for (int size : sizes) {
+            GradeCalculation gradeCalculation = ClassGenerator.populate(
+                    new GradeCalculation(), size, ClassGenerator.SUBJECTS.length, ClassGenerator.DEFAULT_SEED);
+            Collection<Student> students = gradeCalculation.getAllStudents();
+            verify(gradeCalculation, students);
+            removeEvery(gradeCalculation, 50, size); // Exercise swap-remove, then check again
+            verify(gradeCalculation, students);
+            int runs = size >= 100_000 ? 20 : 200;
+
+            System.out.println("\n📚 " + size + " students × " + ClassGenerator.SUBJECTS.length + " subjects");
+            BenchmarkTimer.report("average in " + SUBJECT,
+                    "maps", BenchmarkTimer.measureMillis(runs, () -> averageByMaps(students)),
+                    "columns", BenchmarkTimer.measureMillis(runs, () -> gradeCalculation.getSubjectAverage(SUBJECT)));
+            BenchmarkTimer.report("top 10 in " + SUBJECT,
+                    "maps", BenchmarkTimer.measureMillis(runs, () -> topByMaps(students, 10)),
+                    "columns", BenchmarkTimer.measureMillis(runs, () -> gradeCalculation.getTopInSubject(SUBJECT, 10)));
+            BenchmarkTimer.report("histogram of " + SUBJECT,
+                    "maps", BenchmarkTimer.measureMillis(runs, () -> histogramByMaps(students)),
+                    "columns", BenchmarkTimer.measureMillis(runs, () -> gradeCalculation.getSubjectHistogram(SUBJECT, 10)));
+        }
+    }
+
+    private static double averageByMaps(Collection<Student> students) {
+        double sum = 0;
+        int count = 0;
+        for (Student student : students) {
+            Double grade = student.getSubjectGrades().get(SUBJECT);
+            if (grade != null) {
+                sum += grade;
+                count++;
+            }
+        }
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    private static List<Student> topByMaps(Collection<Student> students, int count) {
+        return students.stream()
+                .filter(student -> student.getSubjectGrades().containsKey(SUBJECT))
+                .sorted(Comparator.comparingDouble((Student student) -> student.getSubjectGrades().get(SUBJECT))
+                        .reversed()
+                        .thenComparingInt(Student::getStudentId))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    private static int[] histogramByMaps(Collection<Student> students) {
+        int[] histogram = new int[10];
+        for (Student student : students) {
+            Double grade = student.getSubjectGrades().get(SUBJECT);
+            if (grade != null) {
+                histogram[Math.min(9, (int) (grade * 10 / 100))]++;
+            }
+        }
+        return histogram;
+    }
+
+    private static void removeEvery(GradeCalculation gradeCalculation, int step, int size) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // removeStudent prints
+        try {
+            for (int id = 1; id <= size; id += step) {
+                gradeCalculation.removeStudent(id);
+            }
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    // Columns must give the same answers as the maps
+    private static void verify(GradeCalculation gradeCalculation, Collection<Student> students) {
+        if (Math.abs(averageByMaps(students) - gradeCalculation.getSubjectAverage(SUBJECT)) > 1e-9
+                || !topByMaps(students, 10).equals(gradeCalculation.getTopInSubject(SUBJECT, 10))
+                || !Arrays.equals(histogramByMaps(students), gradeCalculation.getSubjectHistogram(SUBJECT, 10))) {
+            throw new IllegalStateException("Subject columns disagree with the student maps");
+        }
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
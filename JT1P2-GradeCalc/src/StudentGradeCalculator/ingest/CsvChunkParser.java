@@ -0,0 +1,317 @@
+package StudentGradeCalculator.ingest;
+
+import StudentGradeCalculator.ingest.ImportReport.Problem;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses one chunk of a grades CSV (whole lines only) into flat arrays.
+ *
+ * Row format: studentId,name,subject,grade
+ * - Fields may be quoted ("Smith, John"); "" inside quotes is a quote
+ * - subject and grade both empty = student with no grades yet
+ * - A header line (first field not a number) is skipped in the first chunk
+ *
+ * Works on raw bytes and never throws for a bad row: the row is recorded
+ * as a problem with its line number (relative to this chunk) and skipped.
+ * Runs on a worker thread and touches no shared state.
+ */
+final class CsvChunkParser {
+    private static final int FIELDS = 4;
+    private static final int MAX_FAST_DIGITS = 15; // Below 2^53: the mantissa is an exact double
+    private static final double[] POWERS_OF_TEN = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    // Parsed rows of one chunk; grades[i] is NaN for a student-only row
+    static final class ParsedChunk {
+        int lines;
+        int count;
+        int[] studentIds = new int[1024];
+        String[] names = new String[1024];
+        String[] subjects = new String[1024];
+        double[] grades = new double[1024];
+        final List<Problem> problems = new ArrayList<>();
+        final List<Integer> problemLines = new ArrayList<>(); // 1-based, within the chunk
+        final List<String> problemDetails = new ArrayList<>();
+
+        void add(int studentId, String name, String subject, double grade) {
+            if (count == studentIds.length) {
+                int size = count * 2;
+                studentIds = Arrays.copyOf(studentIds, size);
+                names = Arrays.copyOf(names, size);
+                subjects = Arrays.copyOf(subjects, size);
+                grades = Arrays.copyOf(grades, size);
+            }
+            studentIds[count] = studentId;
+            names[count] = name;
+            subjects[count] = subject;
+            grades[count] = grade;
+            count++;
+        }
+
+        void reject(Problem problem, int line, String detail) {
+            problems.add(problem);
+            problemLines.add(line);
+            problemDetails.add(detail);
+        }
+    }
+
+    private final byte[] data;
+    private final int length;
+    private final boolean firstChunk;
+    private final int[] fieldStart = new int[FIELDS];
+    private final int[] fieldEnd = new int[FIELDS];
+    private final boolean[] fieldQuoted = new boolean[FIELDS];
+    private final Map<String, String> subjectNames = new HashMap<>(); // One String per subject
+
+    private CsvChunkParser(byte[] data, int length, boolean firstChunk) {
+        this.data = data;
+        this.length = length;
+        this.firstChunk = firstChunk;
+    }
+
+    static ParsedChunk parse(byte[] data, int length, boolean firstChunk) {
+        return new CsvChunkParser(data, length, firstChunk).parse();
+    }
+
+    private ParsedChunk parse() {
+        ParsedChunk chunk = new ParsedChunk();
+        int lastId = Integer.MIN_VALUE;
+        String lastName = null;
+        int pos = 0;
+        while (pos < length) {
+            int end = pos;
+            while (end < length && data[end] != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            if (end > pos && data[end - 1] == '\r') {
+                end--;
+            }
+            chunk.lines++;
+            int line = chunk.lines;
+            int start = pos;
+            pos = next;
+
+            if (isBlank(start, end)) {
+                continue;
+            }
+            int fields = split(start, end);
+            if (fields != FIELDS) {
+                chunk.reject(Problem.BAD_FORMAT, line, fields < 0 ? "unbalanced quotes" : fields
+                        + " fields, expected " + FIELDS + ": " + excerpt(start, end));
+                continue;
+            }
+
+            long studentId = parseInt(fieldStart[0], fieldEnd[0]);
+            if (studentId == Long.MIN_VALUE) {
+                if (firstChunk && line == 1) {
+                    continue; // Header row
+                }
+                chunk.reject(Problem.BAD_STUDENT_ID, line, excerpt(start, end));
+                continue;
+            }
+            int id = (int) studentId;
+
+            // Consecutive rows of one student share the name String
+            String name = id == lastId ? lastName : text(1);
+            if (name.isEmpty()) {
+                chunk.reject(Problem.MISSING_NAME, line, excerpt(start, end));
+                continue;
+            }
+            lastId = id;
+            lastName = name;
+
+            String subject = text(2);
+            boolean gradeEmpty = isBlank(fieldStart[3], fieldEnd[3]);
+            if (subject.isEmpty() && gradeEmpty) {
+                chunk.add(id, name, null, Double.NaN); // Student with no grades
+                continue;
+            }
+            if (subject.isEmpty()) {
+                chunk.reject(Problem.BAD_FORMAT, line, "missing subject: " + excerpt(start, end));
+                continue;
+            }
+
+            double grade = parseDecimal(fieldStart[3], fieldEnd[3]);
+            if (Double.isNaN(grade)) {
+                chunk.reject(Problem.BAD_GRADE, line, excerpt(start, end));
+                continue;
+            }
+            if (!GradeCalculation.isValidGrade(grade)) {
+                chunk.reject(Problem.GRADE_OUT_OF_RANGE, line,
+                        "Grade must be between 0 and 100. Received: " + grade);
+                continue;
+            }
+            chunk.add(id, name, subjectNames.computeIfAbsent(subject, s -> s), grade);
+        }
+        return chunk;
+    }
+
+    // Field boundaries of [start, end); number of fields, or -1 for unbalanced quotes
+    private int split(int start, int end) {
+        int field = 0;
+        int pos = start;
+        while (true) {
+            while (pos < end && data[pos] == ' ') {
+                pos++;
+            }
+            boolean quoted = pos < end && data[pos] == '"';
+            int fieldFrom;
+            int fieldTo;
+            if (quoted) {
+                fieldFrom = ++pos;
+                while (true) {
+                    if (pos >= end) {
+                        return -1;
+                    }
+                    if (data[pos] == '"') {
+                        if (pos + 1 < end && data[pos + 1] == '"') {
+                            pos += 2; // Escaped quote
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                fieldTo = pos++;
+                while (pos < end && data[pos] != ',') {
+                    pos++; // Ignore anything between the closing quote and the comma
+                }
+            } else {
+                fieldFrom = pos;
+                while (pos < end && data[pos] != ',') {
+                    pos++;
+                }
+                fieldTo = pos;
+            }
+            if (field < FIELDS) {
+                fieldStart[field] = fieldFrom;
+                fieldEnd[field] = fieldTo;
+                fieldQuoted[field] = quoted;
+            }
+            field++;
+            if (pos >= end) {
+                return field;
+            }
+            pos++; // Skip the comma
+        }
+    }
+
+    private String text(int field) {
+        String value = new String(data, fieldStart[field], fieldEnd[field] - fieldStart[field],
+                StandardCharsets.UTF_8);
+        if (fieldQuoted[field]) {
+            return value.replace("\"\"", "\"");
+        }
+        return value.trim();
+    }
+
+    // Whole number in [from, to), or Long.MIN_VALUE if it is not one / does not fit an int
+    private long parseInt(int from, int to) {
+        while (from < to && data[from] == ' ') {
+            from++;
+        }
+        while (to > from && data[to - 1] == ' ') {
+            to--;
+        }
+        boolean negative = from < to && data[from] == '-';
+        if (negative) {
+            from++;
+        }
+        if (from == to || to - from > 10) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    // Decimal like 87, 87.5, -3.25, 5.0E-4 in [from, to), or NaN if it is not one.
+    // Up to 15 digits without exponent are parsed here: mantissa and 10^scale are then
+    // both exact, so the one division rounds to the same double as Double.parseDouble.
+    // Everything else (exponent, more digits) goes to Double.parseDouble itself.
+    private double parseDecimal(int from, int to) {
+        while (from < to && data[from] == ' ') {
+            from++;
+        }
+        while (to > from && data[to - 1] == ' ') {
+            to--;
+        }
+        int start = from;
+        boolean negative = from < to && (data[from] == '-' || data[from] == '+');
+        if (negative) {
+            negative = data[from] == '-';
+            from++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1; // Digits after the point; -1 = no point seen
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if (b == '.' && scale < 0) {
+                scale = 0;
+            } else if (b >= '0' && b <= '9') {
+                if (++digits > MAX_FAST_DIGITS) {
+                    return parseSlow(start, to);
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == 'e' || b == 'E') {
+                return parseSlow(start, to);
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        double value = mantissa / POWERS_OF_TEN[Math.max(scale, 0)];
+        return negative ? -value : value;
+    }
+
+    // Double.parseDouble, but only on digits, sign, point and exponent:
+    // it would also take "NaN", "Infinity", hex and a d/f suffix
+    private double parseSlow(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if ((b < '0' || b > '9') && b != '.' && b != '-' && b != '+' && b != 'e' && b != 'E') {
+                return Double.NaN;
+            }
+        }
+        try {
+            return Double.parseDouble(new String(data, from, to - from, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] != ' ' && data[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String excerpt(int from, int to) {
+        String line = new String(data, from, Math.min(to - from, 60), StandardCharsets.UTF_8);
+        return to - from > 60 ? line + "..." : line;
+    }
+}
@@ -0,0 +1,173 @@
+package StudentGradeCalculator.ingest;
+
+import StudentGradeCalculator.ingest.CsvChunkParser.ParsedChunk;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads large grade CSV files (studentId,name,subject,grade) into a GradeCalculation.
+ *
+ * HOW IT WORKS:
+ * 1. The file is read in chunks of whole lines (default 4 MB)
+ * 2. Worker threads parse + validate chunks in parallel (CsvChunkParser)
+ * 3. This thread applies parsed chunks IN FILE ORDER, so a later row for
+ *    the same student + subject wins, just like typing it in later
+ *
+ * Memory stays bounded: at most 2 × threads chunks are read ahead, no
+ * matter how big the file is. Bad rows are counted in the ImportReport
+ * and skipped - no exception per row.
+ *
+ * Only this thread touches the GradeCalculation, even a thread-safe one:
+ * applying in parallel would lose the file order.
+ */
+public class GradeCsvImporter {
+    public static final int DEFAULT_CHUNK_BYTES = 4 * 1024 * 1024;
+
+    private final GradeCalculation gradeCalculation;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int chunkBytes = DEFAULT_CHUNK_BYTES;
+
+    public GradeCsvImporter(GradeCalculation gradeCalculation) {
+        this.gradeCalculation = gradeCalculation;
+    }
+
+    // Parser threads (applying stays on the calling thread)
+    public GradeCsvImporter setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Need at least one thread: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public GradeCsvImporter setChunkBytes(int chunkBytes) {
+        if (chunkBytes < 1024) {
+            throw new IllegalArgumentException("Chunk too small: " + chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+        return this;
+    }
+
+    public ImportReport importFile(Path file) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "grade-csv-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        long linesBefore = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean firstChunk = true;
+            while (position < size) {
+                byte[] chunk = readLines(channel, position, size);
+                position += chunk.length;
+                boolean first = firstChunk;
+                inFlight.add(pool.submit(() -> CsvChunkParser.parse(chunk, chunk.length, first)));
+                firstChunk = false;
+
+                // Bounded read-ahead: apply the oldest chunk before reading more
+                while (inFlight.size() >= threads * 2) {
+                    linesBefore += apply(await(inFlight.poll()), linesBefore, report);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                linesBefore += apply(await(inFlight.poll()), linesBefore, report);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    // Bytes from position up to and including the last newline that fits (or to EOF)
+    private byte[] readLines(FileChannel channel, long position, long size) throws IOException {
+        int want = (int) Math.min(chunkBytes, size - position);
+        while (true) {
+            byte[] buffer = new byte[want];
+            readFully(channel, buffer, position);
+            if (position + want == size) {
+                return buffer; // Last chunk: whatever is left, newline or not
+            }
+            for (int i = want - 1; i >= 0; i--) {
+                if (buffer[i] == '\n') {
+                    return i == want - 1 ? buffer : Arrays.copyOf(buffer, i + 1);
+                }
+            }
+            // One line longer than the chunk: read more
+            want = (int) Math.min((long) want * 2, size - position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, byte[] buffer, long position) throws IOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer);
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new EOFException("File shrank while importing");
+            }
+        }
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Parsing failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    // Apply one parsed chunk; returns its line count
+    private int apply(ParsedChunk chunk, long linesBefore, ImportReport report) {
+        for (int i = 0; i < chunk.problems.size(); i++) {
+            report.reject(chunk.problems.get(i), linesBefore + chunk.problemLines.get(i),
+                    chunk.problemDetails.get(i));
+        }
+        report.addRowsRead(chunk.count + chunk.problems.size());
+
+        int i = 0;
+        while (i < chunk.count) {
+            // Rows of one student are usually together: register once, re-rank once
+            int id = chunk.studentIds[i];
+            int end = i + 1;
+            while (end < chunk.count && chunk.studentIds[end] == id) {
+                end++;
+            }
+            int before = gradeCalculation.getTotalStudents();
+            Student student = gradeCalculation.importStudent(id, chunk.names[i]);
+            if (gradeCalculation.getTotalStudents() > before) {
+                report.addStudentCreated();
+            }
+            gradeCalculation.importGrades(student, chunk.subjects, chunk.grades, i, end);
+            for (int row = i; row < end; row++) {
+                if (!Double.isNaN(chunk.grades[row])) {
+                    report.addGradeLoaded();
+                }
+            }
+            i = end;
+        }
+        return chunk.lines;
+    }
+}
@@ -0,0 +1,108 @@
+package StudentGradeCalculator.ingest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk CSV import.
+ *
+ * Bad rows are counted and skipped instead of throwing, so one typo does
+ * not stop a million-row file. The first few problems are kept with their
+ * line numbers so they can be fixed in the source file.
+ */
+public class ImportReport {
+    public static final int MAX_SAMPLES = 20;
+
+    // Why a row was skipped
+    public enum Problem {
+        BAD_FORMAT,          // Not 4 fields / unbalanced quotes
+        BAD_STUDENT_ID,      // Not a positive whole number
+        MISSING_NAME,
+        BAD_GRADE,           // Not a number
+        GRADE_OUT_OF_RANGE   // Same rule as InvalidGradeException: 0..100
+    }
+
+    private long rowsRead;
+    private long gradesLoaded;
+    private long studentsCreated;
+    private final Map<Problem, Long> rejected = new EnumMap<>(Problem.class);
+    private final List<String> samples = new ArrayList<>();
+    private long elapsedNanos;
+
+    void addRowsRead(long rows) {
+        rowsRead += rows;
+    }
+
+    void addGradeLoaded() {
+        gradesLoaded++;
+    }
+
+    void addStudentCreated() {
+        studentsCreated++;
+    }
+
+    void reject(Problem problem, long lineNumber, String detail) {
+        rejected.merge(problem, 1L, Long::sum);
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add("line " + lineNumber + ": " + problem + " - " + detail);
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getGradesLoaded() {
+        return gradesLoaded;
+    }
+
+    public long getStudentsCreated() {
+        return studentsCreated;
+    }
+
+    public long getRejectedRows() {
+        long total = 0;
+        for (long count : rejected.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long getRejected(Problem problem) {
+        return rejected.getOrDefault(problem, 0L);
+    }
+
+    // First MAX_SAMPLES problems, in file order
+    public List<String> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public void display() {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📥 IMPORT REPORT");
+        System.out.println("=".repeat(80));
+        System.out.println("Rows Read        : " + rowsRead);
+        System.out.println("Grades Loaded    : " + gradesLoaded);
+        System.out.println("Students Created : " + studentsCreated);
+        System.out.println("Rows Rejected    : " + getRejectedRows());
+        for (Map.Entry<Problem, Long> entry : rejected.entrySet()) {
+            System.out.println("    • " + entry.getKey() + ": " + entry.getValue());
+        }
+        for (String sample : samples) {
+            System.out.println("  ⚠️ " + sample);
+        }
+        System.out.println("Time             : " + String.format("%.2f s", getElapsedSeconds()));
+        System.out.println("=".repeat(80));
+    }
+}
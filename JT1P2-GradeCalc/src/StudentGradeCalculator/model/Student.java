@@ -1,40 +1,92 @@
 package StudentGradeCalculator.model;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Student extends Person {
     private int studentId;
-    private Map<String, Double> subjectGrades; // Subject -> Grade
+    // Subject -> Grade. Concurrent so readers can iterate while a grader writes.
+    private Map<String, Double> subjectGrades;
+
+    // Running aggregates, updated in addGrade() so average/variance are O(1).
+    // Always the plain sums of the current grades (never adjusted by a
+    // subtraction). Guarded by this student's monitor, with subjectGrades writes.
+    private double gradeSum;
+    private double gradeSumOfSquares;
 
     public Student(String name, int studentId) {
         super(name);
+        // An empty name field is rejected when a saved file is loaded back,
+        // so a nameless student could be saved but never restored
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Student " + studentId + " needs a name");
+        }
         this.studentId = studentId;
-        this.subjectGrades = new HashMap<>();
+        this.subjectGrades = new ConcurrentHashMap<>();
     }
 
     public int getStudentId() {
         return studentId;
     }
 
-    public void addGrade(String subject, double grade) {
-        subjectGrades.put(subject, grade);
+    public synchronized void addGrade(String subject, double grade) {
+        Double previous = subjectGrades.put(subject, grade);
+        if (previous == null) {
+            gradeSum += grade;
+            gradeSumOfSquares += grade * grade;
+        } else {
+            // Overwriting a subject: "sum - old + new" leaves rounding error behind
+            // that piles up over many overwrites (five 90s averaging 89.99999999999999),
+            // so add up the current grades again - a handful of subjects
+            resum();
+        }
+    }
+
+    private void resum() {
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (double grade : subjectGrades.values()) {
+            sum += grade;
+            sumOfSquares += grade * grade;
+        }
+        gradeSum = sum;
+        gradeSumOfSquares = sumOfSquares;
     }
 
+    // Read-only view: changes must go through addGrade() to keep the sums right
     public Map<String, Double> getSubjectGrades() {
-        return subjectGrades;
+        return Collections.unmodifiableMap(subjectGrades);
+    }
+
+    public int getSubjectCount() {
+        return subjectGrades.size();
+    }
+
+    public synchronized double getGradeSum() {
+        return gradeSum;
     }
 
-    public double calculateAverage() {
+    public synchronized double calculateAverage() {
         if (subjectGrades.isEmpty()) {
             return 0.0;
         }
-        double sum = 0;
+        return gradeSum / subjectGrades.size();
+    }
 
-        for (double grade : subjectGrades.values()) {
-            sum += grade;
+    // Population variance of this student's subject grades: E[x²] - E[x]²
+    public synchronized double calculateVariance() {
+        int count = subjectGrades.size();
+        if (count == 0) {
+            return 0.0;
         }
-        return sum / subjectGrades.size();
+        double mean = gradeSum / count;
+        // Rounding can leave a tiny negative number when all grades are equal
+        return Math.max(0.0, gradeSumOfSquares / count - mean * mean);
+    }
+
+    public double calculateStandardDeviation() {
+        return Math.sqrt(calculateVariance());
     }
 
     public String getLetterGrade() {
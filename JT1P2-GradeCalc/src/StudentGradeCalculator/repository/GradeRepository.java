@@ -0,0 +1,90 @@
+package StudentGradeCalculator.repository;
+
+import StudentGradeCalculator.ingest.GradeCsvImporter;
+import StudentGradeCalculator.ingest.ImportReport;
+import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.services.GradeCalculation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Saves / loads all students and grades as one CSV file.
+ *
+ * Same format the bulk importer reads (studentId,name,subject,grade), so a
+ * saved file can be opened in a spreadsheet and imported anywhere:
+ *
+ *   studentId,name,subject,grade
+ *   101,Alice Johnson,Chemistry,95.0
+ *   105,Eve Wilson,,                  ← student with no grades yet
+ *
+ * save() writes a temp file and then renames it over the old one, so a
+ * crash in the middle never leaves a half-written file behind.
+ */
+public class GradeRepository {
+    public static final String HEADER = "studentId,name,subject,grade";
+
+    private final Path file;
+
+    public GradeRepository(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean exists() {
+        return Files.isRegularFile(file);
+    }
+
+    // Write every student (by ID) and their grades (by subject)
+    public void save(GradeCalculation gradeCalculation) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Student student : gradeCalculation.getAllStudents()) {
+                    String prefix = student.getStudentId() + "," + quote(student.getName()) + ",";
+                    if (student.getSubjectCount() == 0) {
+                        writer.write(prefix + ",");
+                        writer.newLine();
+                        continue;
+                    }
+                    for (Map.Entry<String, Double> grade : new TreeMap<>(student.getSubjectGrades()).entrySet()) {
+                        // Plain digits (no 5.0E-4) that parse back to the exact same double
+                        writer.write(prefix + quote(grade.getKey()) + ","
+                                + BigDecimal.valueOf(grade.getValue()).stripTrailingZeros().toPlainString());
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Add everything in the file to gradeCalculation (bad rows are reported, not thrown)
+    public ImportReport load(GradeCalculation gradeCalculation) throws IOException {
+        return new GradeCsvImporter(gradeCalculation).importFile(file);
+    }
+
+    // Quote a field that contains a comma, quote or leading/trailing space
+    static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.equals(value.trim())) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -2,48 +2,291 @@ package StudentGradeCalculator.services;
 
 import StudentGradeCalculator.exception.InvalidGradeException;
 import StudentGradeCalculator.model.Student;
+import StudentGradeCalculator.statistics.ClassStatistics;
+import StudentGradeCalculator.statistics.GradeStats;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
+/**
+ * All students plus the indexes built over them (rank, statistics, subject columns).
+ *
+ * new GradeCalculation()      → single-threaded (the menu), TreeMap
+ * new GradeCalculation(true)  → thread-safe, for several graders at once:
+ *   - students live in a ConcurrentSkipListMap: lock-free lookups, and
+ *     iteration is still sorted by ID (never throws, sees a live view)
+ *   - a grade change first updates the Student under that student's own
+ *     monitor (striped: graders on different students don't block here)
+ *   - then the shared indexes are updated in one short critical section
+ *     (indexLock), still holding the student's monitor, so the indexes
+ *     always match the students' grades
+ * The single-threaded mode skips indexLock; the uncontended student
+ * monitors cost a few nanoseconds.
+ */
 public class GradeCalculation {
-    // TreeMap automatically sorts by studentId (key)
-    private TreeMap<Integer, Student> students;
+    // Sorted by studentId (key): TreeMap, or ConcurrentSkipListMap when thread-safe
+    private NavigableMap<Integer, Student> students;
+    // Guards the indexes below when thread-safe; null in single-threaded mode
+    private final ReentrantLock indexLock;
+    // Students ordered by average, for top-N / rank / percentile queries
+    private RankIndex rankIndex;
+    // Live statistics, updated on every change (no pass over students needed)
+    private GradeStats averageStats;                // Over student averages
+    private Map<String, GradeStats> subjectStats;   // Subject -> grades in that subject
+    // Subject -> (studentId[], grade[]) columns for subject-level scans
+    private SubjectColumns subjectColumns;
 
     public GradeCalculation() {
-        this.students = new TreeMap<>();
+        this(false);
     }
 
-    // Add a new student
+    public GradeCalculation(boolean threadSafe) {
+        this.students = threadSafe ? new ConcurrentSkipListMap<>() : new TreeMap<>();
+        this.indexLock = threadSafe ? new ReentrantLock() : null;
+        this.rankIndex = new RankIndex();
+        this.averageStats = new GradeStats();
+        this.subjectStats = new TreeMap<>();
+        this.subjectColumns = new SubjectColumns();
+    }
+
+    public boolean isThreadSafe() {
+        return indexLock != null;
+    }
+
+    // Add a new student (replaces one with the same ID)
     public void addStudent(Student student) {
-        students.put(student.getStudentId(), student);
+        // Hold the new student until it is indexed, so a grader can't get in between
+        synchronized (student) {
+            Student previous = students.put(student.getStudentId(), student);
+            if (previous != null) {
+                synchronized (previous) {
+                    untrack(previous);
+                }
+            }
+            track(student);
+        }
         System.out.println("✅ Student added successfully!");
     }
 
     // Add grade to a student
     public void addGradeToStudent(int studentId, String subject, double grade) throws InvalidGradeException {
         // Validate grade
-        if (grade < 0 || grade > 100) {
+        if (!isValidGrade(grade)) {
             throw new InvalidGradeException("Grade must be between 0 and 100. Received: " + grade);
         }
 
         Student student = students.get(studentId);
-        if (student == null) {
+        if (student == null || !applyGrade(student, subject, grade)) {
             throw new InvalidGradeException("Student with ID " + studentId + " not found!");
         }
-
-        student.addGrade(subject, grade);
         System.out.println("✅ Grade added successfully for " + subject);
     }
 
+    // Same range rule for the menu and bulk imports (NaN is rejected too)
+    public static boolean isValidGrade(double grade) {
+        return grade >= 0 && grade <= 100;
+    }
+
+    // Bulk path (imports, loading saved data): no console output.
+    // Returns the student with this ID, registering it first if it is new.
+    // If two threads register the same new ID at once, both get the same Student.
+    public Student importStudent(int studentId, String name) {
+        Student student = students.get(studentId);
+        if (student != null) {
+            return student;
+        }
+        Student created = new Student(name, studentId);
+        synchronized (created) {
+            student = students.putIfAbsent(studentId, created);
+            if (student != null) {
+                return student; // Another thread registered it first
+            }
+            track(created);
+        }
+        return created;
+    }
+
+    // Bulk path: grades[from..to) for one student, already checked with isValidGrade().
+    // NaN entries are skipped. The student is re-ranked once, not once per grade.
+    // Returns false (nothing applied) if the student was removed meanwhile.
+    public boolean importGrades(Student student, String[] subjects, double[] grades, int from, int to) {
+        synchronized (student) {
+            if (!isRegistered(student)) {
+                return false;
+            }
+            double[] previous = new double[to - from]; // NaN = subject was new
+            for (int i = from; i < to; i++) {
+                if (!Double.isNaN(grades[i])) {
+                    previous[i - from] = previousGrade(student, subjects[i]);
+                    student.addGrade(subjects[i], grades[i]);
+                }
+            }
+            lockIndexes();
+            try {
+                for (int i = from; i < to; i++) {
+                    if (!Double.isNaN(grades[i])) {
+                        indexGrade(student, subjects[i], previous[i - from], grades[i]);
+                    }
+                }
+                refile(student);
+            } finally {
+                unlockIndexes();
+            }
+            return true;
+        }
+    }
+
+    // Update the student and keep the rank index and live statistics in step.
+    // Returns false if the student was removed before we got its monitor.
+    private boolean applyGrade(Student student, String subject, double grade) {
+        synchronized (student) {
+            if (!isRegistered(student)) {
+                return false;
+            }
+            // Student-local part: only this student's monitor is held
+            double previous = previousGrade(student, subject);
+            student.addGrade(subject, grade);
+            // Shared part: the indexes
+            lockIndexes();
+            try {
+                indexGrade(student, subject, previous, grade);
+                refile(student); // Average changed → move to its new rank
+            } finally {
+                unlockIndexes();
+            }
+            return true;
+        }
+    }
+
+    private static double previousGrade(Student student, String subject) {
+        Double grade = student.getSubjectGrades().get(subject);
+        return grade == null ? Double.NaN : grade;
+    }
+
+    // Still the student filed under its ID (not removed or replaced)
+    private boolean isRegistered(Student student) {
+        return students.get(student.getStudentId()) == student;
+    }
+
+    // Locking order is always: student monitor → indexLock (never the other way round)
+    private void lockIndexes() {
+        if (indexLock != null) {
+            indexLock.lock();
+        }
+    }
+
+    private void unlockIndexes() {
+        if (indexLock != null) {
+            indexLock.unlock();
+        }
+    }
+
+    // Run a query over the indexes under indexLock (queries never take a student monitor)
+    private <T> T readIndexes(Supplier<T> query) {
+        lockIndexes();
+        try {
+            return query.get();
+        } finally {
+            unlockIndexes();
+        }
+    }
+
+    // Per-subject statistics + column for one grade change (previous = NaN if new).
+    // Caller holds indexLock and handles the average with refile().
+    private void indexGrade(Student student, String subject, double previous, double grade) {
+        if (!Double.isNaN(previous)) {
+            subjectStats.get(subject).remove(previous);
+        }
+        subjectStats.computeIfAbsent(subject, name -> new GradeStats()).add(grade);
+        subjectColumns.put(subject, student.getStudentId(), grade);
+    }
+
+    // Move the student to its new average in the rank index and averageStats.
+    // Caller holds indexLock.
+    private void refile(Student student) {
+        averageStats.remove(rankIndex.averageOf(student.getStudentId())); // Average it was filed under
+        rankIndex.put(student);
+        averageStats.add(student.calculateAverage());
+    }
+
+    // Add a registered student to the rank index, live statistics and subject columns.
+    // Caller holds the student's monitor.
+    private void track(Student student) {
+        lockIndexes();
+        try {
+            rankIndex.put(student);
+            averageStats.add(student.calculateAverage());
+            for (Map.Entry<String, Double> entry : student.getSubjectGrades().entrySet()) {
+                subjectStats.computeIfAbsent(entry.getKey(), name -> new GradeStats()).add(entry.getValue());
+                subjectColumns.put(entry.getKey(), student.getStudentId(), entry.getValue());
+            }
+        } finally {
+            unlockIndexes();
+        }
+    }
+
+    // Take a student back out (uses the average they were filed under).
+    // Caller holds the student's monitor (removeStudent() also holds indexLock).
+    private void untrack(Student student) {
+        lockIndexes();
+        try {
+            averageStats.remove(rankIndex.averageOf(student.getStudentId()));
+            rankIndex.remove(student.getStudentId());
+            for (Map.Entry<String, Double> entry : student.getSubjectGrades().entrySet()) {
+                GradeStats stats = subjectStats.get(entry.getKey());
+                stats.remove(entry.getValue());
+                if (stats.getCount() == 0) {
+                    subjectStats.remove(entry.getKey());
+                }
+                subjectColumns.remove(entry.getKey(), student.getStudentId());
+            }
+        } finally {
+            unlockIndexes();
+        }
+    }
+
     // Get student by ID
     public Student getStudent(int studentId) {
         return students.get(studentId);
     }
 
+    // All students sorted by ID (read-only live view; safe to iterate while
+    // others write when thread-safe)
+    public Collection<Student> getAllStudents() {
+        return Collections.unmodifiableCollection(students.values());
+    }
+
     // Remove student
     public boolean removeStudent(int studentId) {
-        Student removed = students.remove(studentId);
+        Student removed;
+        while ((removed = students.get(studentId)) != null) {
+            // Waits for a grade change in progress on this student, which then sees it is gone
+            synchronized (removed) {
+                // Map and indexes change in ONE indexLock section: a query never
+                // finds a column row whose student is no longer in the map
+                lockIndexes();
+                try {
+                    if (students.remove(studentId, removed)) {
+                        untrack(removed);
+                        break;
+                    }
+                } finally {
+                    unlockIndexes();
+                }
+            }
+            // Replaced meanwhile: remove the new one
+        }
         if (removed != null) {
             System.out.println("✅ Student removed: " + removed.getName());
             return true;
@@ -89,27 +332,179 @@ public class GradeCalculation {
         System.out.println("🏆 TOP " + count + " PERFORMERS");
         System.out.println("=".repeat(80));
 
-        // Sort by average grade (descending)
-        students.values().stream()
-                .sorted((s1, s2) -> Double.compare(s2.calculateAverage(), s1.calculateAverage()))
-                .limit(count)
-                .forEach(student -> {
-                    System.out.println(student);
-                    System.out.println("-".repeat(80));
-                });
+        for (Student student : getTopPerformers(count)) {
+            System.out.println(student);
+            System.out.println("-".repeat(80));
+        }
     }
 
-    // Calculate class average
-    public double calculateClassAverage() {
-        if (students.isEmpty()) {
+    // Top performers by average grade (descending), without printing: O(count + log n)
+    public List<Student> getTopPerformers(int count) {
+        return readIndexes(() -> rankIndex.range(1, count));
+    }
+
+    // Rank by average (1 = highest, ties by lower ID), or -1 if not found: O(log n)
+    public int getRank(int studentId) {
+        return readIndexes(() -> rankIndex.rankOf(studentId));
+    }
+
+    // Percent of the class ranked below this student (0..100), or -1 if not found
+    public double getPercentile(int studentId) {
+        return readIndexes(() -> percentileOf(studentId));
+    }
+
+    private double percentileOf(int studentId) {
+        int rank = rankIndex.rankOf(studentId);
+        if (rank < 0) {
+            return -1;
+        }
+        int total = rankIndex.size();
+        return total == 1 ? 100.0 : 100.0 * (total - rank) / (total - 1);
+    }
+
+    // Students whose percentile is between low and high (inclusive), best first
+    public List<Student> getStudentsBetweenPercentiles(double low, double high) {
+        return readIndexes(() -> studentsBetweenPercentiles(low, high));
+    }
+
+    private List<Student> studentsBetweenPercentiles(double low, double high) {
+        int total = rankIndex.size();
+        if (total == 0 || low > high) {
+            return Collections.emptyList();
+        }
+        if (total == 1) {
+            return low <= 100 && high >= 100 ? rankIndex.range(1, 1) : Collections.emptyList();
+        }
+        // percentile = 100 * (total - rank) / (total - 1)  →  solve for rank
+        int bestRank = (int) Math.ceil(total - high / 100.0 * (total - 1) - 1e-9);
+        int worstRank = (int) Math.floor(total - low / 100.0 * (total - 1) + 1e-9);
+        return rankIndex.range(bestRank, worstRank);
+    }
+
+    // ==================== SUBJECT QUERIES (column scans) ====================
+
+    // Subjects anyone has a grade in, sorted by name
+    public Set<String> getSubjects() {
+        return readIndexes(() -> Collections.unmodifiableSet(new TreeSet<>(subjectColumns.subjects())));
+    }
+
+    // How many students have a grade in this subject
+    public int getSubjectGradeCount(String subject) {
+        return readIndexes(() -> {
+            SubjectColumns.Column column = subjectColumns.get(subject);
+            return column == null ? 0 : column.size();
+        });
+    }
+
+    // Average grade in one subject (0 if nobody has one): one scan of a double[]
+    public double getSubjectAverage(String subject) {
+        return readIndexes(() -> subjectAverage(subject));
+    }
+
+    private double subjectAverage(String subject) {
+        SubjectColumns.Column column = subjectColumns.get(subject);
+        if (column == null) {
             return 0.0;
         }
+        double[] grades = column.grades();
+        double sum = 0;
+        for (int i = 0; i < column.size(); i++) {
+            sum += grades[i];
+        }
+        return sum / column.size();
+    }
+
+    // Best `count` students in one subject, best first (ties by lower ID)
+    public List<Student> getTopInSubject(String subject, int count) {
+        return readIndexes(() -> topInSubject(subject, count));
+    }
+
+    private List<Student> topInSubject(String subject, int count) {
+        SubjectColumns.Column column = subjectColumns.get(subject);
+        if (column == null || count <= 0) {
+            return Collections.emptyList();
+        }
+        List<Student> top = new ArrayList<>();
+        for (int slot : column.topSlots(count)) {
+            top.add(students.get(column.studentIdAt(slot)));
+        }
+        return top;
+    }
+
+    // Grade counts in `buckets` equal ranges over 0..100 (100 goes in the last bucket)
+    public int[] getSubjectHistogram(String subject, int buckets) {
+        return readIndexes(() -> subjectHistogram(subject, buckets));
+    }
+
+    private int[] subjectHistogram(String subject, int buckets) {
+        int[] histogram = new int[buckets];
+        SubjectColumns.Column column = subjectColumns.get(subject);
+        if (column == null) {
+            return histogram;
+        }
+        double[] grades = column.grades();
+        for (int i = 0; i < column.size(); i++) {
+            histogram[Math.min(buckets - 1, (int) (grades[i] * buckets / 100))]++;
+        }
+        return histogram;
+    }
+
+    // Display one subject: average, top 10 and a histogram
+    public void displaySubjectReport(String subject) {
+        int count = getSubjectGradeCount(subject);
+        if (count == 0) {
+            System.out.println("⚠️ No grades recorded for " + subject + "!");
+            return;
+        }
+
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📚 SUBJECT REPORT: " + subject);
+        System.out.println("=".repeat(80));
+        System.out.println("Students Graded: " + count);
+        System.out.println("Subject Average: " + String.format("%.2f", getSubjectAverage(subject)));
+
+        System.out.println("-".repeat(80));
+        System.out.println("🏆 TOP 10");
+        int rank = 1;
+        for (Student student : getTopInSubject(subject, 10)) {
+            System.out.println(String.format("  %2d. %-30s %6.2f", rank++, student.getName(),
+                    student.getSubjectGrades().get(subject)));
+        }
+
+        System.out.println("-".repeat(80));
+        System.out.println("📊 DISTRIBUTION");
+        int[] histogram = getSubjectHistogram(subject, 10);
+        int widest = Arrays.stream(histogram).max().orElse(1);
+        for (int i = histogram.length - 1; i >= 0; i--) {
+            int bar = widest == 0 ? 0 : (int) Math.round(40.0 * histogram[i] / widest);
+            System.out.println(String.format("  %3d-%-3d | %-40s %d", i * 10, i == 9 ? 100 : i * 10 + 9,
+                    "█".repeat(bar), histogram[i]));
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    // Calculate class average: O(1) from the live statistics
+    public double calculateClassAverage() {
+        return readIndexes(averageStats::getMean);
+    }
+
+    // Current statistics from the live accumulators (copies, safe to keep)
+    public ClassStatistics getStatistics() {
+        return readIndexes(this::statisticsSnapshot);
+    }
 
-        double sum = students.values().stream()
-                .mapToDouble(Student::calculateAverage)
-                .sum();
+    private ClassStatistics statisticsSnapshot() {
+        Map<String, GradeStats> bySubject = new TreeMap<>();
+        for (Map.Entry<String, GradeStats> entry : subjectStats.entrySet()) {
+            bySubject.put(entry.getKey(), entry.getValue().copy());
+        }
+        return new ClassStatistics(averageStats.copy(), bySubject,
+                rankIndex.atRank(1), rankIndex.atRank(rankIndex.size()));
+    }
 
-        return sum / students.size();
+    // Same statistics recomputed in one parallel pass over all students
+    public ClassStatistics computeStatistics() {
+        return ClassStatistics.compute(students.values());
     }
 
     // Display statistics
@@ -119,20 +514,22 @@ public class GradeCalculation {
             return;
         }
 
+        ClassStatistics statistics = getStatistics();
+        GradeStats overall = statistics.getOverall();
+
         System.out.println("\n" + "=".repeat(80));
         System.out.println("📈 CLASS STATISTICS");
         System.out.println("=".repeat(80));
-        System.out.println("Total Students: " + students.size());
-        System.out.println("Class Average: " + String.format("%.2f", calculateClassAverage()));
-
-        // Find highest and lowest performers
-        Student highest = students.values().stream()
-                .max((s1, s2) -> Double.compare(s1.calculateAverage(), s2.calculateAverage()))
-                .orElse(null);
+        System.out.println("Total Students: " + getTotalStudents());
+        System.out.println("Class Average: " + String.format("%.2f", overall.getMean()));
+        System.out.println("Std Deviation: " + String.format("%.2f", overall.getStandardDeviation()));
+        System.out.println("Median: " + String.format("%.2f", overall.getMedian()) +
+                         "   (25th: " + String.format("%.2f", overall.getPercentile(25)) +
+                         ", 75th: " + String.format("%.2f", overall.getPercentile(75)) +
+                         ", 90th: " + String.format("%.2f", overall.getPercentile(90)) + ")");
 
-        Student lowest = students.values().stream()
-                .min((s1, s2) -> Double.compare(s1.calculateAverage(), s2.calculateAverage()))
-                .orElse(null);
+        Student highest = statistics.getHighest();
+        Student lowest = statistics.getLowest();
 
         if (highest != null) {
             System.out.println("Highest Scorer: " + highest.getName() +
@@ -144,11 +541,24 @@ public class GradeCalculation {
                              " (" + String.format("%.2f", lowest.calculateAverage()) + ")");
         }
 
+        if (!statistics.getBySubject().isEmpty()) {
+            System.out.println("-".repeat(80));
+            System.out.println(String.format("%-20s %6s %8s %8s %8s %8s %8s",
+                    "SUBJECT", "COUNT", "MEAN", "SD", "MIN", "MEDIAN", "MAX"));
+            for (Map.Entry<String, GradeStats> entry : statistics.getBySubject().entrySet()) {
+                GradeStats subject = entry.getValue();
+                System.out.println(String.format("%-20s %6d %8.2f %8.2f %8.2f %8.2f %8.2f",
+                        entry.getKey(), subject.getCount(), subject.getMean(), subject.getStandardDeviation(),
+                        subject.getMin(), subject.getMedian(), subject.getMax()));
+            }
+        }
+
         System.out.println("=".repeat(80));
     }
 
-    // Get total student count
+    // Get total student count: O(1) from the rank index
+    // (ConcurrentSkipListMap.size() walks the whole map)
     public int getTotalStudents() {
-        return students.size();
+        return readIndexes(rankIndex::size);
     }
 }
@@ -0,0 +1,224 @@
+package StudentGradeCalculator.services;
+
+import StudentGradeCalculator.model.Student;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Order-statistic index of students by average (best first).
+ *
+ * A treap (binary search tree + random heap priorities, so it stays
+ * balanced on average) where every node also stores the size of its
+ * subtree. Subtree sizes let us answer "what rank is X" and "who is at
+ * rank k" by walking one root-to-leaf path: O(log n).
+ *
+ * Key = (average descending, studentId ascending), so ties have a stable
+ * order and every key is unique.
+ *
+ * Ranks are 1-based: rank 1 = highest average.
+ */
+final class RankIndex {
+
+    private static final class Node {
+        final double average;
+        final int studentId;
+        final Student student;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(double average, Student student, int priority) {
+            this.average = average;
+            this.studentId = student.getStudentId();
+            this.student = student;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+
+    // studentId -> average the student is filed under (needed to find the node again)
+    private final Map<Integer, Double> indexedAverages = new HashMap<>();
+    private final Random random = new Random();
+
+    int size() {
+        return size(root);
+    }
+
+    // Insert, or move the student to the position of their current average
+    void put(Student student) {
+        double average = student.calculateAverage();
+        Double previous = indexedAverages.put(student.getStudentId(), average);
+        if (previous != null) {
+            root = delete(root, previous, student.getStudentId());
+        }
+        root = insert(root, new Node(average, student, random.nextInt()));
+    }
+
+    boolean remove(int studentId) {
+        Double previous = indexedAverages.remove(studentId);
+        if (previous == null) {
+            return false;
+        }
+        root = delete(root, previous, studentId);
+        return true;
+    }
+
+    // Average the student is filed under, or null if not indexed
+    Double averageOf(int studentId) {
+        return indexedAverages.get(studentId);
+    }
+
+    // Student at a 1-based rank, or null if out of range: O(log n)
+    Student atRank(int rank) {
+        List<Student> one = range(rank, rank);
+        return one.isEmpty() ? null : one.get(0);
+    }
+
+    // 1-based rank, or -1 if the student is not indexed
+    int rankOf(int studentId) {
+        Double average = indexedAverages.get(studentId);
+        if (average == null) {
+            return -1;
+        }
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(average, studentId, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+        throw new IllegalStateException("Student " + studentId + " missing from rank index");
+    }
+
+    // Students at ranks fromRank..toRank (inclusive, clamped), best first: O(log n + k)
+    List<Student> range(int fromRank, int toRank) {
+        int from = Math.max(fromRank, 1);
+        int to = Math.min(toRank, size());
+        List<Student> result = new ArrayList<>(Math.max(0, to - from + 1));
+        if (from > to) {
+            return result;
+        }
+
+        // Descend to rank `from`, keeping the nodes still to visit on a stack
+        Deque<Node> stack = new ArrayDeque<>();
+        int skip = from - 1;
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (skip < leftSize) {
+                stack.push(node);
+                node = node.left;
+            } else if (skip == leftSize) {
+                stack.push(node);
+                break;
+            } else {
+                skip -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        // In-order walk from there
+        while (result.size() < to - from + 1) {
+            Node next = stack.pop();
+            result.add(next.student);
+            for (Node n = next.right; n != null; n = n.left) {
+                stack.push(n);
+            }
+        }
+        return result;
+    }
+
+    // ==================== TREAP PLUMBING ====================
+
+    // < 0 if (average, studentId) ranks before node
+    private static int compare(double average, int studentId, Node node) {
+        int cmp = Double.compare(node.average, average); // Higher average first
+        return cmp != 0 ? cmp : Integer.compare(studentId, node.studentId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (compare(node.average, node.studentId, tree) < 0) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) {
+                return rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) {
+                return rotateLeft(tree);
+            }
+        }
+        return update(tree);
+    }
+
+    private static Node delete(Node tree, double average, int studentId) {
+        if (tree == null) {
+            return null;
+        }
+        int cmp = compare(average, studentId, tree);
+        if (cmp < 0) {
+            tree.left = delete(tree.left, average, studentId);
+        } else if (cmp > 0) {
+            tree.right = delete(tree.right, average, studentId);
+        } else {
+            return merge(tree.left, tree.right);
+        }
+        return update(tree);
+    }
+
+    // Join two treaps where every key in a ranks before every key in b
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return update(a);
+        }
+        b.left = merge(a, b.left);
+        return update(b);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+}
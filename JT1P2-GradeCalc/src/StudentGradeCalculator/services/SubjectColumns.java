@@ -0,0 +1,173 @@
+package StudentGradeCalculator.services;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-subject columnar copy of the grades.
+ *
+ * For each subject, two parallel primitive arrays:
+ *
+ *   Mathematics:  studentIds [101, 102, 103, ...]
+ *                 grades     [92.0, 78.0, 95.0, ...]
+ *
+ * "Average in Math" or "top 10 in English" then scans one contiguous
+ * double[] instead of visiting every Student and looking the subject up
+ * in their HashMap.
+ *
+ * Rows are unordered: a removed row is filled with the last row
+ * (swap-remove), so updates are O(1). A small map studentId -> slot
+ * finds a student's row for updates.
+ */
+final class SubjectColumns {
+
+    static final class Column {
+        private int[] studentIds = new int[16];
+        private double[] grades = new double[16];
+        private int size;
+        private final Map<Integer, Integer> slots = new HashMap<>(); // studentId -> index
+
+        int size() {
+            return size;
+        }
+
+        int studentIdAt(int index) {
+            return studentIds[index];
+        }
+
+        double gradeAt(int index) {
+            return grades[index];
+        }
+
+        // The live array: only indexes 0..size-1 are valid, do not modify
+        double[] grades() {
+            return grades;
+        }
+
+        // Slots of the n best grades, best first (ties: lower ID first).
+        // One scan with a size-n min-heap of slots: O(size × log n), no boxing.
+        int[] topSlots(int n) {
+            int k = Math.min(n, size);
+            int[] heap = new int[k]; // heap[0] = worst of the best k so far
+            int heapSize = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (heapSize < k) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++);
+                } else if (k > 0 && better(slot, heap[0])) {
+                    heap[0] = slot;
+                    siftDown(heap, 0, heapSize);
+                }
+            }
+            // Pop worst-first into the back of the result
+            int[] result = new int[k];
+            for (int i = k - 1; i >= 0; i--) {
+                result[i] = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, 0, heapSize);
+            }
+            return result;
+        }
+
+        private boolean better(int a, int b) {
+            int cmp = Double.compare(grades[a], grades[b]);
+            return cmp != 0 ? cmp > 0 : studentIds[a] < studentIds[b];
+        }
+
+        private void siftUp(int[] heap, int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!better(heap[parent], heap[index])) {
+                    return;
+                }
+                swap(heap, parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int index, int heapSize) {
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && better(heap[worst], heap[left])) {
+                    worst = left;
+                }
+                if (right < heapSize && better(heap[worst], heap[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(heap, worst, index);
+                index = worst;
+            }
+        }
+
+        private static void swap(int[] heap, int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+
+        void put(int studentId, double grade) {
+            Integer slot = slots.get(studentId);
+            if (slot != null) {
+                grades[slot] = grade;
+                return;
+            }
+            if (size == studentIds.length) {
+                studentIds = Arrays.copyOf(studentIds, size * 2);
+                grades = Arrays.copyOf(grades, size * 2);
+            }
+            studentIds[size] = studentId;
+            grades[size] = grade;
+            slots.put(studentId, size);
+            size++;
+        }
+
+        void remove(int studentId) {
+            Integer slot = slots.remove(studentId);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                // Move the last row into the hole
+                studentIds[slot] = studentIds[last];
+                grades[slot] = grades[last];
+                slots.put(studentIds[slot], slot);
+            }
+        }
+    }
+
+    private final Map<String, Column> columns = new TreeMap<>();
+
+    void put(String subject, int studentId, double grade) {
+        columns.computeIfAbsent(subject, name -> new Column()).put(studentId, grade);
+    }
+
+    void remove(String subject, int studentId) {
+        Column column = columns.get(subject);
+        if (column != null) {
+            column.remove(studentId);
+            if (column.size() == 0) {
+                columns.remove(subject);
+            }
+        }
+    }
+
+    // null if nobody has a grade in this subject
+    Column get(String subject) {
+        return columns.get(subject);
+    }
+
+    // Sorted by name
+    Set<String> subjects() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+}
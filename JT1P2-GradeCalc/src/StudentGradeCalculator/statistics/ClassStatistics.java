@@ -0,0 +1,101 @@
+package StudentGradeCalculator.statistics;
+
+import StudentGradeCalculator.model.Student;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+
+/**
+ * Class-wide statistics: student averages overall, plus every subject's grades.
+ *
+ * compute() gets everything in ONE parallel pass over the students
+ * (instead of one stream for the average, one for max, one for min).
+ * Each worker thread fills its own accumulator; the accumulators are merged
+ * at the end, so there is no locking.
+ */
+public final class ClassStatistics {
+    private final GradeStats overall;                 // Over student averages
+    private final Map<String, GradeStats> bySubject;  // Subject -> grades in that subject
+    private final Student highest;
+    private final Student lowest;
+
+    public ClassStatistics(GradeStats overall, Map<String, GradeStats> bySubject,
+                           Student highest, Student lowest) {
+        this.overall = overall;
+        this.bySubject = Collections.unmodifiableMap(new TreeMap<>(bySubject));
+        this.highest = highest;
+        this.lowest = lowest;
+    }
+
+    // One parallel pass over all students
+    public static ClassStatistics compute(Collection<Student> students) {
+        Accumulator result = students.parallelStream().collect(Collector.of(
+                Accumulator::new, Accumulator::add, Accumulator::merge));
+        return new ClassStatistics(result.overall, result.bySubject, result.highest, result.lowest);
+    }
+
+    public GradeStats getOverall() {
+        return overall;
+    }
+
+    // Sorted by subject name
+    public Map<String, GradeStats> getBySubject() {
+        return bySubject;
+    }
+
+    public GradeStats getSubject(String subject) {
+        return bySubject.get(subject);
+    }
+
+    // null when there are no students
+    public Student getHighest() {
+        return highest;
+    }
+
+    // null when there are no students
+    public Student getLowest() {
+        return lowest;
+    }
+
+    // Per-thread state of compute()
+    private static final class Accumulator {
+        final GradeStats overall = new GradeStats();
+        final Map<String, GradeStats> bySubject = new HashMap<>(); // Sorted once, in the constructor
+        Student highest;
+        Student lowest;
+
+        void add(Student student) {
+            double average = student.calculateAverage();
+            overall.add(average);
+            if (highest == null || average > highest.calculateAverage()) {
+                highest = student;
+            }
+            if (lowest == null || average < lowest.calculateAverage()) {
+                lowest = student;
+            }
+            for (Map.Entry<String, Double> entry : student.getSubjectGrades().entrySet()) {
+                bySubject.computeIfAbsent(entry.getKey(), subject -> new GradeStats()).add(entry.getValue());
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            overall.merge(other.overall);
+            for (Map.Entry<String, GradeStats> entry : other.bySubject.entrySet()) {
+                bySubject.merge(entry.getKey(), entry.getValue(), GradeStats::merge);
+            }
+            if (highest == null || (other.highest != null
+                    && other.highest.calculateAverage() > highest.calculateAverage())) {
+                highest = other.highest;
+            }
+            if (lowest == null || (other.lowest != null
+                    && other.lowest.calculateAverage() < lowest.calculateAverage())) {
+                lowest = other.lowest;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package StudentGradeCalculator.statistics;
+
+/**
+ * Mergeable running statistics for grades (0-100).
+ *
+ * Tracks count, mean, variance, min/max and percentiles in one pass:
+ * - Mean/variance use Welford's update (stable, no big sums of squares);
+ *   two accumulators combine with Chan's formula, so a parallel pass can
+ *   give each thread its own GradeStats and merge them at the end.
+ * - Percentiles come from a histogram with 0.01-wide bins over 0..100.
+ *   Grades are bounded, so this is exact for grades with up to two
+ *   decimals and within 0.01 otherwise - and unlike t-digest or KLL it
+ *   also supports remove(), which we need when a grade is overwritten.
+ *
+ * Not thread-safe: one instance per thread, then merge().
+ */
+public final class GradeStats {
+    private static final int BINS_PER_POINT = 100;
+    private static final int BIN_COUNT = 100 * BINS_PER_POINT + 1; // 0.00 .. 100.00
+
+    private long count;
+    private double mean;
+    private double m2; // Sum of squared differences from the mean
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private final int[] bins = new int[BIN_COUNT];
+
+    public GradeStats add(double grade) {
+        count++;
+        double delta = grade - mean;
+        mean += delta / count;
+        m2 += delta * (grade - mean);
+        bins[binOf(grade)]++;
+        if (count == 1 || grade < min) {
+            min = grade;
+        }
+        if (count == 1 || grade > max) {
+            max = grade;
+        }
+        return this;
+    }
+
+    // Take back a grade added earlier (overwritten grade, removed student)
+    public GradeStats remove(double grade) {
+        int bin = binOf(grade);
+        if (count == 0 || bins[bin] == 0) {
+            throw new IllegalArgumentException("Grade " + grade + " was never added");
+        }
+        bins[bin]--;
+        if (count == 1) {
+            count = 0;
+            mean = 0;
+            m2 = 0;
+            min = Double.NaN;
+            max = Double.NaN;
+            return this;
+        }
+        // Welford's update run backwards
+        double oldMean = (count * mean - grade) / (count - 1);
+        m2 = Math.max(0.0, m2 - (grade - mean) * (grade - oldMean));
+        mean = oldMean;
+        count--;
+        // Removed the min or max: the next one is the first non-empty bin (within 0.01)
+        if (grade <= min) {
+            min = valueOf(firstBin());
+        }
+        if (grade >= max) {
+            max = valueOf(lastBin());
+        }
+        return this;
+    }
+
+    public GradeStats merge(GradeStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        count = total;
+        for (int i = 0; i < BIN_COUNT; i++) {
+            bins[i] += other.bins[i];
+        }
+        return this;
+    }
+
+    public GradeStats copy() {
+        return new GradeStats().merge(this);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Population variance
+    public double getVariance() {
+        return count == 0 ? 0.0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    // NaN when empty
+    public double getMin() {
+        return min;
+    }
+
+    // NaN when empty
+    public double getMax() {
+        return max;
+    }
+
+    public double getMedian() {
+        return getPercentile(50);
+    }
+
+    // Nearest-rank percentile (0..100), NaN when empty
+    public double getPercentile(double percentile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BIN_COUNT; i++) {
+            seen += bins[i];
+            if (seen >= rank) {
+                return valueOf(i);
+            }
+        }
+        return max;
+    }
+
+    // How many grades fall in [from, to)  (to = 100 includes 100)
+    public long countBetween(double from, double to) {
+        int last = to >= 100 ? BIN_COUNT : binOf(to);
+        long total = 0;
+        for (int i = binOf(from); i < last; i++) {
+            total += bins[i];
+        }
+        return total;
+    }
+
+    private static int binOf(double grade) {
+        int bin = (int) Math.round(grade * BINS_PER_POINT);
+        return Math.max(0, Math.min(BIN_COUNT - 1, bin));
+    }
+
+    private static double valueOf(int bin) {
+        return (double) bin / BINS_PER_POINT;
+    }
+
+    private int firstBin() {
+        for (int i = 0; i < BIN_COUNT; i++) {
+            if (bins[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private int lastBin() {
+        for (int i = BIN_COUNT - 1; i >= 0; i--) {
+            if (bins[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "no grades";
+        }
+        return String.format("n=%d, mean=%.2f, sd=%.2f, min=%.2f, p25=%.2f, median=%.2f, p75=%.2f, p90=%.2f, max=%.2f",
+                count, mean, getStandardDeviation(), min, getPercentile(25), getMedian(),
+                getPercentile(75), getPercentile(90), max);
+    }
+}